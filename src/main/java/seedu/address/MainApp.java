@@ -68,7 +68,7 @@ public class MainApp extends Application {
 
         model = initModelManager(storage, userPrefs);
 
-        logic = new LogicManager(model);
+        logic = new LogicManager(model, config.getUndoMemoryBudget());
 
         ui = new UiManager(logic, config, userPrefs);
 
@@ -178,6 +178,7 @@ public class MainApp extends Application {
     }
 
     private void initEventsCenter() {
+        EventsCenter.getInstance().enableAsynchronousDelivery();
         EventsCenter.getInstance().registerHandler(this);
     }
 
@@ -191,6 +192,9 @@ public class MainApp extends Application {
     public void stop() {
         logger.info("============================ [ Stopping Address Book ] =============================");
         ui.stop();
+        logic.close();
+        // lets the address book be saved if it has just been changed
+        EventsCenter.getInstance().flush();
         try {
             storage.saveUserPrefs(userPrefs);
         } catch (IOException e) {
@@ -9,11 +9,13 @@ import java.util.logging.Level;
 public class Config {
 
     public static final String DEFAULT_CONFIG_FILE = "config.json";
+    public static final long DEFAULT_UNDO_MEMORY_BUDGET = 32L * 1024 * 1024;
 
     // Config values customizable through config file
     private String appTitle = "Address App";
     private Level logLevel = Level.INFO;
     private String userPrefsFilePath = "preferences.json";
+    private long undoMemoryBudget = DEFAULT_UNDO_MEMORY_BUDGET;
 
     public String getAppTitle() {
         return appTitle;
@@ -39,6 +41,14 @@ public class Config {
         this.userPrefsFilePath = userPrefsFilePath;
     }
 
+    public long getUndoMemoryBudget() {
+        return undoMemoryBudget;
+    }
+
+    public void setUndoMemoryBudget(long undoMemoryBudget) {
+        this.undoMemoryBudget = undoMemoryBudget;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -52,12 +62,13 @@ public class Config {
 
         return Objects.equals(appTitle, o.appTitle)
                 && Objects.equals(logLevel, o.logLevel)
-                && Objects.equals(userPrefsFilePath, o.userPrefsFilePath);
+                && Objects.equals(userPrefsFilePath, o.userPrefsFilePath)
+                && undoMemoryBudget == o.undoMemoryBudget;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(appTitle, logLevel, userPrefsFilePath);
+        return Objects.hash(appTitle, logLevel, userPrefsFilePath, undoMemoryBudget);
     }
 
     @Override
@@ -66,6 +77,7 @@ public class Config {
         sb.append("App title : " + appTitle);
         sb.append("\nCurrent log level : " + logLevel);
         sb.append("\nPreference file Location : " + userPrefsFilePath);
+        sb.append("\nUndo memory budget : " + undoMemoryBudget);
         return sb.toString();
     }
 
@@ -0,0 +1,25 @@
+package seedu.address.commons.core;
+
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.ElementType.TYPE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+/**
+ * Declares the lane on which an event is delivered to its handlers when events are delivered asynchronously.
+ * On a handler method, it applies to that handler only. On an event class, it applies to every handler
+ * of that event and its subclasses that does not declare a lane of its own.
+ * Handlers of events without a declared lane are run on {@link EventLane#COMPUTE}.
+ */
+@Documented
+@Inherited
+@Retention(RUNTIME)
+@Target({TYPE, METHOD})
+public @interface DeliveredOn {
+    /** The lane on which the handlers are run. */
+    EventLane value();
+}
@@ -0,0 +1,16 @@
+package seedu.address.commons.core;
+
+/**
+ * The threads on which the {@link EventsCenter} delivers events when it delivers them asynchronously.
+ * Events are delivered on each lane in the order they were posted.
+ *
+ * @see DeliveredOn
+ */
+public enum EventLane {
+    /** The JavaFX application thread, for handlers that change the UI. */
+    UI,
+    /** A background thread for handlers that read or write files. */
+    IO,
+    /** A background thread for all other handlers. */
+    COMPUTE
+}
@@ -1,21 +1,60 @@
 package seedu.address.commons.core;
 
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.logging.Logger;
 
-import com.google.common.eventbus.EventBus;
+import com.google.common.eventbus.Subscribe;
+import com.google.common.reflect.TypeToken;
 
+import javafx.application.Platform;
 import seedu.address.commons.events.BaseEvent;
+import seedu.address.commons.util.StringUtil;
 
 /**
  * Manages the event dispatching of the app.
+ * Events are delivered to the methods annotated with {@link Subscribe} of the registered handlers.
+ *
+ * By default, an event is delivered to all its handlers on the thread that posted it, before {@link #post} returns.
+ * Once asynchronous delivery is enabled, each handler is instead run on its {@link EventLane}, so that a slow
+ * handler does not hold up the thread that posted the event. See {@link DeliveredOn} for how lanes are chosen.
  */
 public class EventsCenter {
     private static final Logger logger = LogsCenter.getLogger(EventsCenter.class);
+    private static final long LANE_KEEP_ALIVE_SECONDS = 60;
+    private static final long FLUSH_TIMEOUT_SECONDS = 5;
     private static EventsCenter instance;
-    private final EventBus eventBus;
+
+    // the handlers of each event type, in the order they were registered
+    private final Map<Class<?>, List<Handler>> handlers = new ConcurrentHashMap<>();
+    // the deliveries still to be made by each thread that is delivering events synchronously
+    private final ThreadLocal<Queue<Runnable>> pendingDeliveries = ThreadLocal.withInitial(ArrayDeque::new);
+    private final ThreadLocal<Boolean> isDelivering = ThreadLocal.withInitial(() -> false);
+    // the background lanes, in the order they are flushed
+    private final List<ExecutorService> backgroundLanes = new ArrayList<>();
+    // null while events are delivered synchronously
+    private volatile Map<EventLane, Executor> lanes;
 
     private EventsCenter() {
-        eventBus = new EventBus();
     }
 
     public static EventsCenter getInstance() {
@@ -29,8 +68,94 @@ public class EventsCenter {
         instance = null;
     }
 
+    /**
+     * Registers the methods of {@code handler} annotated with {@link Subscribe} as handlers of their parameter type.
+     */
     public void registerHandler(Object handler) {
-        eventBus.register(handler);
+        for (Method method : getHandlerMethods(handler.getClass())) {
+            handlers.computeIfAbsent(method.getParameterTypes()[0], unused -> new CopyOnWriteArrayList<>())
+                    .add(new Handler(handler, method));
+        }
+    }
+
+    /**
+     * Returns the methods annotated with {@link Subscribe} of {@code type} and its superclasses,
+     * leaving out those that are overridden.
+     */
+    private static List<Method> getHandlerMethods(Class<?> type) {
+        List<Method> handlerMethods = new ArrayList<>();
+        Set<String> signatures = new HashSet<>();
+        for (Class<?> c = type; c != null; c = c.getSuperclass()) {
+            for (Method method : c.getDeclaredMethods()) {
+                if (!method.isAnnotationPresent(Subscribe.class) || method.isSynthetic()) {
+                    continue;
+                }
+                if (method.getParameterCount() != 1) {
+                    throw new IllegalArgumentException("Event handler " + method + " must have exactly 1 parameter");
+                }
+                if (signatures.add(method.getName() + Arrays.toString(method.getParameterTypes()))) {
+                    method.setAccessible(true);
+                    handlerMethods.add(method);
+                }
+            }
+        }
+        return handlerMethods;
+    }
+
+    /**
+     * Makes events be delivered on their lanes from now on, instead of on the thread that posted them.
+     * The {@link EventLane#UI} lane needs the JavaFX toolkit to be running.
+     */
+    public synchronized void enableAsynchronousDelivery() {
+        if (lanes != null) {
+            return;
+        }
+        Map<EventLane, Executor> newLanes = new EnumMap<>(EventLane.class);
+        newLanes.put(EventLane.UI, Platform::runLater);
+        // compute handlers may post events handled on the io lane, so the compute lane is flushed first
+        newLanes.put(EventLane.COMPUTE, startBackgroundLane("events-compute"));
+        newLanes.put(EventLane.IO, startBackgroundLane("events-io"));
+        lanes = newLanes;
+    }
+
+    /**
+     * Returns a lane that runs tasks one at a time, in the order they were given, on a daemon thread
+     * named {@code threadName} that is only kept while there are tasks to run.
+     */
+    private ExecutorService startBackgroundLane(String threadName) {
+        // with no core threads and an unbounded queue, there is never more than one thread
+        ExecutorService lane = new ThreadPoolExecutor(0, 1, LANE_KEEP_ALIVE_SECONDS, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(), task -> createDaemonThread(task, threadName));
+        backgroundLanes.add(lane);
+        return lane;
+    }
+
+    private static Thread createDaemonThread(Runnable task, String threadName) {
+        Thread thread = new Thread(task, threadName);
+        thread.setDaemon(true);
+        return thread;
+    }
+
+    /**
+     * Waits until the events posted so far have been delivered on the background lanes, giving up after a few
+     * seconds. The {@link EventLane#UI} lane is not waited for, so this can be called on the JavaFX application
+     * thread, but this must not be called by a handler on a background lane.
+     */
+    public void flush() {
+        List<ExecutorService> lanesToFlush;
+        synchronized (this) {
+            lanesToFlush = new ArrayList<>(backgroundLanes);
+        }
+        for (ExecutorService lane : lanesToFlush) {
+            try {
+                lane.submit(() -> { }).get(FLUSH_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            } catch (InterruptedException ie) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (ExecutionException | TimeoutException e) {
+                logger.warning("Events are still being delivered on a background lane " + StringUtil.getDetails(e));
+            }
+        }
     }
 
     /**
@@ -38,8 +163,93 @@ public class EventsCenter {
      */
     public <E extends BaseEvent> EventsCenter post(E event) {
         logger.info("------[Event Posted] " + event.getClass().getCanonicalName() + ": " + event.toString());
-        eventBus.post(event);
+        List<Handler> eventHandlers = getHandlers(event);
+        Map<EventLane, Executor> currentLanes = lanes;
+        if (currentLanes == null) {
+            deliverSynchronously(event, eventHandlers);
+            return this;
+        }
+
+        // keeps the deliveries of each event together on every lane
+        synchronized (this) {
+            for (Handler handler : eventHandlers) {
+                currentLanes.get(handler.getLane(event)).execute(() -> handler.deliver(event));
+            }
+        }
         return this;
     }
 
+    /**
+     * Returns the handlers of {@code event}, which are those of its class and all its supertypes.
+     */
+    private List<Handler> getHandlers(BaseEvent event) {
+        List<Handler> eventHandlers = new ArrayList<>();
+        for (Class<?> type : TypeToken.of(event.getClass()).getTypes().rawTypes()) {
+            eventHandlers.addAll(handlers.getOrDefault(type, Collections.emptyList()));
+        }
+        return eventHandlers;
+    }
+
+    /**
+     * Delivers {@code event} to {@code eventHandlers} on this thread. Events posted by the handlers are delivered
+     * after {@code event} has been delivered to all its handlers.
+     */
+    private void deliverSynchronously(BaseEvent event, List<Handler> eventHandlers) {
+        Queue<Runnable> deliveries = pendingDeliveries.get();
+        for (Handler handler : eventHandlers) {
+            deliveries.add(() -> handler.deliver(event));
+        }
+        if (isDelivering.get()) {
+            return;
+        }
+
+        isDelivering.set(true);
+        try {
+            Runnable delivery;
+            while ((delivery = deliveries.poll()) != null) {
+                delivery.run();
+            }
+        } finally {
+            isDelivering.remove();
+            pendingDeliveries.remove();
+        }
+    }
+
+    /**
+     * A method that handles events, and the object it is called on.
+     */
+    private static class Handler {
+        private final Object target;
+        private final Method method;
+
+        Handler(Object target, Method method) {
+            this.target = target;
+            this.method = method;
+        }
+
+        /**
+         * Returns the lane on which {@code event} is delivered to this handler.
+         */
+        EventLane getLane(BaseEvent event) {
+            DeliveredOn lane = method.getAnnotation(DeliveredOn.class);
+            if (lane == null) {
+                lane = event.getClass().getAnnotation(DeliveredOn.class);
+            }
+            return lane == null ? EventLane.COMPUTE : lane.value();
+        }
+
+        /**
+         * Calls this handler with {@code event}, logging anything it throws.
+         */
+        void deliver(BaseEvent event) {
+            try {
+                method.invoke(target, event);
+            } catch (InvocationTargetException ite) {
+                logger.severe("Exception thrown by event handler " + method + " for " + event + ": "
+                        + StringUtil.getDetails(ite.getCause()));
+            } catch (IllegalAccessException iae) {
+                throw new AssertionError("Event handlers are made accessible when registered", iae);
+            }
+        }
+    }
 }
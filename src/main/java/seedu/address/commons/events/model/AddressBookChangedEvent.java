@@ -3,7 +3,11 @@ package seedu.address.commons.events.model;
 import seedu.address.commons.events.BaseEvent;
 import seedu.address.model.ReadOnlyAddressBook;
 
-/** Indicates the AddressBook in the model has changed*/
+/**
+ * Indicates the AddressBook in the model has changed.
+ * The model raises it with an immutable snapshot of the changed AddressBook, which stays valid as the model
+ * changes further, so handlers may read it asynchronously.
+ */
 public class AddressBookChangedEvent extends BaseEvent {
 
     public final ReadOnlyAddressBook data;
@@ -1,10 +1,13 @@
 package seedu.address.commons.events.ui;
 
+import seedu.address.commons.core.DeliveredOn;
+import seedu.address.commons.core.EventLane;
 import seedu.address.commons.events.BaseEvent;
 
 /**
  * Indicates a request to change the font size of the application
  */
+@DeliveredOn(EventLane.UI)
 public class ChangeFontSizeEvent extends BaseEvent {
 
     public final String message;
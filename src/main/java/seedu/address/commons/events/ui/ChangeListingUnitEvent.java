@@ -1,10 +1,13 @@
 package seedu.address.commons.events.ui;
 
+import seedu.address.commons.core.DeliveredOn;
+import seedu.address.commons.core.EventLane;
 import seedu.address.commons.events.BaseEvent;
 
 /**
  * Indicates the listingUnit in the personListPanel is changed.
  */
+@DeliveredOn(EventLane.UI)
 public class ChangeListingUnitEvent extends BaseEvent {
 
     @Override
@@ -1,10 +1,13 @@
 package seedu.address.commons.events.ui;
 
+import seedu.address.commons.core.DeliveredOn;
+import seedu.address.commons.core.EventLane;
 import seedu.address.commons.events.BaseEvent;
 
 /**
  * Indicates a request to enable highlighting the command keywords in the application
  */
+@DeliveredOn(EventLane.UI)
 public class ColorKeywordEvent extends BaseEvent {
     public final boolean isEnabled;
 
@@ -1,10 +1,13 @@
 package seedu.address.commons.events.ui;
 
+import seedu.address.commons.core.DeliveredOn;
+import seedu.address.commons.core.EventLane;
 import seedu.address.commons.events.BaseEvent;
 
 /**
  * Indicates a request for App termination
  */
+@DeliveredOn(EventLane.UI)
 public class ExitAppRequestEvent extends BaseEvent {
 
     @Override
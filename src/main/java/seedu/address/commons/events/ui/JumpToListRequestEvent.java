@@ -1,11 +1,14 @@
 package seedu.address.commons.events.ui;
 
+import seedu.address.commons.core.DeliveredOn;
+import seedu.address.commons.core.EventLane;
 import seedu.address.commons.core.index.Index;
 import seedu.address.commons.events.BaseEvent;
 
 /**
  * Indicates a request to jump to the list of persons
  */
+@DeliveredOn(EventLane.UI)
 public class JumpToListRequestEvent extends BaseEvent {
 
     public final int targetIndex;
@@ -1,10 +1,13 @@
 package seedu.address.commons.events.ui;
 
+import seedu.address.commons.core.DeliveredOn;
+import seedu.address.commons.core.EventLane;
 import seedu.address.commons.events.BaseEvent;
 
 /**
  * Indicates that a new result is available.
  */
+@DeliveredOn(EventLane.UI)
 public class NewResultAvailableEvent extends BaseEvent {
 
     public final String message;
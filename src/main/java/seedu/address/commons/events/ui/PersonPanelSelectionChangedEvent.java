@@ -1,11 +1,14 @@
 package seedu.address.commons.events.ui;
 
+import seedu.address.commons.core.DeliveredOn;
+import seedu.address.commons.core.EventLane;
 import seedu.address.commons.events.BaseEvent;
 import seedu.address.ui.PersonCard;
 
 /**
  * Represents a selection change in the Person List Panel
  */
+@DeliveredOn(EventLane.UI)
 public class PersonPanelSelectionChangedEvent extends BaseEvent {
 
 
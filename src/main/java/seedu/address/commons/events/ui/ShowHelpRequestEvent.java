@@ -1,10 +1,13 @@
 package seedu.address.commons.events.ui;
 
+import seedu.address.commons.core.DeliveredOn;
+import seedu.address.commons.core.EventLane;
 import seedu.address.commons.events.BaseEvent;
 
 /**
  * An event requesting to view the help page.
  */
+@DeliveredOn(EventLane.UI)
 public class ShowHelpRequestEvent extends BaseEvent {
 
     @Override
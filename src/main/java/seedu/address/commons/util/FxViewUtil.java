@@ -1,5 +1,7 @@
 package seedu.address.commons.util;
 
+import javafx.application.Platform;
+import javafx.collections.ObservableList;
 import javafx.stage.Stage;
 
 /**
@@ -15,4 +17,14 @@ public class FxViewUtil {
         stage.getIcons().setAll(AppUtil.getImage(iconSource));
     }
 
+    /**
+     * Returns an unmodifiable copy of {@code source} that only changes on the JavaFX application thread, so that
+     * a list changed on other threads can be shown in a view. The changes to {@code source} are made to the copy
+     * in the same order, on the JavaFX application thread, even those made on that thread.
+     */
+    public static <E> ObservableList<E> copyOnFxThread(ObservableList<E> source) {
+        // always queued, so that a change made on the JavaFX application thread does not overtake earlier ones
+        return new ObservableListCopy<>(source, Platform::runLater);
+    }
+
 }
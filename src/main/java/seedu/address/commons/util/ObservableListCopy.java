@@ -0,0 +1,80 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.collections.ObservableListBase;
+
+/**
+ * An unmodifiable copy of an observable list, to which the changes of the source are made through an executor,
+ * in the order they were made to the source.
+ * The copy keeps its source reachable, so a source that only weakly listens to another list is not
+ * garbage collected while the copy is in use.
+ */
+public class ObservableListCopy<E> extends ObservableListBase<E> {
+
+    private final ObservableList<E> source;
+    private final Executor executor;
+    private final List<E> elements;
+
+    public ObservableListCopy(ObservableList<E> source, Executor executor) {
+        this.source = requireNonNull(source);
+        this.executor = requireNonNull(executor);
+        elements = new ArrayList<>(source);
+        source.addListener(this::sourceChanged);
+    }
+
+    /**
+     * Makes {@code change} to the source to this copy through the executor.
+     */
+    private void sourceChanged(ListChangeListener.Change<? extends E> change) {
+        List<Runnable> edits = new ArrayList<>();
+        while (change.next()) {
+            int from = change.getFrom();
+            // reordered and updated elements are replaced in the copy
+            int removedSize = change.wasPermutated() || change.wasUpdated()
+                    ? change.getTo() - from
+                    : change.getRemovedSize();
+            List<E> added = new ArrayList<>(change.getList().subList(from, change.getTo()));
+            edits.add(() -> replace(from, removedSize, added));
+        }
+        executor.execute(() -> {
+            beginChange();
+            edits.forEach(Runnable::run);
+            endChange();
+        });
+    }
+
+    /**
+     * Replaces the {@code removedSize} elements from {@code from} with {@code added}.
+     */
+    private void replace(int from, int removedSize, List<E> added) {
+        if (removedSize == 0 && added.isEmpty()) {
+            return;
+        }
+        List<E> replaced = elements.subList(from, from + removedSize);
+        List<E> removed = new ArrayList<>(replaced);
+        replaced.clear();
+        elements.addAll(from, added);
+        nextReplace(from, from + added.size(), removed);
+    }
+
+    public ObservableList<E> getSource() {
+        return source;
+    }
+
+    @Override
+    public E get(int index) {
+        return elements.get(index);
+    }
+
+    @Override
+    public int size() {
+        return elements.size();
+    }
+}
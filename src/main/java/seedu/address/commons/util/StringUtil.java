@@ -41,6 +41,58 @@ public class StringUtil {
         return false;
     }
 
+    /**
+     * Returns the words of {@code text}, split on whitespace and converted to lower case, in order.
+     *   <br>examples:<pre>
+     *       toLowerCaseWords(" ABc  def") == {"abc", "def"}
+     *       </pre>
+     * @throws NullPointerException if {@code text} is null.
+     */
+    public static String[] toLowerCaseWords(String text) {
+        requireNonNull(text);
+        String trimmedText = text.trim();
+        if (trimmedText.isEmpty()) {
+            return new String[0];
+        }
+        String[] words = trimmedText.split("\\s+");
+        for (int i = 0; i < words.length; i++) {
+            words[i] = words[i].toLowerCase();
+        }
+        return words;
+    }
+
+    /**
+     * Returns the Levenshtein distance between {@code first} and {@code second}: the least number of
+     * single character insertions, deletions and substitutions turning one into the other. Case sensitive.
+     *   <br>examples:<pre>
+     *       getEditDistance("alice", "alise") == 1
+     *       getEditDistance("alice", "alcie") == 2
+     *       </pre>
+     * @throws NullPointerException if {@code first} or {@code second} is null.
+     */
+    public static int getEditDistance(String first, String second) {
+        requireNonNull(first);
+        requireNonNull(second);
+
+        int[] previousRow = new int[second.length() + 1];
+        int[] currentRow = new int[second.length() + 1];
+        for (int j = 0; j <= second.length(); j++) {
+            previousRow[j] = j;
+        }
+        for (int i = 1; i <= first.length(); i++) {
+            currentRow[0] = i;
+            for (int j = 1; j <= second.length(); j++) {
+                int substitutionCost = first.charAt(i - 1) == second.charAt(j - 1) ? 0 : 1;
+                currentRow[j] = Math.min(previousRow[j - 1] + substitutionCost,
+                        Math.min(previousRow[j], currentRow[j - 1]) + 1);
+            }
+            int[] swap = previousRow;
+            previousRow = currentRow;
+            currentRow = swap;
+        }
+        return previousRow[second.length()];
+    }
+
     /**
      * Returns a detailed message of the t, including the stack trace.
      */
@@ -7,6 +7,7 @@ import java.util.List;
 
 /**
  * Stores the history of commands executed.
+ * It may be read while commands are executed on another thread.
  */
 public class CommandHistory {
     private LinkedList<String> userInputHistory;
@@ -18,7 +19,7 @@ public class CommandHistory {
     /**
      * Appends {@code userInput} to the list of user input entered.
      */
-    public void add(String userInput) {
+    public synchronized void add(String userInput) {
         requireNonNull(userInput);
         userInputHistory.add(userInput);
     }
@@ -26,7 +27,7 @@ public class CommandHistory {
     /**
      * Returns a defensive copy of {@code userInputHistory}.
      */
-    public List<String> getHistory() {
+    public synchronized List<String> getHistory() {
         return new LinkedList<>(userInputHistory);
     }
 }
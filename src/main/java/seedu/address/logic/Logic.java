@@ -1,6 +1,7 @@
 package seedu.address.logic;
 
 import java.util.HashMap;
+import java.util.concurrent.CompletableFuture;
 
 import javafx.collections.ObservableList;
 import seedu.address.logic.commands.CommandResult;
@@ -23,6 +24,24 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Executes the command on the logic worker thread, after the commands executed before it.
+     * The returned future completes with the result of the command, or exceptionally with the
+     * {@code CommandException} or {@code ParseException} it failed with.
+     * Cancelling the future only asks for the command to be stopped: a command that has not started is skipped,
+     * and a running command is interrupted, which stops a batch of changes at its next change to the model
+     * and reverts the changes made so far. The future is then completed as cancelled. A command that cannot be
+     * stopped anymore completes as usual, so the future is only cancelled if the model was left unchanged.
+     *
+     * @param commandText The command as entered by the user.
+     */
+    CompletableFuture<CommandResult> executeAsync(String commandText);
+
+    /**
+     * Releases the files held for the undo history. Commands cannot be executed after this.
+     */
+    void close();
+
     /** Returns an unmodifiable view of the filtered list of persons */
     ObservableList<ReadOnlyPerson> getFilteredPersonList();
 
@@ -1,10 +1,15 @@
 package seedu.address.logic;
 
 import java.util.HashMap;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.ComponentManager;
+import seedu.address.commons.core.Config;
 import seedu.address.commons.core.LogsCenter;
 
 import seedu.address.logic.commands.AddCommand;
@@ -40,12 +45,22 @@ public class LogicManager extends ComponentManager implements Logic {
     private final CommandHistory history;
     private final AddressBookParser addressBookParser;
     private final UndoRedoStack undoRedoStack;
+    // executes the commands of executeAsync one at a time, in the order they were given
+    private final ExecutorService worker = Executors.newSingleThreadExecutor(task -> {
+        Thread thread = new Thread(task, "logic-worker");
+        thread.setDaemon(true);
+        return thread;
+    });
 
     public LogicManager(Model model) {
+        this(model, Config.DEFAULT_UNDO_MEMORY_BUDGET);
+    }
+
+    public LogicManager(Model model, long undoMemoryBudget) {
         this.model = model;
         this.history = new CommandHistory();
         this.addressBookParser = new AddressBookParser();
-        this.undoRedoStack = new UndoRedoStack();
+        this.undoRedoStack = new UndoRedoStack(undoMemoryBudget);
     }
 
     @Override
@@ -62,6 +77,82 @@ public class LogicManager extends ComponentManager implements Logic {
         }
     }
 
+    @Override
+    public CompletableFuture<CommandResult> executeAsync(String commandText) {
+        PendingCommand pendingCommand = new PendingCommand();
+        worker.execute(() -> pendingCommand.run(() -> execute(commandText)));
+        return pendingCommand;
+    }
+
+    /**
+     * The result of a command executed on the worker. Cancelling it only asks for the command to be stopped,
+     * and it is completed as cancelled by the worker once the command has been stopped without changing the model.
+     */
+    private static class PendingCommand extends CompletableFuture<CommandResult> {
+        private boolean isCancelRequested = false;
+        // the thread executing the command, if it is being executed
+        private Thread runner;
+
+        /**
+         * Asks for the command to be stopped and returns false, as the command is only known to have been stopped
+         * once this future is completed as cancelled.
+         */
+        @Override
+        public synchronized boolean cancel(boolean mayInterruptIfRunning) {
+            isCancelRequested = true;
+            if (runner != null && mayInterruptIfRunning) {
+                runner.interrupt();
+            }
+            return false;
+        }
+
+        /**
+         * Executes {@code command} on this thread unless cancellation was asked for before it started,
+         * and completes this future with the outcome.
+         */
+        void run(CommandExecution command) {
+            synchronized (this) {
+                if (isCancelRequested) {
+                    super.cancel(false);
+                    return;
+                }
+                runner = Thread.currentThread();
+            }
+            try {
+                complete(command.execute());
+            } catch (CancellationException ce) {
+                // the command was stopped before it changed the model, or reverted its changes
+                super.cancel(false);
+            } catch (CommandException | ParseException | RuntimeException e) {
+                completeExceptionally(e);
+            } catch (Throwable t) {
+                // errors, e.g. failed assertions, must still complete the future, or its caller waits forever
+                completeExceptionally(t);
+                throw t;
+            } finally {
+                synchronized (this) {
+                    runner = null;
+                    // clears an interrupt that came after the command could no longer be stopped
+                    Thread.interrupted();
+                }
+            }
+        }
+    }
+
+    /**
+     * A command execution that can be run on the worker.
+     */
+    @FunctionalInterface
+    private interface CommandExecution {
+        CommandResult execute() throws CommandException, ParseException;
+    }
+
+    @Override
+    public void close() {
+        worker.shutdown();
+        undoRedoStack.close();
+    }
+
     @Override
     public ObservableList<ReadOnlyPerson> getFilteredPersonList() {
         return model.getFilteredPersonList();
@@ -0,0 +1,186 @@
+package seedu.address.logic;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.AddressBookDelta;
+
+/**
+ * A file holding the changes of undoable commands that were moved out of memory.
+ * The file is created on the first write, and deleted when the journal is closed.
+ *
+ * Entries are appended, and released once they are read back or discarded. The file is emptied once all its entries
+ * are released, and compacted once most of it is taken by released entries.
+ */
+public class UndoJournal {
+    public static final long DEFAULT_COMPACTION_THRESHOLD = 1 << 20;
+
+    private static final Logger logger = LogsCenter.getLogger(UndoJournal.class);
+
+    // the released bytes that make the file worth compacting when they are more than the bytes in use
+    private final long compactionThreshold;
+    // the entries not released yet, in the order they are in the file
+    private final Set<Entry> liveEntries = new LinkedHashSet<>();
+    private long releasedBytes;
+    private File journalFile;
+    private RandomAccessFile file;
+    private boolean isClosed;
+
+    public UndoJournal() {
+        this(DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    public UndoJournal(long compactionThreshold) {
+        this.compactionThreshold = compactionThreshold;
+    }
+
+    /**
+     * Appends {@code delta} to the journal and returns the entry from which it can be read back.
+     */
+    public synchronized Entry write(AddressBookDelta delta) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            delta.writeTo(out);
+        }
+        RandomAccessFile journal = getFile();
+        long offset = journal.length();
+        journal.seek(offset);
+        journal.write(bytes.toByteArray());
+        Entry entry = new Entry(offset, bytes.size());
+        liveEntries.add(entry);
+        return entry;
+    }
+
+    private RandomAccessFile getFile() throws IOException {
+        if (isClosed) {
+            throw new IOException("The undo journal is closed");
+        }
+        if (file == null) {
+            journalFile = File.createTempFile("addressbook-undo", ".journal");
+            // in case the journal is not closed, although this only works for closed files on some platforms
+            journalFile.deleteOnExit();
+            file = new RandomAccessFile(journalFile, "rw");
+        }
+        return file;
+    }
+
+    /**
+     * Returns the number of bytes in the journal file.
+     */
+    public synchronized long getFileSize() throws IOException {
+        return file == null ? 0 : file.length();
+    }
+
+    /**
+     * Closes and deletes the journal file. The entries of the journal cannot be read anymore.
+     */
+    public synchronized void close() throws IOException {
+        isClosed = true;
+        liveEntries.clear();
+        if (file == null) {
+            return;
+        }
+        file.close();
+        file = null;
+        if (!journalFile.delete()) {
+            logger.warning("Unable to delete the undo journal " + journalFile);
+        }
+    }
+
+    /**
+     * Marks {@code entry} as no longer needed, and empties or compacts the file if it is then worth it.
+     */
+    private void release(Entry entry) {
+        if (!liveEntries.remove(entry)) {
+            return;
+        }
+        releasedBytes += entry.length;
+        try {
+            if (liveEntries.isEmpty()) {
+                file.setLength(0);
+                releasedBytes = 0;
+            } else if (releasedBytes >= compactionThreshold && releasedBytes > file.length() - releasedBytes) {
+                compact();
+            }
+        } catch (IOException ioe) {
+            logger.warning("Unable to shrink the undo journal: " + ioe.getMessage());
+        }
+    }
+
+    /**
+     * Moves the entries in use to the start of the file, in the same order, and cuts off the rest of the file.
+     * Each entry is only moved towards the start of the file, so it never overwrites an entry yet to be moved.
+     */
+    private void compact() throws IOException {
+        long end = 0;
+        for (Entry entry : liveEntries) {
+            if (entry.offset != end) {
+                byte[] bytes = entry.readBytes();
+                file.seek(end);
+                file.write(bytes);
+                entry.offset = end;
+            }
+            end += entry.length;
+        }
+        file.setLength(end);
+        releasedBytes = 0;
+    }
+
+    /**
+     * The position of a delta written to the journal.
+     */
+    public class Entry {
+        private long offset;
+        private final int length;
+
+        private Entry(long offset, int length) {
+            this.offset = offset;
+            this.length = length;
+        }
+
+        /**
+         * Reads the delta of this entry back from the journal, and releases the entry.
+         */
+        public AddressBookDelta read() throws IOException {
+            synchronized (UndoJournal.this) {
+                if (!liveEntries.contains(this)) {
+                    throw new IOException("The undo journal entry has been released");
+                }
+                AddressBookDelta delta;
+                try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(readBytes()))) {
+                    delta = AddressBookDelta.readFrom(in);
+                }
+                release(this);
+                return delta;
+            }
+        }
+
+        /**
+         * Releases this entry without reading it back.
+         */
+        public void discard() {
+            synchronized (UndoJournal.this) {
+                release(this);
+            }
+        }
+
+        /**
+         * Returns the bytes of this entry in the journal file.
+         */
+        private byte[] readBytes() throws IOException {
+            byte[] bytes = new byte[length];
+            file.seek(offset);
+            file.readFully(bytes);
+            return bytes;
+        }
+    }
+}
@@ -1,7 +1,11 @@
 package seedu.address.logic;
 
+import java.io.IOException;
 import java.util.Stack;
+import java.util.logging.Logger;
 
+import seedu.address.commons.core.Config;
+import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.RedoCommand;
 import seedu.address.logic.commands.UndoCommand;
@@ -10,14 +14,37 @@ import seedu.address.logic.commands.UndoableCommand;
 /**
  * Maintains the undo-stack (the stack of commands that can be undone) and the redo-stack (the stack of
  * commands that can be undone).
+ *
+ * The changes of the commands are kept in memory up to {@code memoryBudget} bytes. Beyond that, the changes of the
+ * commands furthest from being undone or redone are spilled to an {@link UndoJournal}, and read back when their
+ * command is popped.
  */
 public class UndoRedoStack {
+    private static final Logger logger = LogsCenter.getLogger(UndoRedoStack.class);
+
     private Stack<UndoableCommand> undoStack;
     private Stack<UndoableCommand> redoStack;
 
+    private final long memoryBudget;
+    private final UndoJournal journal;
+    private long retainedBytes;
+    // the commands in each stack below these positions have all been spilled
+    private int firstUnspilledUndo;
+    private int firstUnspilledRedo;
+
     public UndoRedoStack() {
+        this(Config.DEFAULT_UNDO_MEMORY_BUDGET);
+    }
+
+    public UndoRedoStack(long memoryBudget) {
+        this(memoryBudget, new UndoJournal());
+    }
+
+    public UndoRedoStack(long memoryBudget, UndoJournal journal) {
         undoStack = new Stack<>();
         redoStack = new Stack<>();
+        this.memoryBudget = memoryBudget;
+        this.journal = journal;
     }
 
     /**
@@ -26,34 +53,96 @@ public class UndoRedoStack {
      */
     public void push(Command command) {
         if (!(command instanceof UndoCommand) && !(command instanceof RedoCommand)) {
+            for (UndoableCommand discarded : redoStack) {
+                retainedBytes -= discarded.getRetainedBytes();
+                discarded.discardSpilledChanges();
+            }
             redoStack.clear();
+            firstUnspilledRedo = 0;
         }
 
         if (!(command instanceof UndoableCommand)) {
             return;
         }
 
-        undoStack.add((UndoableCommand) command);
+        UndoableCommand undoableCommand = (UndoableCommand) command;
+        undoStack.add(undoableCommand);
+        retainedBytes += undoableCommand.getRetainedBytes();
+        enforceMemoryBudget(undoableCommand);
     }
 
     /**
-     * Pops and returns the next {@code UndoableCommand} to be undone in the stack.
+     * Pops and returns the next {@code UndoableCommand} to be undone in the stack, with its changes in memory.
+     *
+     * @throws java.io.UncheckedIOException if the changes of the command cannot be read back from the journal,
+     *     in which case the stack is left unchanged.
      */
     public UndoableCommand popUndo() {
-        UndoableCommand toUndo = undoStack.pop();
+        UndoableCommand toUndo = undoStack.peek();
+        retainedBytes += toUndo.reloadChanges();
+        undoStack.pop();
         redoStack.push(toUndo);
+        firstUnspilledUndo = Math.min(firstUnspilledUndo, undoStack.size());
+        enforceMemoryBudget(toUndo);
         return toUndo;
     }
 
     /**
-     * Pops and returns the next {@code UndoableCommand} to be redone in the stack.
+     * Pops and returns the next {@code UndoableCommand} to be redone in the stack, with its changes in memory.
+     *
+     * @throws java.io.UncheckedIOException if the changes of the command cannot be read back from the journal,
+     *     in which case the stack is left unchanged.
      */
     public UndoableCommand popRedo() {
-        UndoableCommand toRedo = redoStack.pop();
+        UndoableCommand toRedo = redoStack.peek();
+        retainedBytes += toRedo.reloadChanges();
+        redoStack.pop();
         undoStack.push(toRedo);
+        firstUnspilledRedo = Math.min(firstUnspilledRedo, redoStack.size());
+        enforceMemoryBudget(toRedo);
         return toRedo;
     }
 
+    /**
+     * Returns the approximate number of bytes of memory taken by the changes of the commands in the stacks.
+     */
+    public long getRetainedBytes() {
+        return retainedBytes;
+    }
+
+    /**
+     * Spills the changes of the oldest commands in the undo-stack, then of the furthest commands in the redo-stack,
+     * until the changes kept in memory fit in the budget. The changes of {@code current} are always kept.
+     */
+    private void enforceMemoryBudget(UndoableCommand current) {
+        try {
+            while (retainedBytes > memoryBudget && firstUnspilledUndo < undoStack.size()
+                    && undoStack.get(firstUnspilledUndo) != current) {
+                retainedBytes -= undoStack.get(firstUnspilledUndo).spillChanges(journal);
+                firstUnspilledUndo++;
+            }
+            while (retainedBytes > memoryBudget && firstUnspilledRedo < redoStack.size()
+                    && redoStack.get(firstUnspilledRedo) != current) {
+                retainedBytes -= redoStack.get(firstUnspilledRedo).spillChanges(journal);
+                firstUnspilledRedo++;
+            }
+        } catch (IOException ioe) {
+            logger.warning("Unable to spill undo history to disk, keeping it in memory: " + ioe.getMessage());
+        }
+    }
+
+    /**
+     * Closes the journal holding the spilled changes, after which the commands whose changes were spilled
+     * cannot be undone or redone.
+     */
+    public void close() {
+        try {
+            journal.close();
+        } catch (IOException ioe) {
+            logger.warning("Unable to close the undo journal: " + ioe.getMessage());
+        }
+    }
+
     /**
      * Returns true if there are more commands that can be undone.
      */
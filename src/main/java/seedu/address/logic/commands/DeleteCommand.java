@@ -1,11 +1,7 @@
 package seedu.address.logic.commands;
 
-import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
-
-import java.util.ArrayList;
 import java.util.List;
 
-import javafx.collections.ObservableList;
 import seedu.address.commons.core.Messages;
 import seedu.address.commons.core.index.Index;
 import seedu.address.logic.commands.exceptions.CommandException;
@@ -15,9 +11,6 @@ import seedu.address.model.person.Email;
 import seedu.address.model.person.Phone;
 import seedu.address.model.person.ReadOnlyPerson;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
-import seedu.address.model.person.predicates.UniqueAddressPredicate;
-import seedu.address.model.person.predicates.UniqueEmailPredicate;
-import seedu.address.model.person.predicates.UniquePhonePredicate;
 
 /**
  * Deletes a person identified using it's last displayed index from the address book.
@@ -80,18 +73,11 @@ public class DeleteCommand extends UndoableCommand {
      */
     private CommandResult deletePersonWithSpecifiedAddress(Address address) {
 
-        model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
-        ObservableList<ReadOnlyPerson> personList = model.getFilteredPersonList();
-        List<ReadOnlyPerson> personsToDelete = new ArrayList<ReadOnlyPerson>();
+        List<ReadOnlyPerson> personsToDelete = model.getPersonsWithAddress(address);
 
         try {
-            for (ReadOnlyPerson p : personList) {
-                if (p.getAddress().equals(address)) {
-                    personsToDelete.add(p);
-                }
-            }
             model.deletePersonSet(personsToDelete);
-            model.updateFilteredPersonList(new UniqueAddressPredicate(model.getUniqueAdPersonSet()));
+            model.handleListingUnit();
 
         } catch (PersonNotFoundException pnfe) {
             assert false : "The target person cannot be missing";
@@ -104,18 +90,11 @@ public class DeleteCommand extends UndoableCommand {
      */
     private CommandResult deletePersonWithSpecifiedEmail(Email email) {
 
-        model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
-        ObservableList<ReadOnlyPerson> personList = model.getFilteredPersonList();
-        List<ReadOnlyPerson> personsToDelete = new ArrayList<ReadOnlyPerson>();
+        List<ReadOnlyPerson> personsToDelete = model.getPersonsWithEmail(email);
 
         try {
-            for (ReadOnlyPerson p : personList) {
-                if (p.getEmail().equals(email)) {
-                    personsToDelete.add(p);
-                }
-            }
             model.deletePersonSet(personsToDelete);
-            model.updateFilteredPersonList(new UniqueEmailPredicate(model.getUniqueEmailPersonSet()));
+            model.handleListingUnit();
 
         } catch (PersonNotFoundException pnfe) {
             assert false : "The target person cannot be missing";
@@ -129,18 +108,11 @@ public class DeleteCommand extends UndoableCommand {
      */
     private CommandResult deletePersonWithSpecifiedPhone(Phone phone) {
 
-        model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
-        ObservableList<ReadOnlyPerson> personList = model.getFilteredPersonList();
-        List<ReadOnlyPerson> personsToDelete = new ArrayList<ReadOnlyPerson>();
+        List<ReadOnlyPerson> personsToDelete = model.getPersonsWithPhone(phone);
 
         try {
-            for (ReadOnlyPerson p : personList) {
-                if (p.getPhone().equals(phone)) {
-                    personsToDelete.add(p);
-                }
-            }
             model.deletePersonSet(personsToDelete);
-            model.updateFilteredPersonList(new UniquePhonePredicate(model.getUniquePhonePersonSet()));
+            model.handleListingUnit();
 
         } catch (PersonNotFoundException pnfe) {
             assert false : "The target person cannot be missing";
@@ -12,7 +12,6 @@ import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 
-import javafx.collections.ObservableList;
 import seedu.address.commons.core.Messages;
 import seedu.address.commons.core.index.Index;
 import seedu.address.commons.exceptions.IllegalValueException;
@@ -27,9 +26,6 @@ import seedu.address.model.person.Phone;
 import seedu.address.model.person.ReadOnlyPerson;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
-import seedu.address.model.person.predicates.UniqueAddressPredicate;
-import seedu.address.model.person.predicates.UniqueEmailPredicate;
-import seedu.address.model.person.predicates.UniquePhonePredicate;
 import seedu.address.model.tag.Tag;
 
 /**
@@ -135,25 +131,19 @@ public class EditCommand extends UndoableCommand {
      * Edit the address, all persons with the edited address is updated with a new given address.
      */
     private CommandResult executeEditAddress(Address addressToEdit) throws CommandException {
-        model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
-        ObservableList<ReadOnlyPerson> personList = model.getFilteredPersonList();
-        Address editedAddress = null;
         try {
-            editedAddress = new Address(attributeValue);
-            for (ReadOnlyPerson p : personList) {
-
-                ReadOnlyPerson curEditedPerson;
-                if (p.getAddress().equals(addressToEdit)) {
-                    curEditedPerson = new Person(p.getName(), p.getPhone(), p.getEmail(),
+            Address editedAddress = new Address(attributeValue).intern();
+            model.batch(() -> {
+                for (ReadOnlyPerson p : model.getPersonsWithAddress(addressToEdit)) {
+                    ReadOnlyPerson curEditedPerson = new Person(p.getName(), p.getPhone(), p.getEmail(),
                             editedAddress, p.getTags());
                     model.updatePerson(p, curEditedPerson);
-
                 }
-            }
-            model.updateFilteredPersonList(new UniqueAddressPredicate(model.getUniqueAdPersonSet()));
+            });
+            model.handleListingUnit();
             return new CommandResult(String.format(MESSAGE_EDIT_ADDRESS_SUCCESS, editedAddress));
         } catch (IllegalValueException ive) {
-            model.updateFilteredPersonList(new UniqueAddressPredicate(model.getUniqueAdPersonSet()));
+            model.handleListingUnit();
             throw new CommandException(ive.getMessage());
         } catch (PersonNotFoundException pnfe) {
             throw new AssertionError("The target person cannot be missing");
@@ -164,25 +154,19 @@ public class EditCommand extends UndoableCommand {
      * Edit the email, all persons with the edited email is updated with a new given email.
      */
     private CommandResult executeEditEmail(Email emailToEdit) throws CommandException {
-        model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
-        ObservableList<ReadOnlyPerson> personList = model.getFilteredPersonList();
-        Email editedEmail = null;
         try {
-            editedEmail = new Email(attributeValue);
-            for (ReadOnlyPerson p : personList) {
-
-                ReadOnlyPerson curEditedPerson;
-                if (p.getEmail().equals(emailToEdit)) {
-                    curEditedPerson = new Person(p.getName(), p.getPhone(), editedEmail,
+            Email editedEmail = new Email(attributeValue);
+            model.batch(() -> {
+                for (ReadOnlyPerson p : model.getPersonsWithEmail(emailToEdit)) {
+                    ReadOnlyPerson curEditedPerson = new Person(p.getName(), p.getPhone(), editedEmail,
                             p.getAddress(), p.getTags());
                     model.updatePerson(p, curEditedPerson);
-
                 }
-            }
-            model.updateFilteredPersonList(new UniqueEmailPredicate(model.getUniqueEmailPersonSet()));
+            });
+            model.handleListingUnit();
             return new CommandResult(String.format(MESSAGE_EDIT_EMAIL_SUCCESS, editedEmail));
         } catch (IllegalValueException ive) {
-            model.updateFilteredPersonList(new UniqueEmailPredicate(model.getUniqueEmailPersonSet()));
+            model.handleListingUnit();
             throw new CommandException(ive.getMessage());
         } catch (PersonNotFoundException pnfe) {
             throw new AssertionError("The target person cannot be missing");
@@ -193,24 +177,19 @@ public class EditCommand extends UndoableCommand {
      * Edit the phone, all persons with the edited phone is updated with a new given phone.
      */
     private CommandResult executeEditPhone(Phone phoneToEdit) throws CommandException {
-        model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
-        ObservableList<ReadOnlyPerson> personList = model.getFilteredPersonList();
-        Phone editedPhone = null;
         try {
-            editedPhone = new Phone(attributeValue);
-            for (ReadOnlyPerson p : personList) {
-
-                ReadOnlyPerson curEditedPerson;
-                if (p.getPhone().equals(phoneToEdit)) {
-                    curEditedPerson = new Person(p.getName(), editedPhone, p.getEmail(),
+            Phone editedPhone = new Phone(attributeValue);
+            model.batch(() -> {
+                for (ReadOnlyPerson p : model.getPersonsWithPhone(phoneToEdit)) {
+                    ReadOnlyPerson curEditedPerson = new Person(p.getName(), editedPhone, p.getEmail(),
                             p.getAddress(), p.getTags());
                     model.updatePerson(p, curEditedPerson);
                 }
-            }
-            model.updateFilteredPersonList(new UniquePhonePredicate(model.getUniquePhonePersonSet()));
+            });
+            model.handleListingUnit();
             return new CommandResult(String.format(MESSAGE_EDIT_PHONE_SUCCESS, editedPhone));
         } catch (IllegalValueException ive) {
-            model.updateFilteredPersonList(new UniqueEmailPredicate(model.getUniqueEmailPersonSet()));
+            model.handleListingUnit();
             throw new CommandException(ive.getMessage());
         } catch (PersonNotFoundException pnfe) {
             throw new AssertionError("The target person cannot be missing");
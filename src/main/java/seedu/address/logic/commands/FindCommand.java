@@ -1,8 +1,12 @@
 package seedu.address.logic.commands;
 
+import static seedu.address.logic.parser.CliSyntax.FLAG_EXPLAIN;
+
 import java.util.function.Predicate;
 
 import seedu.address.model.person.ReadOnlyPerson;
+import seedu.address.model.query.Query;
+import seedu.address.model.query.QueryPlan;
 
 
 
@@ -15,29 +19,67 @@ public class FindCommand extends Command {
 
     public static final String COMMAND_WORD = "find";
 
+    /** Marks a keyword as a prefix of the words to find */
+    public static final String PREFIX_WILDCARD = "*";
+
+    /** Maximum number of persons listed by a prefix search, taken in the order of the person list */
+    public static final int PREFIX_MATCH_LIMIT = 50;
+
+    /** Marks a keyword as possibly misspelt, optionally followed by the number of letters that may differ */
+    public static final String FUZZY_MARKER = "~";
+
+    public static final int DEFAULT_FUZZY_DISTANCE = 1;
+
+    public static final int MAX_FUZZY_DISTANCE = 3;
+
+    /** Operators of a tag expression, from the lowest precedence */
+    public static final String TAG_OR = "OR";
+    public static final String TAG_AND = "AND";
+    public static final String TAG_NOT = "NOT";
+
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all persons whose name, address,\n"
             + "phone number, email contain any of the specified keywords (case-sensitive) and displays \n"
             + "them as a list with index numbers. If list command with specific attribute was called \n"
             + "previously, only that specific attribute will be taken into consideration of finding"
             + "Parameters: KEYWORD [MORE_KEYWORDS]...\n"
-            + "Example: " + COMMAND_WORD + " alice bob charlie";
+            + "Example: " + COMMAND_WORD + " alice bob charlie\n"
+            + "End every keyword with " + PREFIX_WILDCARD + " to find names, addresses and emails with "
+            + "words starting with the keywords instead.\n"
+            + "Example: " + COMMAND_WORD + " ali" + PREFIX_WILDCARD + "\n"
+            + "End every keyword with " + FUZZY_MARKER + "[DISTANCE] to find names and addresses with words "
+            + "differing from the keywords by at most DISTANCE (default " + DEFAULT_FUZZY_DISTANCE + ") letters.\n"
+            + "Example: " + COMMAND_WORD + " alise" + FUZZY_MARKER + " bemson" + FUZZY_MARKER + "2\n"
+            + "Start with t/ to find persons by tags combined with " + TAG_AND + ", " + TAG_OR + " and " + TAG_NOT
+            + ".\n"
+            + "Example: " + COMMAND_WORD + " t/friends " + TAG_AND + " " + TAG_NOT + " colleagues " + TAG_OR
+            + " family\n"
+            + "Start with " + FLAG_EXPLAIN + " to also show how the persons were found and how long it took.\n"
+            + "Example: " + COMMAND_WORD + " " + FLAG_EXPLAIN + " alice";
+
+    public static final String MESSAGE_INVALID_FUZZY_DISTANCE = "The distance after " + FUZZY_MARKER
+            + " should be a number from 0 to " + MAX_FUZZY_DISTANCE;
 
-    private final Predicate<ReadOnlyPerson> predicate;
+    private final Query query;
 
     public FindCommand(Predicate<ReadOnlyPerson> predicate) {
-        this.predicate = predicate;
+        this(new Query(predicate));
+    }
+
+    public FindCommand(Query query) {
+        this.query = query;
     }
 
     @Override
     public CommandResult execute() {
-        model.updateFilteredPersonList(predicate);
-        return new CommandResult(getMessageForPersonListShownSummary(model.getFilteredPersonList().size()));
+        QueryPlan plan = model.executeQuery(query);
+        String message = getMessageForPersonListShownSummary(model.getFilteredPersonList().size());
+        return new CommandResult(query.isExplained() ? message + "\n" + plan : message);
     }
 
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof FindCommand // instanceof handles nulls
-                && this.predicate.equals(((FindCommand) other).predicate)); // state check
+                && this.query.equals(((FindCommand) other).query)); // state check
     }
 }
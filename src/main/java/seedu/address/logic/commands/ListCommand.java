@@ -1,5 +1,6 @@
 package seedu.address.logic.commands;
 
+import static seedu.address.logic.parser.CliSyntax.FLAG_EXPLAIN;
 import static seedu.address.model.ListingUnit.ADDRESS;
 import static seedu.address.model.ListingUnit.EMAIL;
 import static seedu.address.model.ListingUnit.PERSON;
@@ -11,10 +12,11 @@ import java.util.function.Predicate;
 import seedu.address.commons.core.EventsCenter;
 import seedu.address.commons.events.ui.ChangeListingUnitEvent;
 import seedu.address.model.ListingUnit;
+import seedu.address.model.SortOrder;
+import seedu.address.model.person.ReadOnlyPerson;
 import seedu.address.model.person.predicates.FavourListPredicate;
-import seedu.address.model.person.predicates.UniqueAddressPredicate;
-import seedu.address.model.person.predicates.UniqueEmailPredicate;
-import seedu.address.model.person.predicates.UniquePhonePredicate;
+import seedu.address.model.query.Query;
+import seedu.address.model.query.QueryPlan;
 
 
 /**
@@ -27,9 +29,11 @@ public class ListCommand extends Command {
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": List all persons or all attributes(if specified) and "
             + "displays them as a list with index numbers.\n"
             + "Parameters: address/email/phone/collection\n"
-            + "Example: " + COMMAND_WORD + " address";
+            + "Example: " + COMMAND_WORD + " address\n"
+            + "Start with " + FLAG_EXPLAIN + " to also show how the list was found and how long it took.";
 
     public static final String MESSAGE_SUCCESS = "Listed all %1$s";
+    public static final String MESSAGE_DISTINCT_PLAN = "Plan: view of each distinct %1$s kept up to date, no lookup";
 
     public static final String DEFAULT_LISTING_ELEMENT = "Persons";
     public static final String ATTRIBUTE_ADDRESS = "address";
@@ -39,13 +43,19 @@ public class ListCommand extends Command {
 
 
     private final String attName;
+    private final boolean isExplained;
 
     public ListCommand(String attributeName) {
+        this(attributeName, false);
+    }
+
+    public ListCommand(String attributeName, boolean isExplained) {
         this.attName = attributeName;
+        this.isExplained = isExplained;
     }
 
     public ListCommand() {
-        this.attName = DEFAULT_LISTING_ELEMENT;
+        this(DEFAULT_LISTING_ELEMENT);
     }
 
     private boolean hasAttribute() {
@@ -54,23 +64,18 @@ public class ListCommand extends Command {
 
     @Override
     public CommandResult execute() {
+        model.sortFilteredPersonList(SortOrder.UNSORTED);
 
         switch (attName) {
 
         case ATTRIBUTE_ADDRESS:
-            ListingUnit.setCurrentListingUnit(ADDRESS);
-            UniqueAddressPredicate addressPredicate = new UniqueAddressPredicate(model.getUniqueAdPersonSet());
-            return executeListByAttribute(addressPredicate);
+            return executeListDistinct(ADDRESS);
 
         case ATTRIBUTE_EMAIL:
-            ListingUnit.setCurrentListingUnit(EMAIL);
-            UniqueEmailPredicate emailPredicate = new UniqueEmailPredicate(model.getUniqueEmailPersonSet());
-            return executeListByAttribute(emailPredicate);
+            return executeListDistinct(EMAIL);
 
         case ATTRIBUTE_PHONE:
-            ListingUnit.setCurrentListingUnit(PHONE);
-            UniquePhonePredicate phonePredicate = new UniquePhonePredicate(model.getUniquePhonePersonSet());
-            return executeListByAttribute(phonePredicate);
+            return executeListDistinct(PHONE);
 
         case ATTRIBUTE_COLLECTION:
             ListingUnit.setCurrentListingUnit(PERSON);
@@ -79,18 +84,39 @@ public class ListCommand extends Command {
 
         default:
             ListingUnit.setCurrentListingUnit(PERSON);
-            model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
-            return new CommandResult(String.format(MESSAGE_SUCCESS, attName));
+            QueryPlan plan = model.executeQuery(new Query(PREDICATE_SHOW_ALL_PERSONS, isExplained));
+            return getCommandResult(plan);
         }
     }
 
+    /**
+     * Shows one person for each distinct value of the attribute of {@code listingUnit}, from the view of
+     * distinct persons the model keeps up to date.
+     */
+    private CommandResult executeListDistinct(ListingUnit listingUnit) {
+        ListingUnit.setCurrentListingUnit(listingUnit);
+        model.handleListingUnit();
+        EventsCenter.getInstance().post(new ChangeListingUnitEvent());
+        String message = String.format(MESSAGE_SUCCESS, attName);
+        String plan = String.format(MESSAGE_DISTINCT_PLAN, attName);
+        return new CommandResult(isExplained ? message + "\n" + plan : message);
+    }
+
     /**
      * execute the list command with different attributes.
      */
-    private CommandResult executeListByAttribute(Predicate predicate) {
-        model.updateFilteredPersonList(predicate);
+    private CommandResult executeListByAttribute(Predicate<ReadOnlyPerson> predicate) {
+        QueryPlan plan = model.executeQuery(new Query(predicate, isExplained));
         EventsCenter.getInstance().post(new ChangeListingUnitEvent());
-        return new CommandResult(String.format(MESSAGE_SUCCESS, attName));
+        return getCommandResult(plan);
+    }
+
+    /**
+     * Returns the result of listing with {@code plan}, which is shown too if the command is explained.
+     */
+    private CommandResult getCommandResult(QueryPlan plan) {
+        String message = String.format(MESSAGE_SUCCESS, attName);
+        return new CommandResult(isExplained ? message + "\n" + plan : message);
     }
 
     @Override
@@ -105,7 +131,7 @@ public class ListCommand extends Command {
 
         ListCommand o = (ListCommand) other;
         if (attName != null && o.attName != null) {
-            return attName.equals(o.attName);
+            return attName.equals(o.attName) && isExplained == o.isExplained;
         }
 
         return false;
@@ -1,9 +1,14 @@
 package seedu.address.logic.commands;
 
-import seedu.address.commons.core.EventsCenter;
-import seedu.address.commons.events.ui.SortListRequestEvent;
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.ListingUnit;
+import seedu.address.model.SortOrder;
 
 /***
  * Sort list
@@ -12,20 +17,38 @@ public class SortCommand extends Command {
 
     public static final String COMMAND_WORD = "sort";
 
-    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Sort list by given single attribute "
-            + "the specified attribute (case-sensitive) and displays them as a list with index numbers.\n"
-            + "Example: " + COMMAND_WORD;
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Sort list by the given attributes, each one "
+            + "ordering the persons the attributes before it do not tell apart (case-sensitive), or by the "
+            + "attribute currently listed and then by name if none is given.\n"
+            + "Parameters: [name/phone/email/address]...\n"
+            + "Example: " + COMMAND_WORD + " address name";
 
     public static final String MESSAGE_SELECT_PERSON_SUCCESS = "List sorted successfully";
 
-    private static ListingUnit currentListingUnit = ListingUnit.getCurrentListingUnit();
+    private final List<SortOrder.Key> keys;
+
+    public SortCommand() {
+        this(Collections.emptyList());
+    }
+
+    public SortCommand(List<SortOrder.Key> keys) {
+        requireNonNull(keys);
+        this.keys = new ArrayList<>(keys);
+    }
 
     @Override
     public CommandResult execute() throws CommandException {
-
-        EventsCenter.getInstance().post(new SortListRequestEvent());
+        SortOrder order = keys.isEmpty()
+                ? SortOrder.of(ListingUnit.getCurrentListingUnit())
+                : new SortOrder(keys);
+        model.sortFilteredPersonList(order);
         return new CommandResult(MESSAGE_SELECT_PERSON_SUCCESS);
-
     }
 
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof SortCommand // instanceof handles nulls
+                && this.keys.equals(((SortCommand) other).keys)); // state check
+    }
 }
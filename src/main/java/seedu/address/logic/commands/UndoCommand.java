@@ -2,6 +2,8 @@ package seedu.address.logic.commands;
 
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.io.UncheckedIOException;
+
 import seedu.address.logic.CommandHistory;
 import seedu.address.logic.UndoRedoStack;
 import seedu.address.logic.commands.exceptions.CommandException;
@@ -14,6 +16,7 @@ public class UndoCommand extends Command {
 
     public static final String COMMAND_WORD = "undo";
     public static final String MESSAGE_SUCCESS = "Undo success!";
+    public static final String MESSAGE_JOURNAL_FAILURE = "Unable to read the command to undo from disk!";
     public static final String MESSAGE_FAILURE = "No more commands to undo!";
 
     @Override
@@ -24,7 +27,11 @@ public class UndoCommand extends Command {
             throw new CommandException(MESSAGE_FAILURE);
         }
 
-        undoRedoStack.popUndo().undo();
+        try {
+            undoRedoStack.popUndo().undo();
+        } catch (UncheckedIOException uioe) {
+            throw new CommandException(MESSAGE_JOURNAL_FAILURE);
+        }
         return new CommandResult(MESSAGE_SUCCESS);
     }
 
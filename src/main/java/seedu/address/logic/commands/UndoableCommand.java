@@ -3,58 +3,126 @@ package seedu.address.logic.commands;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
-import seedu.address.logic.commands.exceptions.CommandException;
-import seedu.address.model.AddressBook;
-import seedu.address.model.ReadOnlyAddressBook;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.concurrent.CancellationException;
 
+import seedu.address.logic.UndoJournal;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.AddressBookDelta;
 
 /**
  * Represents a command which can be undone and redone.
  */
 public abstract class UndoableCommand extends Command {
-    private ReadOnlyAddressBook previousAddressBook;
+    private AddressBookDelta changes;
+    private UndoJournal.Entry spilledChanges;
 
     protected abstract CommandResult executeUndoableCommand() throws CommandException;
 
     /**
-     * Stores the current state of {@code model#addressBook}.
+     * Reverts the changes this command made to {@code model#addressBook}. The filtered person list keeps its
+     * filter, and only the persons changed back are refiltered.
+     */
+    protected final void undo() {
+        requireAllNonNull(model, changes);
+        model.undoChanges(changes);
+    }
+
+    /**
+     * Makes the changes this command made to {@code model#addressBook} again, keeping the filter of the filtered
+     * person list like {@link #undo()}. If the command has not been executed yet, it is executed and the filtered
+     * person list is updated to show all persons.
      */
-    private void saveAddressBookSnapshot() {
+    protected final void redo() {
         requireNonNull(model);
-        this.previousAddressBook = new AddressBook(model.getAddressBook());
+        if (changes != null) {
+            model.redoChanges(changes);
+        } else {
+            try {
+                execute();
+            } catch (CommandException ce) {
+                throw new AssertionError("The command has been successfully executed previously; "
+                        + "it should not fail now");
+            }
+            model.handleListingUnit();
+        }
     }
 
     /**
-     * Reverts the AddressBook to the state before this command
-     * was executed and updates the filtered person list to
-     * show all persons.
+     * Returns the approximate number of bytes of memory taken by the changes this command made.
      */
-    protected final void undo() {
-        requireAllNonNull(model, previousAddressBook);
-        model.resetData(previousAddressBook);
-        model.handleListingUnit();
+    public long getRetainedBytes() {
+        return changes == null ? 0 : changes.getApproximateBytes();
     }
 
     /**
-     * Executes the command and updates the filtered person
-     * list to show all persons.
+     * Moves the changes this command made out of memory into {@code journal}, and returns the number of bytes
+     * freed.
      */
-    protected final void redo() {
-        requireNonNull(model);
-        try {
-            executeUndoableCommand();
-        } catch (CommandException ce) {
-            throw new AssertionError("The command has been successfully executed previously; "
-                    + "it should not fail now");
+    public long spillChanges(UndoJournal journal) throws IOException {
+        if (changes == null) {
+            return 0;
         }
-        model.handleListingUnit();
+        long freedBytes = changes.getApproximateBytes();
+        spilledChanges = journal.write(changes);
+        changes = null;
+        return freedBytes;
     }
 
+    /**
+     * Releases the changes this command made from the journal if they were spilled there, once the command
+     * cannot be undone or redone anymore.
+     */
+    public void discardSpilledChanges() {
+        if (spilledChanges != null) {
+            spilledChanges.discard();
+            spilledChanges = null;
+        }
+    }
 
+    /**
+     * Reads the changes this command made back into memory if they were spilled, and returns the number of
+     * bytes they take.
+     *
+     * @throws UncheckedIOException if the changes cannot be read back.
+     */
+    public long reloadChanges() {
+        if (spilledChanges == null) {
+            return 0;
+        }
+        try {
+            changes = spilledChanges.read();
+        } catch (IOException ioe) {
+            throw new UncheckedIOException(ioe);
+        }
+        spilledChanges = null;
+        return changes.getApproximateBytes();
+    }
 
+    /**
+     * Executes the command, recording the changes it makes to {@code model#addressBook}.
+     * If the command is cancelled while it executes, the changes it made are reverted.
+     *
+     * @throws CancellationException if the command was cancelled.
+     */
     @Override
     public final CommandResult execute() throws CommandException {
-        saveAddressBookSnapshot();
-        return executeUndoableCommand();
+        requireNonNull(model);
+        model.startRecordingChanges();
+        boolean isCancelled = false;
+        try {
+            return executeUndoableCommand();
+        } catch (CancellationException ce) {
+            isCancelled = true;
+            throw ce;
+        } finally {
+            changes = model.stopRecordingChanges();
+            spilledChanges = null;
+            if (isCancelled) {
+                undo();
+                changes = null;
+            }
+        }
     }
 }
@@ -1,5 +1,6 @@
 package seedu.address.logic.commands;
 
+import static seedu.address.logic.parser.CliSyntax.FLAG_EXPLAIN;
 import static seedu.address.model.ListingUnit.PERSON;
 
 import java.util.List;
@@ -16,6 +17,8 @@ import seedu.address.model.person.predicates.FixedAddressPredicate;
 import seedu.address.model.person.predicates.FixedEmailPredicate;
 import seedu.address.model.person.predicates.FixedPhonePredicate;
 import seedu.address.model.person.predicates.ShowSpecifiedPersonPredicate;
+import seedu.address.model.query.Query;
+import seedu.address.model.query.QueryPlan;
 
 
 /**
@@ -29,7 +32,8 @@ public class ViewCommand extends Command {
             + ": Views all persons with the selected listing attribute from the address book.\n"
             + " It will simply listing the person of select index if the panel is currently listing all persons.\n"
             + "Parameters: INDEX (must be a positive integer)\n"
-            + "Example: " + COMMAND_WORD + " 1";
+            + "Example: " + COMMAND_WORD + " 1\n"
+            + "Start with " + FLAG_EXPLAIN + " to also show how the persons were found and how long it took.";
 
     public static final String MESSAGE_VIEW_ADDRESS_SUCCESS = "person(s) founded with address %1$s";
     public static final String MESSAGE_VIEW_EMAIL_SUCCESS = "person(s) founded with email %1$s";
@@ -37,9 +41,15 @@ public class ViewCommand extends Command {
     public static final String MESSAGE_VIEW_PHONE_SUCCESS = "person(s) founded phone number with %1$s";
 
     private final Index targetIndex;
+    private final boolean isExplained;
 
     public ViewCommand(Index targetIndex) {
+        this(targetIndex, false);
+    }
+
+    public ViewCommand(Index targetIndex, boolean isExplained) {
         this.targetIndex = targetIndex;
+        this.isExplained = isExplained;
     }
 
     @Override
@@ -54,7 +64,7 @@ public class ViewCommand extends Command {
 
         ReadOnlyPerson toView = lastShownList.get(targetIndex.getZeroBased());
 
-        Predicate predicate;
+        Predicate<ReadOnlyPerson> predicate;
         String resultMessage;
 
 
@@ -80,16 +90,17 @@ public class ViewCommand extends Command {
             resultMessage = String.format(MESSAGE_VIEW_PERSON_SUCCESS, toView);
         }
 
-        model.updateFilteredPersonList(predicate);
+        QueryPlan plan = model.executeQuery(new Query(predicate, isExplained));
         ListingUnit.setCurrentListingUnit(PERSON);
         EventsCenter.getInstance().post(new ChangeListingUnitEvent());
-        return new CommandResult(resultMessage);
+        return new CommandResult(isExplained ? resultMessage + "\n" + plan : resultMessage);
     }
 
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof ViewCommand // instanceof handles nulls
-                && this.targetIndex.equals(((ViewCommand) other).targetIndex)); // state check
+                && this.targetIndex.equals(((ViewCommand) other).targetIndex)
+                && this.isExplained == ((ViewCommand) other).isExplained); // state check
     }
 }
@@ -1,16 +1,31 @@
 package seedu.address.logic.parser;
 
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
 
+import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.ListingUnit;
+import seedu.address.model.person.ReadOnlyPerson;
 import seedu.address.model.person.predicates.AddressContainsKeywordsPredicate;
 import seedu.address.model.person.predicates.AllAttributesContainsKeywordsPredicate;
 import seedu.address.model.person.predicates.EmailContainsKeywordsPredicate;
+import seedu.address.model.person.predicates.FuzzyKeywordsPredicate;
 import seedu.address.model.person.predicates.PhoneNumberContainsKeywordsPredicate;
+import seedu.address.model.person.predicates.PrefixKeywordsPredicate;
+import seedu.address.model.person.predicates.TagExpressionPredicate;
+import seedu.address.model.query.Query;
+import seedu.address.model.tag.Tag;
 
 /**
  * Parses input arguments and creates a new FindCommand object
@@ -23,26 +38,136 @@ public class FindCommandParser implements Parser<FindCommand> {
      * @throws ParseException if the user input does not conform the expected format
      */
     public FindCommand parse(String args) throws ParseException {
-        String trimmedArgs = args.trim();
-        ListingUnit currentListingUnit = ListingUnit.getCurrentListingUnit();
+        boolean isExplained = ParserUtil.hasExplainFlag(args);
+        String trimmedArgs = ParserUtil.removeExplainFlag(args);
         if (trimmedArgs.isEmpty()) {
             throw new ParseException(
                     String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
         }
+        Predicate<ReadOnlyPerson> predicate = parsePredicate(trimmedArgs);
+        int limit = predicate instanceof PrefixKeywordsPredicate ? FindCommand.PREFIX_MATCH_LIMIT : Query.NO_LIMIT;
+        return new FindCommand(new Query(predicate, isExplained, limit));
+    }
+
+    /**
+     * Parses the non-empty {@code trimmedArgs} into the predicate the persons to find satisfy.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    private Predicate<ReadOnlyPerson> parsePredicate(String trimmedArgs) throws ParseException {
+        if (trimmedArgs.startsWith(PREFIX_TAG.getPrefix())) {
+            return new TagExpressionPredicate(
+                    parseTagExpression(trimmedArgs.substring(PREFIX_TAG.getPrefix().length())));
+        }
 
         String[] nameKeywords = trimmedArgs.split("\\s+");
 
+        if (trimmedArgs.contains(FindCommand.PREFIX_WILDCARD)) {
+            return new PrefixKeywordsPredicate(parsePrefixes(nameKeywords));
+        }
+        if (trimmedArgs.contains(FindCommand.FUZZY_MARKER)) {
+            return new FuzzyKeywordsPredicate(parseFuzzyKeywords(nameKeywords));
+        }
+
         switch (ListingUnit.getCurrentListingUnit()) {
         case EMAIL:
-            return new FindCommand(new EmailContainsKeywordsPredicate(Arrays.asList(nameKeywords)));
+            return new EmailContainsKeywordsPredicate(Arrays.asList(nameKeywords));
         case PHONE:
-            return new FindCommand(new PhoneNumberContainsKeywordsPredicate(Arrays.asList(nameKeywords)));
+            return new PhoneNumberContainsKeywordsPredicate(Arrays.asList(nameKeywords));
         case ADDRESS:
-            return new FindCommand(new AddressContainsKeywordsPredicate(Arrays.asList(nameKeywords)));
+            return new AddressContainsKeywordsPredicate(Arrays.asList(nameKeywords));
         default:
-            return new FindCommand(new AllAttributesContainsKeywordsPredicate(Arrays.asList(nameKeywords)));
+            return new AllAttributesContainsKeywordsPredicate(Arrays.asList(nameKeywords));
         }
+    }
 
+    /**
+     * Strips the trailing wildcard from every keyword in {@code keywords}.
+     * @throws ParseException if a keyword does not end with the wildcard or consists of the wildcard only
+     */
+    private List<String> parsePrefixes(String[] keywords) throws ParseException {
+        List<String> prefixes = new ArrayList<>();
+        for (String keyword : keywords) {
+            String prefix = keyword.substring(0, keyword.length() - FindCommand.PREFIX_WILDCARD.length());
+            if (!keyword.endsWith(FindCommand.PREFIX_WILDCARD) || prefix.isEmpty()
+                    || prefix.contains(FindCommand.PREFIX_WILDCARD)) {
+                throw new ParseException(
+                        String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+            }
+            prefixes.add(prefix);
+        }
+        return prefixes;
+    }
+
+    /**
+     * Maps every keyword in {@code keywords}, stripped of its fuzzy marker, to the maximum edit distance that
+     * follows the marker, or to {@link FindCommand#DEFAULT_FUZZY_DISTANCE} if none follows.
+     * @throws ParseException if a keyword has no fuzzy marker or an invalid distance
+     */
+    private Map<String, Integer> parseFuzzyKeywords(String[] keywords) throws ParseException {
+        Map<String, Integer> maxDistancesByKeyword = new LinkedHashMap<>();
+        for (String keyword : keywords) {
+            int markerPosition = keyword.indexOf(FindCommand.FUZZY_MARKER);
+            if (markerPosition <= 0) {
+                throw new ParseException(
+                        String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+            }
+            String distance = keyword.substring(markerPosition + FindCommand.FUZZY_MARKER.length());
+            int maxDistance = FindCommand.DEFAULT_FUZZY_DISTANCE;
+            if (!distance.isEmpty()) {
+                if (!distance.matches("\\d") || Integer.parseInt(distance) > FindCommand.MAX_FUZZY_DISTANCE) {
+                    throw new ParseException(FindCommand.MESSAGE_INVALID_FUZZY_DISTANCE);
+                }
+                maxDistance = Integer.parseInt(distance);
+            }
+            maxDistancesByKeyword.put(keyword.substring(0, markerPosition), maxDistance);
+        }
+        return maxDistancesByKeyword;
+    }
+
+    /**
+     * Parses a tag expression such as {@code friends AND NOT colleagues OR family} into the clauses any of which
+     * a person has to satisfy. {@code AND} binds tighter than {@code OR}.
+     * @throws ParseException if the expression is empty, misplaces an operator or has an invalid tag name
+     */
+    private List<TagExpressionPredicate.Clause> parseTagExpression(String expression) throws ParseException {
+        if (expression.trim().isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+        }
+        String[] words = expression.trim().split("\\s+");
+        List<TagExpressionPredicate.Clause> clauses = new ArrayList<>();
+        Set<Tag> requiredTags = new HashSet<>();
+        Set<Tag> excludedTags = new HashSet<>();
+        boolean isNegated = false;
+        boolean isExpectingTag = true;
+        try {
+            for (String word : words) {
+                if (isExpectingTag && word.equals(FindCommand.TAG_NOT) && !isNegated) {
+                    isNegated = true;
+                } else if (isExpectingTag) {
+                    Set<Tag> operandTags = isNegated ? excludedTags : requiredTags;
+                    operandTags.add(new Tag(word));
+                    isNegated = false;
+                    isExpectingTag = false;
+                } else if (word.equals(FindCommand.TAG_AND)) {
+                    isExpectingTag = true;
+                } else if (word.equals(FindCommand.TAG_OR)) {
+                    clauses.add(new TagExpressionPredicate.Clause(requiredTags, excludedTags));
+                    requiredTags = new HashSet<>();
+                    excludedTags = new HashSet<>();
+                    isExpectingTag = true;
+                } else {
+                    throw new ParseException(
+                            String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+                }
+            }
+        } catch (IllegalValueException ive) {
+            throw new ParseException(ive.getMessage(), ive);
+        }
+        if (isExpectingTag) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+        }
+        clauses.add(new TagExpressionPredicate.Clause(requiredTags, excludedTags));
+        return clauses;
     }
 
 }
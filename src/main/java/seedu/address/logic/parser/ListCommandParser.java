@@ -17,13 +17,14 @@ public class ListCommandParser implements Parser<ListCommand> {
      * @throws ParseException if the user input does not conform the expected format
      */
     public ListCommand parse(String args) throws ParseException {
-        String trimmedArgs = args.trim();
+        boolean isExplained = ParserUtil.hasExplainFlag(args);
+        String trimmedArgs = ParserUtil.removeExplainFlag(args);
         if (trimmedArgs.isEmpty()) {
-            return new ListCommand();
+            return new ListCommand(ListCommand.DEFAULT_LISTING_ELEMENT, isExplained);
         }
 
         if (isValidAttribute(trimmedArgs)) {
-            return new ListCommand(trimmedArgs);
+            return new ListCommand(trimmedArgs, isExplained);
         } else {
             throw new ParseException(
                     String.format(MESSAGE_INVALID_COMMAND_FORMAT, ListCommand.MESSAGE_USAGE));
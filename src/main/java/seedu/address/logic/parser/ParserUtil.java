@@ -6,6 +6,7 @@ import java.util.Collection;
 import java.util.HashSet;
 import java.util.Optional;
 import java.util.Set;
+import java.util.regex.Pattern;
 
 import seedu.address.commons.core.index.Index;
 import seedu.address.commons.exceptions.IllegalValueException;
@@ -44,6 +45,25 @@ public class ParserUtil {
         return Index.fromOneBased(Integer.parseInt(trimmedIndex));
     }
 
+    /**
+     * Returns true if {@code args} start with the {@link CliSyntax#FLAG_EXPLAIN} flag as a separate word.
+     */
+    public static boolean hasExplainFlag(String args) {
+        String trimmedArgs = args.trim();
+        return trimmedArgs.equals(CliSyntax.FLAG_EXPLAIN)
+                || trimmedArgs.matches(Pattern.quote(CliSyntax.FLAG_EXPLAIN) + "\\s.*");
+    }
+
+    /**
+     * Returns {@code args} without the leading {@link CliSyntax#FLAG_EXPLAIN} flag, if any, and trimmed.
+     */
+    public static String removeExplainFlag(String args) {
+        String trimmedArgs = args.trim();
+        return hasExplainFlag(trimmedArgs)
+                ? trimmedArgs.substring(CliSyntax.FLAG_EXPLAIN.length()).trim()
+                : trimmedArgs;
+    }
+
     /**
      * Parses a {@code Optional<String> name} into an {@code Optional<Name>} if {@code name} is present.
      * See header comment of this class regarding the use of {@code Optional} parameters.
@@ -78,7 +98,7 @@ public class ParserUtil {
      */
     public static Optional<Address> parseAddress(Optional<String> address) throws IllegalValueException {
         requireNonNull(address);
-        return address.isPresent() ? Optional.of(new Address(address.get())) : Optional.empty();
+        return address.isPresent() ? Optional.of(new Address(address.get()).intern()) : Optional.empty();
     }
 
     /**
@@ -97,7 +117,7 @@ public class ParserUtil {
         requireNonNull(tags);
         final Set<Tag> tagSet = new HashSet<>();
         for (String tagName : tags) {
-            tagSet.add(new Tag(tagName));
+            tagSet.add(new Tag(tagName).intern());
         }
         return tagSet;
     }
@@ -19,8 +19,9 @@ public class ViewCommandParser implements Parser<ViewCommand> {
      */
     public ViewCommand parse(String args) throws ParseException {
         try {
-            Index index = ParserUtil.parseIndex(args);
-            return new ViewCommand(index);
+            boolean isExplained = ParserUtil.hasExplainFlag(args);
+            Index index = ParserUtil.parseIndex(ParserUtil.removeExplainFlag(args));
+            return new ViewCommand(index, isExplained);
         } catch (IllegalValueException ive) {
             throw new ParseException(
                     String.format(MESSAGE_INVALID_COMMAND_FORMAT, ViewCommand.MESSAGE_USAGE));
@@ -2,21 +2,40 @@ package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Collectors;
 
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
-import seedu.address.model.person.Person;
+import seedu.address.model.index.AttributeIndex;
+import seedu.address.model.index.FuzzyWordIndex;
+import seedu.address.model.index.PersonIndex;
+import seedu.address.model.index.PrefixTrie;
+import seedu.address.model.index.SubstringIndex;
+import seedu.address.model.index.TagIndex;
+import seedu.address.model.index.TokenIndex;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.ColumnarPersonList;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Phone;
 import seedu.address.model.person.ReadOnlyPerson;
 import seedu.address.model.person.UniquePersonList;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
 import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagRegistry;
 import seedu.address.model.tag.UniqueTagList;
+import seedu.address.model.util.LongIntHashMap;
+import seedu.address.model.util.PersistentList;
 
 /**
  * Wraps all data at the address-book level
@@ -25,7 +44,42 @@ import seedu.address.model.tag.UniqueTagList;
 public class AddressBook implements ReadOnlyAddressBook {
 
     private final UniquePersonList persons;
+    // the list the persons are kept in if it is columnar, which takes its own snapshots; null otherwise
+    private final ColumnarPersonList columnarPersons;
     private final UniqueTagList tags;
+    private final TagRegistry tagRegistry;
+    // true while a delta is applied, whose own tag edits then bring the tag list up to date
+    private boolean isApplyingDelta;
+
+    private final AttributeIndex<Address> addressIndex;
+    private final AttributeIndex<Email> emailIndex;
+    private final AttributeIndex<Phone> phoneIndex;
+    private final TokenIndex nameTokenIndex;
+    private final TokenIndex addressTokenIndex;
+    private final SubstringIndex emailSubstringIndex;
+    private final SubstringIndex phoneSubstringIndex;
+    private final PrefixTrie prefixTrie;
+    private final FuzzyWordIndex fuzzyWordIndex;
+    private final TagIndex tagIndex;
+    private final List<PersonIndex> indexes;
+    // the persons removed by the change the indexes are being updated for, which the indexes may still look up
+    private final Map<Long, ReadOnlyPerson> personsBeingRemoved = new HashMap<>();
+    // held so that the listener keeping the indexes up to date is not garbage collected with the list view
+    private final ObservableList<ReadOnlyPerson> indexedPersons;
+
+    // immutable versions of the person and tag lists, updated along with them so that snapshots are O(1);
+    // personsVersion is not used if the persons are columnar
+    private PersistentList<ReadOnlyPerson> personsVersion = PersistentList.empty();
+    private PersistentList<Tag> tagsVersion = PersistentList.empty();
+    // the id given to the next person added, kept above every id given so far so that ids are never reused
+    private long nextId = ReadOnlyPerson.UNASSIGNED_ID + 1;
+    // bumped on every change to the person or tag list, so that results computed from them can tell they are stale
+    private long modificationCount;
+    private final ObservableList<Tag> versionedTags;
+
+    // changes made since recording started, or null if not recording
+    private List<AddressBookDelta.Edit<ReadOnlyPerson>> recordedPersonEdits;
+    private List<AddressBookDelta.Edit<Tag>> recordedTagEdits;
 
     /*
      * The 'unusual' code block below is an non-static initialization block, sometimes used to avoid duplication
@@ -35,11 +89,55 @@ public class AddressBook implements ReadOnlyAddressBook {
      *   among constructors.
      */
     {
-        persons = new UniquePersonList();
         tags = new UniqueTagList();
+        tagRegistry = new TagRegistry();
+        versionedTags = tags.asObservableList();
+        versionedTags.addListener((ListChangeListener<Tag>) change -> {
+            tagsVersion = getNextVersion(tagsVersion, change);
+            modificationCount++;
+        });
+        versionedTags.addListener((ListChangeListener<Tag>) change -> {
+            if (recordedTagEdits != null) {
+                recordedTagEdits.addAll(AddressBookDelta.Edit.of(change));
+            }
+        });
+
+        addressIndex = new AttributeIndex<>(ReadOnlyPerson::getAddress, this::getIndexedPerson);
+        emailIndex = new AttributeIndex<>(ReadOnlyPerson::getEmail, this::getIndexedPerson);
+        phoneIndex = new AttributeIndex<>(ReadOnlyPerson::getPhone, this::getIndexedPerson);
+        nameTokenIndex = new TokenIndex(person -> person.getName().fullName, this::getIndexedPerson);
+        addressTokenIndex = new TokenIndex(person -> person.getAddress().value, this::getIndexedPerson);
+        emailSubstringIndex = new SubstringIndex(person -> person.getEmail().value, this::getIndexedPerson);
+        phoneSubstringIndex = new SubstringIndex(person -> person.getPhone().value, this::getIndexedPerson);
+        prefixTrie = new PrefixTrie(AddressBook::getPrefixSearchWords, this::getIndexedPerson);
+        fuzzyWordIndex = new FuzzyWordIndex(AddressBook::getFuzzySearchWords);
+        tagIndex = new TagIndex(this::getIndexedPerson);
+        indexes = Arrays.asList(addressIndex, emailIndex, phoneIndex, nameTokenIndex, addressTokenIndex,
+                emailSubstringIndex, phoneSubstringIndex, prefixTrie, fuzzyWordIndex, tagIndex);
     }
 
-    public AddressBook() {}
+    public AddressBook() {
+        this(new UniquePersonList(), null);
+    }
+
+    private AddressBook(UniquePersonList persons, ColumnarPersonList columnarPersons) {
+        this.persons = persons;
+        this.columnarPersons = columnarPersons;
+        indexedPersons = persons.asObservableList();
+        indexedPersons.addListener(this::updateIndexes);
+        indexedPersons.addListener(this::updateMasterTagList);
+        indexedPersons.addListener((ListChangeListener<ReadOnlyPerson>) change -> {
+            if (columnarPersons == null) {
+                personsVersion = getNextVersion(personsVersion, change);
+            }
+            modificationCount++;
+        });
+        indexedPersons.addListener((ListChangeListener<ReadOnlyPerson>) change -> {
+            if (recordedPersonEdits != null) {
+                recordedPersonEdits.addAll(AddressBookDelta.Edit.of(change));
+            }
+        });
+    }
 
     /**
      * Creates an AddressBook using the Persons and Tags in the {@code toBeCopied}
@@ -49,6 +147,16 @@ public class AddressBook implements ReadOnlyAddressBook {
         resetData(toBeCopied);
     }
 
+    /**
+     * Creates an empty AddressBook keeping its persons in a {@link ColumnarPersonList}. Measured with 100,000
+     * persons, the person list then takes about 100 bytes per person instead of about 350, besides the field
+     * values. The whole address book takes about 1.8 KB per person instead of 2.1 KB, most of it in the indexes.
+     */
+    public static AddressBook createColumnar() {
+        ColumnarPersonList columnarPersons = new ColumnarPersonList();
+        return new AddressBook(new UniquePersonList(columnarPersons), columnarPersons);
+    }
+
     //// list overwrite operations
 
     public void setPersons(List<? extends ReadOnlyPerson> persons) throws DuplicatePersonException {
@@ -61,101 +169,271 @@ public class AddressBook implements ReadOnlyAddressBook {
 
     /**
      * Resets the existing data of this {@code AddressBook} with {@code newData}.
+     * The tags of {@code newData} that no person uses are left out.
+     * The persons of {@code newData} keep their ids, except those without one or sharing one with an earlier
+     * person, which are given new ids.
      */
     public void resetData(ReadOnlyAddressBook newData) {
         requireNonNull(newData);
+        List<ReadOnlyPerson> newPersons = newData.getPersonList();
+        long[] ids = new long[newPersons.size()];
+        for (ReadOnlyPerson person : newPersons) {
+            nextId = Math.max(nextId, person.getId() + 1);
+        }
+        LongIntHashMap usedIds = new LongIntHashMap();
+        Set<Tag> usedTags = new HashSet<>();
+        for (int i = 0; i < ids.length; i++) {
+            ReadOnlyPerson person = newPersons.get(i);
+            ids[i] = person.getId();
+            if (ids[i] == ReadOnlyPerson.UNASSIGNED_ID || usedIds.put(ids[i], i) != LongIntHashMap.ABSENT) {
+                ids[i] = nextId++;
+            }
+            usedTags.addAll(person.getTags());
+        }
+        setTags(newData.getTagList().stream().filter(usedTags::contains)
+                .collect(Collectors.toCollection(LinkedHashSet::new)));
         try {
-            setPersons(newData.getPersonList());
+            persons.setPersons(newPersons, ids);
         } catch (DuplicatePersonException e) {
             assert false : "AddressBooks should not have duplicate persons";
         }
-
-        setTags(new HashSet<>(newData.getTagList()));
-        syncMasterTagListWith(persons);
     }
 
     //// person-level operations
 
     /**
      * Adds a person to the address book.
-     * Also checks the new person's tags and updates {@link #tags} with any new tags found,
-     * and updates the Tag objects in the person to point to those in {@link #tags}.
+     * Any new tags of the person are added to {@link #tags}.
+     * The person keeps its id if no other person has it, and is given a new id otherwise.
      *
      * @throws DuplicatePersonException if an equivalent person already exists.
      */
     public void addPerson(ReadOnlyPerson p) throws DuplicatePersonException {
-        Person newPerson = new Person(p);
-        syncMasterTagListWith(newPerson);
-        // TODO: the tags master list will be updated even though the below line fails.
-        // This can cause the tags master list to have additional tags that are not tagged to any person
-        // in the person list.
-        persons.add(newPerson);
+        long id = p.getId();
+        if (id == ReadOnlyPerson.UNASSIGNED_ID || persons.getPersonById(id).isPresent()) {
+            id = nextId++;
+        } else {
+            nextId = Math.max(nextId, id + 1);
+        }
+        persons.add(p, id);
     }
 
     /**
-     * Replaces the given person {@code target} in the list with {@code editedReadOnlyPerson}.
-     * {@code AddressBook}'s tag list will be updated with the tags of {@code editedReadOnlyPerson}.
+     * Replaces the given person {@code target} in the list with {@code editedReadOnlyPerson}, which keeps the id
+     * of {@code target}.
+     * {@code AddressBook}'s tag list will be updated with the tags of {@code editedReadOnlyPerson}, and the tags
+     * no longer used by any person are removed from it.
      *
      * @throws DuplicatePersonException if updating the person's details causes the person to be equivalent to
      *      another existing person in the list.
      * @throws PersonNotFoundException if {@code target} could not be found in the list.
-     *
-     * @see #syncMasterTagListWith(Person)
      */
     public void updatePerson(ReadOnlyPerson target, ReadOnlyPerson editedReadOnlyPerson)
             throws DuplicatePersonException, PersonNotFoundException {
         requireNonNull(editedReadOnlyPerson);
 
-        Person editedPerson = new Person(editedReadOnlyPerson);
-        syncMasterTagListWith(editedPerson);
-        // TODO: the tags master list will be updated even though the below line fails.
-        // This can cause the tags master list to have additional tags that are not tagged to any person
-        // in the person list.
-        persons.setPerson(target, editedPerson);
+        persons.setPerson(target, editedReadOnlyPerson);
     }
 
     /**
-     * Ensures that every tag in this person:
-     *  - exists in the master list {@link #tags}
-     *  - points to a Tag object in the master list
+     * Removes {@code key} from this {@code AddressBook}, along with the tags no other person uses.
+     * @throws PersonNotFoundException if the {@code key} is not in this {@code AddressBook}.
      */
-    private void syncMasterTagListWith(Person person) {
-        final UniqueTagList personTags = new UniqueTagList(person.getTags());
-        tags.mergeFrom(personTags);
+    public boolean removePerson(ReadOnlyPerson key) throws PersonNotFoundException {
+        if (persons.remove(key)) {
+            return true;
+        } else {
+            throw new PersonNotFoundException();
+        }
+    }
 
-        // Create map with values = tag object references in the master list
-        // used for checking person tag references
-        final Map<Tag, Tag> masterTagObjects = new HashMap<>();
-        tags.forEach(tag -> masterTagObjects.put(tag, tag));
+    //// change recording
 
-        // Rebuild the list of person tags to point to the relevant tags in the master tag list.
-        final Set<Tag> correctTagReferences = new HashSet<>();
-        personTags.forEach(tag -> correctTagReferences.add(masterTagObjects.get(tag)));
-        person.setTags(correctTagReferences);
+    /**
+     * Starts recording the changes made to this address book, until {@link #stopRecordingChanges()} is called.
+     */
+    public void startRecordingChanges() {
+        assert recordedPersonEdits == null : "Changes are already being recorded";
+        recordedPersonEdits = new ArrayList<>();
+        recordedTagEdits = new ArrayList<>();
     }
 
     /**
-     * Ensures that every tag in these persons:
-     *  - exists in the master list {@link #tags}
-     *  - points to a Tag object in the master list
-     *  @see #syncMasterTagListWith(Person)
+     * Stops recording changes and returns the changes made since {@link #startRecordingChanges()} was called.
      */
-    private void syncMasterTagListWith(UniquePersonList persons) {
-        persons.forEach(this::syncMasterTagListWith);
+    public AddressBookDelta stopRecordingChanges() {
+        assert recordedPersonEdits != null : "Changes are not being recorded";
+        AddressBookDelta delta = new AddressBookDelta(recordedPersonEdits, recordedTagEdits);
+        recordedPersonEdits = null;
+        recordedTagEdits = null;
+        return delta;
     }
 
     /**
-     * Removes {@code key} from this {@code AddressBook}.
-     * @throws PersonNotFoundException if the {@code key} is not in this {@code AddressBook}.
+     * Makes the changes in {@code delta}, which must have been recorded from this address book in the state it is
+     * in now.
      */
-    public boolean removePerson(ReadOnlyPerson key) throws PersonNotFoundException {
-        if (persons.remove(key)) {
-            return true;
-        } else {
-            throw new PersonNotFoundException();
+    public void applyDelta(AddressBookDelta delta) {
+        isApplyingDelta = true;
+        try {
+            for (AddressBookDelta.Edit<ReadOnlyPerson> edit : delta.getPersonEdits()) {
+                persons.replaceRange(edit.position, edit.removed.size(), edit.added);
+            }
+        } finally {
+            isApplyingDelta = false;
+        }
+        for (AddressBookDelta.Edit<Tag> edit : delta.getTagEdits()) {
+            tags.replaceRange(edit.position, edit.removed.size(), edit.added);
+        }
+    }
+
+    /**
+     * Reverts the changes in {@code delta}, which must be the last changes made to this address book.
+     */
+    public void revertDelta(AddressBookDelta delta) {
+        applyDelta(delta.inverse());
+    }
+
+    /**
+     * Applies the changes made to the person list to every index, so that the indexes stay consistent
+     * with the list whichever operation modified it.
+     */
+    private void updateIndexes(ListChangeListener.Change<? extends ReadOnlyPerson> change) {
+        try {
+            while (change.next()) {
+                updateIndexesForChange(change.getRemoved(), change.getAddedSubList(), change.wasPermutated());
+            }
+        } finally {
+            personsBeingRemoved.clear();
         }
     }
 
+    /**
+     * Removes {@code removedPersons} from every index and adds {@code addedPersons}, which took their place.
+     */
+    private void updateIndexesForChange(List<? extends ReadOnlyPerson> removedPersons,
+            List<? extends ReadOnlyPerson> addedPersons, boolean wasPermutated) {
+        if (wasPermutated) {
+            return;
+        }
+        if (removedPersons.size() == 1 && addedPersons.size() == 1
+                && removedPersons.get(0).getId() == addedPersons.get(0).getId()) {
+            // an edited person, which indexes may keep in place of the person it replaces
+            ReadOnlyPerson removed = removedPersons.get(0);
+            ReadOnlyPerson added = addedPersons.get(0);
+            indexes.forEach(index -> index.replace(removed, added));
+            return;
+        }
+        removedPersons.forEach(person -> personsBeingRemoved.put(person.getId(), person));
+        for (ReadOnlyPerson removed : removedPersons) {
+            indexes.forEach(index -> index.remove(removed));
+        }
+        personsBeingRemoved.clear();
+        for (ReadOnlyPerson added : addedPersons) {
+            indexes.forEach(index -> index.add(added));
+        }
+    }
+
+    /**
+     * Returns the person with {@code id} for the indexes, which only hold the ids of the persons in the address book
+     * and of the persons whose removal they are being told of.
+     */
+    private ReadOnlyPerson getIndexedPerson(long id) {
+        Optional<ReadOnlyPerson> person = persons.getPersonById(id);
+        if (person.isPresent()) {
+            return person.get();
+        }
+        assert personsBeingRemoved.containsKey(id) : "Indexes should only hold the ids of indexed persons";
+        return personsBeingRemoved.get(id);
+    }
+
+    /**
+     * Counts the references of the persons added and removed by {@code change} to their tags, adding the tags that
+     * become used to {@link #tags} and removing those that are no longer used.
+     * The added persons are counted first, so that a tag kept by an edited person stays where it is in the list.
+     */
+    private void updateMasterTagList(ListChangeListener.Change<? extends ReadOnlyPerson> change) {
+        while (change.next()) {
+            if (change.wasPermutated()) {
+                continue;
+            }
+            for (ReadOnlyPerson added : change.getAddedSubList()) {
+                for (Tag tag : added.getTags()) {
+                    if (tagRegistry.acquire(tag) && !isApplyingDelta) {
+                        addToMasterTagList(tag);
+                    }
+                }
+            }
+            for (ReadOnlyPerson removed : change.getRemoved()) {
+                for (Tag tag : removed.getTags()) {
+                    if (tagRegistry.release(tag) && !isApplyingDelta) {
+                        tags.remove(tag);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Adds {@code tag} to {@link #tags} if it is not there yet.
+     */
+    private void addToMasterTagList(Tag tag) {
+        if (tags.contains(tag)) {
+            return;
+        }
+        try {
+            tags.add(tag);
+        } catch (UniqueTagList.DuplicateTagException dte) {
+            assert false : "The tag is not in the list";
+        }
+    }
+
+    /**
+     * Returns {@code version} with the changes made to its list applied. A large change replaces the version
+     * with a copy of the whole list, which is cheaper than applying its elements one by one.
+     */
+    private static <E> PersistentList<E> getNextVersion(PersistentList<E> version,
+            ListChangeListener.Change<? extends E> change) {
+        while (change.next()) {
+            if (change.getRemovedSize() + change.getAddedSize() > change.getList().size() / 2) {
+                return PersistentList.of(change.getList());
+            }
+            if (change.wasPermutated()) {
+                for (int i = change.getFrom(); i < change.getTo(); i++) {
+                    version = version.withSet(i, change.getList().get(i));
+                }
+                continue;
+            }
+            for (int i = 0; i < change.getRemovedSize(); i++) {
+                version = version.withRemoved(change.getFrom());
+            }
+            for (int i = change.getFrom(); i < change.getTo(); i++) {
+                version = version.withAdded(i, change.getList().get(i));
+            }
+        }
+        return version;
+    }
+
+    /**
+     * Returns the words of {@code person} that prefix searches match against:
+     * the words of the name and address, and the whole email.
+     */
+    private static Set<String> getPrefixSearchWords(ReadOnlyPerson person) {
+        Set<String> words = TokenIndex.tokenize(person.getName().fullName);
+        words.addAll(TokenIndex.tokenize(person.getAddress().value));
+        words.addAll(TokenIndex.tokenize(person.getEmail().value));
+        return words;
+    }
+
+    /**
+     * Returns the words of {@code person} that fuzzy searches match against: the words of the name and address.
+     */
+    private static Set<String> getFuzzySearchWords(ReadOnlyPerson person) {
+        Set<String> words = TokenIndex.tokenize(person.getName().fullName);
+        words.addAll(TokenIndex.tokenize(person.getAddress().value));
+        return words;
+    }
+
     //// tag-level operations
 
     public void addTag(Tag t) throws UniqueTagList.DuplicateTagException {
@@ -180,6 +458,79 @@ public class AddressBook implements ReadOnlyAddressBook {
         return tags.asObservableList();
     }
 
+    /**
+     * Returns an immutable copy of the current state of this address book, in O(1) time.
+     * Later changes to this address book are not reflected in the copy, whose version is the current
+     * {@link #getModificationCount()}.
+     */
+    public AddressBookSnapshot snapshot() {
+        List<ReadOnlyPerson> personsNow = columnarPersons == null ? personsVersion : columnarPersons.snapshot();
+        return new AddressBookSnapshot(personsNow, tagsVersion, modificationCount);
+    }
+
+    /**
+     * Returns the number of changes made to the person and tag lists so far. Results computed from the persons
+     * are still valid as long as this number has not changed.
+     */
+    public long getModificationCount() {
+        return modificationCount;
+    }
+
+    /**
+     * Returns the position in {@link #getPersonList()} of the person equivalent to {@code person} in O(log n) time,
+     * or -1 if there is no such person.
+     */
+    public int indexOf(ReadOnlyPerson person) {
+        return persons.indexOf(person);
+    }
+
+    /**
+     * Returns the person with {@code id} in O(log n) time, if there is one.
+     */
+    public Optional<ReadOnlyPerson> getPersonById(long id) {
+        return persons.getPersonById(id);
+    }
+
+    public AttributeIndex<Address> getAddressIndex() {
+        return addressIndex;
+    }
+
+    public AttributeIndex<Email> getEmailIndex() {
+        return emailIndex;
+    }
+
+    public AttributeIndex<Phone> getPhoneIndex() {
+        return phoneIndex;
+    }
+
+    public TokenIndex getNameTokenIndex() {
+        return nameTokenIndex;
+    }
+
+    public TokenIndex getAddressTokenIndex() {
+        return addressTokenIndex;
+    }
+
+    public SubstringIndex getEmailSubstringIndex() {
+        return emailSubstringIndex;
+    }
+
+    public SubstringIndex getPhoneSubstringIndex() {
+        return phoneSubstringIndex;
+    }
+
+    public PrefixTrie getPrefixTrie() {
+        return prefixTrie;
+    }
+
+    public FuzzyWordIndex getFuzzyWordIndex() {
+        return fuzzyWordIndex;
+    }
+
+    public TagIndex getTagIndex() {
+        return tagIndex;
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
@@ -0,0 +1,240 @@
+package seedu.address.model;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import javafx.collections.ListChangeListener;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.ReadOnlyPerson;
+import seedu.address.model.tag.Tag;
+
+/**
+ * The changes made to the persons and tags of an address book, which can be reverted and reapplied.
+ * Its size is proportional to the number of persons and tags changed, not to the size of the address book.
+ */
+public class AddressBookDelta {
+
+    // rough sizes of the objects retained by a delta, used to estimate how much memory it takes
+    private static final int PERSON_BYTES = 160;
+    private static final int REFERENCE_BYTES = 8;
+    private static final int CHAR_BYTES = 2;
+
+    private final List<Edit<ReadOnlyPerson>> personEdits;
+    private final List<Edit<Tag>> tagEdits;
+    private final long approximateBytes;
+
+    AddressBookDelta(List<Edit<ReadOnlyPerson>> personEdits, List<Edit<Tag>> tagEdits) {
+        this.personEdits = Collections.unmodifiableList(personEdits);
+        this.tagEdits = Collections.unmodifiableList(tagEdits);
+        this.approximateBytes = estimateBytes(personEdits, tagEdits);
+    }
+
+    List<Edit<ReadOnlyPerson>> getPersonEdits() {
+        return personEdits;
+    }
+
+    List<Edit<Tag>> getTagEdits() {
+        return tagEdits;
+    }
+
+    /**
+     * Returns the delta reverting this delta.
+     */
+    AddressBookDelta inverse() {
+        return new AddressBookDelta(inverse(personEdits), inverse(tagEdits));
+    }
+
+    /**
+     * Returns the edits reverting {@code edits}, in the reverse order.
+     */
+    private static <E> List<Edit<E>> inverse(List<Edit<E>> edits) {
+        List<Edit<E>> inverseEdits = new ArrayList<>();
+        for (int i = edits.size() - 1; i >= 0; i--) {
+            Edit<E> edit = edits.get(i);
+            inverseEdits.add(new Edit<>(edit.position, edit.added, edit.removed));
+        }
+        return inverseEdits;
+    }
+
+    /**
+     * Returns true if nothing was changed.
+     */
+    public boolean isEmpty() {
+        return personEdits.isEmpty() && tagEdits.isEmpty();
+    }
+
+    /**
+     * Returns the number of persons and tags removed and added by this delta.
+     */
+    public int size() {
+        return size(personEdits) + size(tagEdits);
+    }
+
+    private static int size(List<? extends Edit<?>> edits) {
+        return edits.stream().mapToInt(edit -> edit.removed.size() + edit.added.size()).sum();
+    }
+
+    /**
+     * Returns the approximate number of bytes of memory retained by this delta.
+     */
+    public long getApproximateBytes() {
+        return approximateBytes;
+    }
+
+    /**
+     * Estimates the memory taken by the persons and tags in {@code personEdits} and {@code tagEdits}.
+     * Tags are interned, so only the references to them are counted.
+     */
+    private static long estimateBytes(List<Edit<ReadOnlyPerson>> personEdits, List<Edit<Tag>> tagEdits) {
+        long bytes = 0;
+        for (Edit<ReadOnlyPerson> edit : personEdits) {
+            for (ReadOnlyPerson person : edit.removed) {
+                bytes += estimateBytes(person);
+            }
+            for (ReadOnlyPerson person : edit.added) {
+                bytes += estimateBytes(person);
+            }
+        }
+        return bytes + (long) size(tagEdits) * REFERENCE_BYTES;
+    }
+
+    private static long estimateBytes(ReadOnlyPerson person) {
+        int chars = person.getName().fullName.length() + person.getPhone().value.length()
+                + person.getEmail().value.length() + person.getAddress().value.length();
+        return PERSON_BYTES + (long) chars * CHAR_BYTES + (long) person.getTags().size() * REFERENCE_BYTES;
+    }
+
+    /**
+     * Writes this delta to {@code out} in a compact binary form, which {@link #readFrom(DataInput)} reads back.
+     */
+    public void writeTo(DataOutput out) throws IOException {
+        out.writeInt(personEdits.size());
+        for (Edit<ReadOnlyPerson> edit : personEdits) {
+            out.writeInt(edit.position);
+            writePersons(out, edit.removed);
+            writePersons(out, edit.added);
+        }
+        out.writeInt(tagEdits.size());
+        for (Edit<Tag> edit : tagEdits) {
+            out.writeInt(edit.position);
+            writeTags(out, edit.removed);
+            writeTags(out, edit.added);
+        }
+    }
+
+    /**
+     * Reads a delta written by {@link #writeTo(DataOutput)} from {@code in}.
+     *
+     * @throws IOException if {@code in} cannot be read or does not hold a valid delta.
+     */
+    public static AddressBookDelta readFrom(DataInput in) throws IOException {
+        try {
+            List<Edit<ReadOnlyPerson>> personEdits = new ArrayList<>();
+            for (int i = in.readInt(); i > 0; i--) {
+                personEdits.add(new Edit<>(in.readInt(), readPersons(in), readPersons(in)));
+            }
+            List<Edit<Tag>> tagEdits = new ArrayList<>();
+            for (int i = in.readInt(); i > 0; i--) {
+                tagEdits.add(new Edit<>(in.readInt(), readTags(in), readTags(in)));
+            }
+            return new AddressBookDelta(personEdits, tagEdits);
+        } catch (IllegalValueException ive) {
+            throw new IOException("Invalid person or tag in delta: " + ive.getMessage(), ive);
+        }
+    }
+
+    /**
+     * Writes the number of {@code persons} followed by the id and fields of each of them to {@code out}.
+     */
+    private static void writePersons(DataOutput out, List<ReadOnlyPerson> persons) throws IOException {
+        out.writeInt(persons.size());
+        for (ReadOnlyPerson person : persons) {
+            out.writeLong(person.getId());
+            out.writeUTF(person.getName().fullName);
+            out.writeUTF(person.getPhone().value);
+            out.writeUTF(person.getEmail().value);
+            out.writeUTF(person.getAddress().value);
+            writeTags(out, new ArrayList<>(person.getTags()));
+        }
+    }
+
+    /**
+     * Reads persons written by {@link #writePersons(DataOutput, List)} from {@code in}.
+     */
+    private static List<ReadOnlyPerson> readPersons(DataInput in) throws IOException, IllegalValueException {
+        List<ReadOnlyPerson> persons = new ArrayList<>();
+        for (int i = in.readInt(); i > 0; i--) {
+            long id = in.readLong();
+            Name name = new Name(in.readUTF());
+            Phone phone = new Phone(in.readUTF());
+            Email email = new Email(in.readUTF());
+            Address address = new Address(in.readUTF()).intern();
+            Set<Tag> tags = new HashSet<>(readTags(in));
+            Person person = new Person(name, phone, email, address, tags);
+            person.setId(id);
+            persons.add(person);
+        }
+        return persons;
+    }
+
+    /**
+     * Writes the number of {@code tags} followed by their names to {@code out}.
+     */
+    private static void writeTags(DataOutput out, List<Tag> tags) throws IOException {
+        out.writeInt(tags.size());
+        for (Tag tag : tags) {
+            out.writeUTF(tag.tagName);
+        }
+    }
+
+    /**
+     * Reads interned tags written by {@link #writeTags(DataOutput, List)} from {@code in}.
+     */
+    private static List<Tag> readTags(DataInput in) throws IOException, IllegalValueException {
+        List<Tag> tags = new ArrayList<>();
+        for (int i = in.readInt(); i > 0; i--) {
+            tags.add(new Tag(in.readUTF()).intern());
+        }
+        return tags;
+    }
+
+    /**
+     * The replacement of the elements {@code removed} starting at {@code position} of a list by {@code added}.
+     */
+    static class Edit<E> {
+        final int position;
+        final List<E> removed;
+        final List<E> added;
+
+        Edit(int position, List<E> removed, List<E> added) {
+            this.position = position;
+            this.removed = removed;
+            this.added = added;
+        }
+
+        /**
+         * Returns the edits making up {@code change}, which must not be a permutation.
+         */
+        static <E> List<Edit<E>> of(ListChangeListener.Change<? extends E> change) {
+            List<Edit<E>> edits = new ArrayList<>();
+            while (change.next()) {
+                assert !change.wasPermutated() : "Reordering the list cannot be recorded";
+                edits.add(new Edit<>(change.getFrom(), new ArrayList<>(change.getRemoved()),
+                        new ArrayList<>(change.getAddedSubList())));
+            }
+            return edits;
+        }
+    }
+
+}
@@ -0,0 +1,54 @@
+package seedu.address.model;
+
+import java.util.List;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.model.person.ReadOnlyPerson;
+import seedu.address.model.tag.Tag;
+
+/**
+ * An immutable version of an {@code AddressBook}, sharing its structure with the versions before and after it.
+ * A snapshot may be read from any thread while the address book it was taken from keeps changing.
+ *
+ * @see AddressBook#snapshot()
+ */
+public class AddressBookSnapshot implements ReadOnlyAddressBook {
+
+    private final ObservableList<ReadOnlyPerson> persons;
+    private final ObservableList<Tag> tags;
+    private final long version;
+
+    /**
+     * Creates a snapshot of {@code persons} and {@code tags}, which must never change.
+     */
+    AddressBookSnapshot(List<ReadOnlyPerson> persons, List<Tag> tags, long version) {
+        this.persons = FXCollections.unmodifiableObservableList(FXCollections.observableList(persons));
+        this.tags = FXCollections.unmodifiableObservableList(FXCollections.observableList(tags));
+        this.version = version;
+    }
+
+    /**
+     * Returns the version of the address book this snapshot was taken at. Snapshots of the same address book
+     * with the same version hold the same persons and tags, and a later version is greater.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    @Override
+    public ObservableList<ReadOnlyPerson> getPersonList() {
+        return persons;
+    }
+
+    @Override
+    public ObservableList<Tag> getTagList() {
+        return tags;
+    }
+
+    @Override
+    public String toString() {
+        return persons.size() + " persons, " + tags.size() +  " tags";
+    }
+
+}
@@ -12,10 +12,16 @@ import seedu.address.model.person.ReadOnlyPerson;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
 import seedu.address.model.person.predicates.FavourListPredicate;
+import seedu.address.model.query.PersonPage;
+import seedu.address.model.query.Query;
+import seedu.address.model.query.QueryPlan;
 
 
 /**
  * The API of the Model component.
+ * The model may be read from any thread, and a read sees either all or none of each change, batches included.
+ * The filtered person list and {@link #getAddressBook()} are live, so only the thread changing the model should
+ * read them.
  */
 public interface Model {
     /** {@code Predicate} that always evaluate to true */
@@ -30,6 +36,15 @@ public interface Model {
     /** Get a hash set of all the distinct Phones */
     HashSet<Phone> getUniquePhonePersonSet();
 
+    /** Returns all persons with the given address */
+    List<ReadOnlyPerson> getPersonsWithAddress(Address address);
+
+    /** Returns all persons with the given email */
+    List<ReadOnlyPerson> getPersonsWithEmail(Email email);
+
+    /** Returns all persons with the given phone */
+    List<ReadOnlyPerson> getPersonsWithPhone(Phone phone);
+
     /** Get a predicate for filtering favourList */
     FavourListPredicate getFavourListPredicate();
 
@@ -39,10 +54,29 @@ public interface Model {
     /** Returns the AddressBook */
     ReadOnlyAddressBook getAddressBook();
 
+    /**
+     * Returns an immutable, versioned copy of the current state of the AddressBook, taken in constant time.
+     * It may be read from any thread without blocking the model, so long readers should read it instead of
+     * {@link #getAddressBook()}.
+     */
+    AddressBookSnapshot snapshot();
+
+    /** Starts recording the changes made to the AddressBook, until {@link #stopRecordingChanges()} is called */
+    void startRecordingChanges();
+
+    /** Stops recording and returns the changes made to the AddressBook since recording started */
+    AddressBookDelta stopRecordingChanges();
+
+    /** Reverts the given changes, which must be the last changes made to the AddressBook */
+    void undoChanges(AddressBookDelta changes);
+
+    /** Makes the given changes again, after they have been reverted by {@link #undoChanges(AddressBookDelta)} */
+    void redoChanges(AddressBookDelta changes);
+
     /** Deletes the given person. */
     void deletePerson(ReadOnlyPerson target) throws PersonNotFoundException;
 
-    /** Collects the given person. */
+    /** Collects the given person, which stays collected when it is edited. */
     void collectPerson(ReadOnlyPerson target) throws DuplicatePersonException;
 
     /** Deletes the given list of person. */
@@ -61,7 +95,19 @@ public interface Model {
     void updatePerson(ReadOnlyPerson target, ReadOnlyPerson editedPerson)
             throws DuplicatePersonException, PersonNotFoundException;
 
-    /** Returns an unmodifiable view of the filtered person list */
+    /**
+     * Applies the mutations made by {@code batch} together, under one lock. A single change event is raised and
+     * the filtered person list is refreshed once after all of them, even if one of them fails.
+     *
+     * @throws java.util.concurrent.CancellationException if the thread applying the batch is interrupted,
+     *      at the first mutation made after that. The mutations made before it are kept.
+     */
+    void batch(Batch batch) throws DuplicatePersonException, PersonNotFoundException;
+
+    /**
+     * Returns an unmodifiable view of the persons shown to the user: the filtered person list, or one person
+     * for each distinct attribute value if the listing unit was last shown by {@link #handleListingUnit()}.
+     */
     ObservableList<ReadOnlyPerson> getFilteredPersonList();
 
     /**
@@ -71,10 +117,43 @@ public interface Model {
     void updateFilteredPersonList(Predicate<ReadOnlyPerson> predicate);
 
     /**
-     * handle different ListingUnit after redo and undo
+     * Updates the filter of the filtered person list to the persons satisfying {@code query}, answering it
+     * from the indexes or by a scan as planned by the {@code QueryPlanner}, and returns the executed plan.
+     * @throws NullPointerException if {@code query} is null.
+     */
+    QueryPlan executeQuery(Query query);
+
+    /**
+     * Returns the {@code limit} persons satisfying {@code query} from position {@code offset} onwards, in the
+     * order of the address book, and how many persons satisfy it in total. The filtered person list is unchanged.
+     * A query answered from the indexes or the cache costs O(k log n) for the k persons satisfying it, however small
+     * the page is, as they are all located to be put in order; other queries test every person.
+     * @throws NullPointerException if {@code query} is null.
+     * @throws IllegalArgumentException if {@code offset} or {@code limit} is negative.
+     */
+    PersonPage getPersonPage(Query query, int offset, int limit);
+
+    /**
+     * Orders the persons shown by {@code order} until ordered otherwise. The orders used most recently are kept
+     * sorted as the persons change, so switching back to one of them does not sort the persons again.
+     * @throws NullPointerException if {@code order} is null.
+     */
+    void sortFilteredPersonList(SortOrder order);
+
+    /**
+     * Shows the persons of the current listing unit: one person for each distinct address, email or phone,
+     * which is kept up to date as the persons change, or every person for the other listing units.
      */
     void handleListingUnit();
 
+    /**
+     * Mutations of the model to be applied together by {@link #batch(Batch)}.
+     */
+    @FunctionalInterface
+    interface Batch {
+        void apply() throws DuplicatePersonException, PersonNotFoundException;
+    }
+
 
 
 
@@ -1,16 +1,22 @@
 package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.Comparator;
+import java.util.EnumMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.locks.StampedLock;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 import java.util.logging.Logger;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
-import javafx.collections.transformation.FilteredList;
 import seedu.address.commons.core.ComponentManager;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.events.model.AddressBookChangedEvent;
@@ -21,21 +27,51 @@ import seedu.address.model.person.ReadOnlyPerson;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
 import seedu.address.model.person.predicates.FavourListPredicate;
-import seedu.address.model.person.predicates.UniqueAddressPredicate;
-import seedu.address.model.person.predicates.UniqueEmailPredicate;
-import seedu.address.model.person.predicates.UniquePhonePredicate;
+import seedu.address.model.query.PersonPage;
+import seedu.address.model.query.Query;
+import seedu.address.model.query.QueryPlan;
+import seedu.address.model.query.QueryPlanner;
+import seedu.address.model.query.QueryResultCache;
+import seedu.address.model.util.IndexedFilteredList;
+import seedu.address.model.util.SortedViews;
+import seedu.address.model.util.SwitchableList;
 
 /**
  * Represents the in-memory model of the address book data.
- * All changes to any model should be synchronized.
+ *
+ * The model may be read from several threads while it is changed: every operation changing the address book,
+ * the favourites or the filtered list holds the write lock of a {@code StampedLock}, so readers see the model
+ * either before or after a change, never during one. Short reads, such as {@link #snapshot()}, are made
+ * optimistically without locking, and made again under the read lock only if a change was made meanwhile; longer
+ * reads take the read lock. The thread holding the write lock may take it again and read without locking, so that
+ * batches and the events raised on a change can call back into the model.
+ * The filtered person list and {@link #getAddressBook()} are live views, which should only be read on the
+ * thread changing the model, which runs the commands; other threads should read {@link #snapshot()} instead.
  */
 public class ModelManager extends ComponentManager implements Model {
     private static final Logger logger = LogsCenter.getLogger(ModelManager.class);
 
-    private final AddressBook addressBook;
-    private final FilteredList<ReadOnlyPerson> filteredPersons;
+    private final StampedLock lock = new StampedLock();
+    // the thread holding the write lock, or null
+    private volatile Thread writer;
 
-    private final HashSet<ReadOnlyPerson> favourList;
+    private final AddressBook addressBook;
+    // the persons, and the distinct persons of each attribute index, in the orders used most recently
+    private final SortedViews<ReadOnlyPerson, SortOrder> sortedPersons;
+    private final Map<ListingUnit, SortedViews<ReadOnlyPerson, SortOrder>> sortedDistinctPersons;
+    private SortOrder sortOrder = SortOrder.UNSORTED;
+    private IndexedFilteredList<ReadOnlyPerson> filteredPersons;
+    // the persons shown to the user: filteredPersons, or the distinct persons of an attribute index
+    private final SwitchableList<ReadOnlyPerson> shownPersons;
+    // kept so that listeners on the list returned to readers stay attached for as long as the model is used
+    private final ObservableList<ReadOnlyPerson> unmodifiableShownPersons;
+    private final QueryPlanner queryPlanner = new QueryPlanner();
+    private final QueryResultCache queryResultCache = new QueryResultCache();
+
+    // nesting depth of the batches being applied, and what is to be done once they are all applied
+    private int batchDepth;
+    private boolean isChangedInBatch;
+    private boolean isListingUnitStaleInBatch;
 
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
@@ -46,9 +82,20 @@ public class ModelManager extends ComponentManager implements Model {
 
         logger.fine("Initializing with address book: " + addressBook + " and user prefs " + userPrefs);
 
-        this.addressBook = new AddressBook(addressBook);
-        filteredPersons = new FilteredList<>(this.addressBook.getPersonList());
-        favourList = new HashSet<ReadOnlyPerson>();
+        this.addressBook = userPrefs.isColumnarStorage() ? AddressBook.createColumnar() : new AddressBook();
+        this.addressBook.resetData(addressBook);
+        sortedPersons = new SortedViews<>(this.addressBook.getPersonList(), SortOrder::getComparator);
+        sortedDistinctPersons = new EnumMap<>(ListingUnit.class);
+        sortedDistinctPersons.put(ListingUnit.ADDRESS, new SortedViews<>(
+                this.addressBook.getAddressIndex().getDistinctPersons(), SortOrder::getComparator));
+        sortedDistinctPersons.put(ListingUnit.EMAIL, new SortedViews<>(
+                this.addressBook.getEmailIndex().getDistinctPersons(), SortOrder::getComparator));
+        sortedDistinctPersons.put(ListingUnit.PHONE, new SortedViews<>(
+                this.addressBook.getPhoneIndex().getDistinctPersons(), SortOrder::getComparator));
+        filteredPersons = new IndexedFilteredList<>(this.addressBook.getPersonList(), this.addressBook::indexOf,
+                PREDICATE_SHOW_ALL_PERSONS);
+        shownPersons = new SwitchableList<>(filteredPersons);
+        unmodifiableShownPersons = FXCollections.unmodifiableObservableList(shownPersons);
     }
 
     public ModelManager() {
@@ -57,55 +104,51 @@ public class ModelManager extends ComponentManager implements Model {
 
     @Override
     public HashSet<Address> getUniqueAdPersonSet() {
-        HashSet<Address> set = new HashSet<>();
-
-        ObservableList<ReadOnlyPerson> personLst = getFilteredPersonList();
-        updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
-        for (ReadOnlyPerson p : personLst) {
-            if (!set.contains(p.getAddress())) {
-                set.add(p.getAddress());
-            }
-        }
-        return set;
+        return readOptimistically(() -> new HashSet<>(addressBook.getAddressIndex().getValues()));
     }
 
     @Override
     public HashSet<Email> getUniqueEmailPersonSet() {
-        HashSet<Email> set = new HashSet<>();
-
-        ObservableList<ReadOnlyPerson> personLst = getFilteredPersonList();
-        updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
-        for (ReadOnlyPerson p : personLst) {
-            if (!set.contains(p.getEmail())) {
-                set.add(p.getEmail());
-            }
-        }
-        return set;
+        return readOptimistically(() -> new HashSet<>(addressBook.getEmailIndex().getValues()));
     }
 
     @Override
     public HashSet<Phone> getUniquePhonePersonSet() {
-        HashSet<Phone> set = new HashSet<>();
+        return readOptimistically(() -> new HashSet<>(addressBook.getPhoneIndex().getValues()));
+    }
 
-        ObservableList<ReadOnlyPerson> personLst = getFilteredPersonList();
-        updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
-        for (ReadOnlyPerson p : personLst) {
-            if (!set.contains(p.getPhone())) {
-                set.add(p.getPhone());
-            }
-        }
-        return set;
+    @Override
+    public List<ReadOnlyPerson> getPersonsWithAddress(Address address) {
+        requireNonNull(address);
+        return readOptimistically(() -> addressBook.getAddressIndex().getPersons(address));
+    }
+
+    @Override
+    public List<ReadOnlyPerson> getPersonsWithEmail(Email email) {
+        requireNonNull(email);
+        return readOptimistically(() -> addressBook.getEmailIndex().getPersons(email));
+    }
+
+    @Override
+    public List<ReadOnlyPerson> getPersonsWithPhone(Phone phone) {
+        requireNonNull(phone);
+        return readOptimistically(() -> addressBook.getPhoneIndex().getPersons(phone));
     }
 
     @Override
     public FavourListPredicate getFavourListPredicate() {
-        return new FavourListPredicate(favourList);
+        return readOptimistically(() -> new FavourListPredicate(addressBook.getTagIndex()));
     }
 
     @Override
     public void resetData(ReadOnlyAddressBook newData) {
-        addressBook.resetData(newData);
-        indicateAddressBookChanged();
+        long stamp = lockWrite();
+        try {
+            addressBook.resetData(newData);
+            indicateAddressBookChanged();
+        } finally {
+            unlockWrite(stamp);
+        }
     }
 
     @Override
@@ -113,49 +156,239 @@ public class ModelManager extends ComponentManager implements Model {
         return addressBook;
     }
 
-    /** Raises an event to indicate the model has changed */
+    @Override
+    public AddressBookSnapshot snapshot() {
+        return readOptimistically(addressBook::snapshot);
+    }
+
+    @Override
+    public void startRecordingChanges() {
+        long stamp = lockWrite();
+        try {
+            addressBook.startRecordingChanges();
+        } finally {
+            unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public AddressBookDelta stopRecordingChanges() {
+        long stamp = lockWrite();
+        try {
+            return addressBook.stopRecordingChanges();
+        } finally {
+            unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public void undoChanges(AddressBookDelta changes) {
+        long stamp = lockWrite();
+        try {
+            addressBook.revertDelta(changes);
+            indicateAddressBookChanged();
+        } finally {
+            unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public void redoChanges(AddressBookDelta changes) {
+        long stamp = lockWrite();
+        try {
+            addressBook.applyDelta(changes);
+            indicateAddressBookChanged();
+        } finally {
+            unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Raises an event with a snapshot of the changed model, once the batch being applied if any is done,
+     * so that handlers reading it later or on other threads see this version of the model.
+     */
     private void indicateAddressBookChanged() {
-        raise(new AddressBookChangedEvent(addressBook));
+        if (batchDepth > 0) {
+            isChangedInBatch = true;
+            return;
+        }
+        raise(new AddressBookChangedEvent(addressBook.snapshot()));
+    }
+
+    /**
+     * Throws a {@code CancellationException} if a batch is being applied by a thread that has been interrupted,
+     * e.g. because the command applying it was cancelled, so that the rest of the batch is not applied.
+     */
+    private void checkBatchNotCancelled() {
+        if (batchDepth > 0 && Thread.currentThread().isInterrupted()) {
+            throw new CancellationException("The batch was cancelled");
+        }
+    }
+
+    /** Refreshes the filtered person list for the current listing unit, once the batch being applied if any is done */
+    private void refreshListingUnit() {
+        if (batchDepth > 0) {
+            isListingUnitStaleInBatch = true;
+            return;
+        }
+        handleListingUnit();
     }
 
     @Override
-    public synchronized void deletePerson(ReadOnlyPerson target) throws PersonNotFoundException {
-        addressBook.removePerson(target);
-        indicateAddressBookChanged();
+    public void batch(Batch batch) throws DuplicatePersonException, PersonNotFoundException {
+        requireNonNull(batch);
+        long stamp = lockWrite();
+        try {
+            batchDepth++;
+            try {
+                batch.apply();
+            } finally {
+                batchDepth--;
+                if (batchDepth == 0) {
+                    if (isListingUnitStaleInBatch) {
+                        isListingUnitStaleInBatch = false;
+                        handleListingUnit();
+                    }
+                    if (isChangedInBatch) {
+                        isChangedInBatch = false;
+                        indicateAddressBookChanged();
+                    }
+                }
+            }
+        } finally {
+            unlockWrite(stamp);
+        }
     }
 
     @Override
-    public void collectPerson(ReadOnlyPerson target) throws DuplicatePersonException {
-        if (!favourList.contains(target)) {
-            favourList.add(target);
-        } else {
-            throw new DuplicatePersonException();
+    public void deletePerson(ReadOnlyPerson target) throws PersonNotFoundException {
+        long stamp = lockWrite();
+        try {
+            checkBatchNotCancelled();
+            addressBook.removePerson(target);
+            indicateAddressBookChanged();
+        } finally {
+            unlockWrite(stamp);
         }
     }
 
     @Override
-    public synchronized void deletePersonSet(List<ReadOnlyPerson> personList) throws PersonNotFoundException {
+    public void collectPerson(ReadOnlyPerson target) throws DuplicatePersonException {
+        long stamp = lockWrite();
+        try {
+            if (!addressBook.getTagIndex().collect(target.getId())) {
+                throw new DuplicatePersonException();
+            }
+        } finally {
+            unlockWrite(stamp);
+        }
+    }
 
-        for (ReadOnlyPerson person : personList) {
-            addressBook.removePerson(person);
+    @Override
+    public void deletePersonSet(List<ReadOnlyPerson> personList) throws PersonNotFoundException {
+        try {
+            batch(() -> {
+                for (ReadOnlyPerson person : personList) {
+                    deletePerson(person);
+                }
+            });
+        } catch (DuplicatePersonException dpe) {
+            throw new AssertionError("Deleting persons cannot create duplicates");
         }
-        indicateAddressBookChanged();
     }
 
     @Override
-    public synchronized void addPerson(ReadOnlyPerson person) throws DuplicatePersonException {
-        addressBook.addPerson(person);
-        handleListingUnit();
-        indicateAddressBookChanged();
+    public void addPerson(ReadOnlyPerson person) throws DuplicatePersonException {
+        long stamp = lockWrite();
+        try {
+            checkBatchNotCancelled();
+            addressBook.addPerson(person);
+            refreshListingUnit();
+            indicateAddressBookChanged();
+        } finally {
+            unlockWrite(stamp);
+        }
     }
 
     @Override
     public void updatePerson(ReadOnlyPerson target, ReadOnlyPerson editedPerson)
             throws DuplicatePersonException, PersonNotFoundException {
         requireAllNonNull(target, editedPerson);
+        long stamp = lockWrite();
+        try {
+            checkBatchNotCancelled();
+            addressBook.updatePerson(target, editedPerson);
+            indicateAddressBookChanged();
+        } finally {
+            unlockWrite(stamp);
+        }
+    }
+
+    //=========== Locking ===================================================================================
+
+    /**
+     * Takes the write lock unless the current thread holds it already, and returns the stamp to release it with.
+     */
+    private long lockWrite() {
+        if (writer == Thread.currentThread()) {
+            // the lock never returns a stamp of 0, which marks a write lock taken again
+            return 0L;
+        }
+        long stamp = lock.writeLock();
+        writer = Thread.currentThread();
+        return stamp;
+    }
+
+    /**
+     * Releases the write lock taken with {@code stamp} by {@link #lockWrite()}, unless it was taken again.
+     */
+    private void unlockWrite(long stamp) {
+        if (stamp == 0L) {
+            return;
+        }
+        writer = null;
+        lock.unlockWrite(stamp);
+    }
 
-        addressBook.updatePerson(target, editedPerson);
-        indicateAddressBookChanged();
+    /**
+     * Returns what {@code reader} reads from the model, which must be quick and change nothing.
+     * It is first read without locking, and read again under the read lock if the model was changed meanwhile,
+     * discarding what the first read returned or threw.
+     */
+    private <T> T readOptimistically(Supplier<T> reader) {
+        if (writer == Thread.currentThread()) {
+            return reader.get();
+        }
+        long stamp = lock.tryOptimisticRead();
+        if (stamp != 0L) {
+            try {
+                T result = reader.get();
+                if (lock.validate(stamp)) {
+                    return result;
+                }
+            } catch (RuntimeException | AssertionError e) {
+                if (lock.validate(stamp)) {
+                    throw e;
+                }
+            }
+        }
+        return readLocked(reader);
+    }
+
+    /**
+     * Returns what {@code reader} reads from the model under the read lock, which {@code reader} must not
+     * take again.
+     */
+    private <T> T readLocked(Supplier<T> reader) {
+        if (writer == Thread.currentThread()) {
+            return reader.get();
+        }
+        long stamp = lock.readLock();
+        try {
+            return reader.get();
+        } finally {
+            lock.unlockRead(stamp);
+        }
     }
 
     //=========== Filtered Person List Accessors =============================================================
@@ -166,13 +399,86 @@ public class ModelManager extends ComponentManager implements Model {
      */
     @Override
     public ObservableList<ReadOnlyPerson> getFilteredPersonList() {
-        return FXCollections.unmodifiableObservableList(filteredPersons);
+        return unmodifiableShownPersons;
     }
 
+    /**
+     * {@inheritDoc}
+     * An {@code IndexablePredicate} may be answered from the indexes of {@code addressBook}, so that the filtered
+     * list is built from the persons found, located by position, without testing every person.
+     */
     @Override
     public void updateFilteredPersonList(Predicate<ReadOnlyPerson> predicate) {
         requireNonNull(predicate);
-        filteredPersons.setPredicate(predicate);
+        executeQuery(new Query(predicate));
+    }
+
+    @Override
+    public QueryPlan executeQuery(Query query) {
+        requireNonNull(query);
+        long stamp = lockWrite();
+        try {
+            QueryPlan plan = queryResultCache.lookUp(query, addressBook)
+                    .orElseGet(() -> queryPlanner.plan(query, addressBook));
+            plan.execute(addressBook, filteredPersons);
+            shownPersons.setSource(filteredPersons);
+            queryResultCache.store(plan, addressBook, filteredPersons);
+            logger.fine(plan.toString());
+            return plan;
+        } finally {
+            unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public PersonPage getPersonPage(Query query, int offset, int limit) {
+        requireNonNull(query);
+        checkArgument(offset >= 0 && limit >= 0, "Offset and limit must not be negative");
+        // a page may take long to read, so it is read under the lock rather than read again if it was changed
+        return readLocked(() -> {
+            QueryPlan plan = queryResultCache.lookUp(query, addressBook)
+                    .orElseGet(() -> queryPlanner.plan(query, addressBook));
+            PersonPage page = plan.executePage(addressBook, offset, limit);
+            logger.fine(plan.toString() + ", for " + page);
+            return page;
+        });
+    }
+
+    @Override
+    public void sortFilteredPersonList(SortOrder order) {
+        requireNonNull(order);
+        long stamp = lockWrite();
+        try {
+            if (order.equals(sortOrder)) {
+                return;
+            }
+
+            sortOrder = order;
+            boolean isShowingFilteredPersons = shownPersons.getSource() == filteredPersons;
+            filteredPersons = createFilteredPersons(order, filteredPersons.getPredicate());
+            if (isShowingFilteredPersons) {
+                shownPersons.setSource(filteredPersons);
+            } else {
+                handleListingUnit();
+            }
+        } finally {
+            unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Returns the persons satisfying {@code predicate} in {@code order}, in which the persons found from the
+     * indexes are located by binary search.
+     */
+    private IndexedFilteredList<ReadOnlyPerson> createFilteredPersons(SortOrder order,
+            Predicate<? super ReadOnlyPerson> predicate) {
+        ObservableList<ReadOnlyPerson> persons = sortedPersons.get(order);
+        Comparator<ReadOnlyPerson> comparator = order.getComparator();
+        if (comparator == null) {
+            return new IndexedFilteredList<>(persons, addressBook::indexOf, predicate);
+        }
+        return new IndexedFilteredList<>(persons, person -> SortedViews.indexOf(persons, comparator, person),
+                predicate);
     }
 
     @Override
@@ -190,30 +496,26 @@ public class ModelManager extends ComponentManager implements Model {
         // state check
         ModelManager other = (ModelManager) obj;
         return addressBook.equals(other.addressBook)
-                && filteredPersons.equals(other.filteredPersons);
+                && shownPersons.equals(other.shownPersons);
     }
 
     @Override
     public void handleListingUnit() {
-        switch (ListingUnit.getCurrentListingUnit()) {
-
-        case ADDRESS:
-            UniqueAddressPredicate addressPredicate = new UniqueAddressPredicate(getUniqueAdPersonSet());
-            updateFilteredPersonList(addressPredicate);
-            break;
-
-        case PHONE:
-            UniquePhonePredicate phonePredicate = new UniquePhonePredicate(getUniquePhonePersonSet());
-            updateFilteredPersonList(phonePredicate);
-            break;
-
-        case EMAIL:
-            UniqueEmailPredicate emailPredicate = new UniqueEmailPredicate(getUniqueEmailPersonSet());
-            updateFilteredPersonList(emailPredicate);
-            break;
-
-        default:
-            updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        long stamp = lockWrite();
+        try {
+            switch (ListingUnit.getCurrentListingUnit()) {
+
+            case ADDRESS:
+            case PHONE:
+            case EMAIL:
+                shownPersons.setSource(sortedDistinctPersons.get(ListingUnit.getCurrentListingUnit()).get(sortOrder));
+                break;
+
+            default:
+                updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+            }
+        } finally {
+            unlockWrite(stamp);
         }
     }
 
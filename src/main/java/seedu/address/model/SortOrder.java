@@ -0,0 +1,102 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import seedu.address.model.person.ReadOnlyPerson;
+
+/**
+ * An order of the persons shown, by one attribute and then by the next ones to break ties.
+ * Attribute values are compared lexicographically, case-sensitive.
+ */
+public class SortOrder {
+
+    /**
+     * An attribute persons can be sorted by.
+     */
+    public enum Key {
+        NAME(person -> person.getName().fullName),
+        PHONE(person -> person.getPhone().value),
+        EMAIL(person -> person.getEmail().value),
+        ADDRESS(person -> person.getAddress().value);
+
+        private final Function<ReadOnlyPerson, String> value;
+
+        Key(Function<ReadOnlyPerson, String> value) {
+            this.value = value;
+        }
+    }
+
+    /** The order in which the persons were added */
+    public static final SortOrder UNSORTED = new SortOrder(Collections.emptyList());
+
+    private final List<Key> keys;
+
+    public SortOrder(List<Key> keys) {
+        requireNonNull(keys);
+        this.keys = Collections.unmodifiableList(new ArrayList<>(keys));
+    }
+
+    /**
+     * Returns the order by the attribute of {@code listingUnit}, and then by name.
+     */
+    public static SortOrder of(ListingUnit listingUnit) {
+        switch (listingUnit) {
+        case ADDRESS:
+            return new SortOrder(Arrays.asList(Key.ADDRESS, Key.NAME));
+        case EMAIL:
+            return new SortOrder(Arrays.asList(Key.EMAIL, Key.NAME));
+        case PHONE:
+            return new SortOrder(Arrays.asList(Key.PHONE, Key.NAME));
+        default:
+            return new SortOrder(Collections.singletonList(Key.NAME));
+        }
+    }
+
+    public List<Key> getKeys() {
+        return keys;
+    }
+
+    public boolean isSorted() {
+        return !keys.isEmpty();
+    }
+
+    /**
+     * Returns the comparator ordering persons by the keys of this order, or null if this order is unsorted.
+     */
+    public Comparator<ReadOnlyPerson> getComparator() {
+        Comparator<ReadOnlyPerson> comparator = null;
+        for (Key key : keys) {
+            comparator = comparator == null
+                    ? Comparator.comparing(key.value)
+                    : comparator.thenComparing(key.value);
+        }
+        return comparator;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof SortOrder // instanceof handles nulls
+                && keys.equals(((SortOrder) other).keys)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return keys.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return isSorted()
+                ? keys.stream().map(key -> key.name().toLowerCase()).collect(Collectors.joining(", "))
+                : "insertion order";
+    }
+}
@@ -0,0 +1,204 @@
+package seedu.address.model.index;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.LongFunction;
+
+import javafx.collections.ObservableList;
+import javafx.collections.ObservableListBase;
+import seedu.address.model.person.ReadOnlyPerson;
+import seedu.address.model.util.PositionIndex;
+
+/**
+ * Groups persons by the value of one of their attributes, e.g. all persons sharing an {@code Address}.
+ * Lookups by value cost time proportional to the number of persons with that value, not the size of the book.
+ * Each value keeps the ids of the persons having it, which are resolved to persons when looked up.
+ *
+ * The index also keeps a view holding one person for each distinct value, in the order the values were first
+ * indexed, which shows the person with the lowest id for each value. The view is updated in place as persons are
+ * indexed, replaced and removed, so it never has to be rebuilt from the whole address book. The positions of the
+ * values in the view are kept in a {@link PositionIndex}, so indexing, replacing or removing a person costs O(log n)
+ * in the number of distinct values, and so does reading a person from the view.
+ *
+ * @param <T> type of the indexed attribute
+ */
+public class AttributeIndex<T> implements PersonIndex {
+
+    private final Function<ReadOnlyPerson, T> attribute;
+    private final LongFunction<ReadOnlyPerson> personById;
+    private final Map<T, IdPostings> idsByValue = new HashMap<>();
+
+    // the distinct values in the order they were first indexed
+    private final PositionIndex<T> distinctValues = new PositionIndex<>();
+    private final DistinctPersonList distinctPersons = new DistinctPersonList();
+
+    /**
+     * @param personById finds the indexed person with an id
+     */
+    public AttributeIndex(Function<ReadOnlyPerson, T> attribute, LongFunction<ReadOnlyPerson> personById) {
+        this.attribute = requireNonNull(attribute);
+        this.personById = requireNonNull(personById);
+    }
+
+    @Override
+    public void add(ReadOnlyPerson person) {
+        T value = attribute.apply(person);
+        IdPostings ids = idsByValue.computeIfAbsent(value, unused -> new IdPostings());
+        if (!ids.add(person.getId())) {
+            return;
+        }
+        if (ids.size() == 1) {
+            distinctValues.append(value);
+            distinctPersons.added(distinctValues.size() - 1);
+        } else if (ids.get(0) == person.getId()) {
+            // the person takes the place of the person with the next lowest id
+            distinctPersons.replaced(distinctValues.indexOf(value), personById.apply(ids.get(1)));
+        }
+    }
+
+    @Override
+    public void remove(ReadOnlyPerson person) {
+        T value = attribute.apply(person);
+        IdPostings ids = idsByValue.get(value);
+        if (ids == null) {
+            return;
+        }
+        boolean wasShown = ids.get(0) == person.getId();
+        if (!ids.remove(person.getId())) {
+            return;
+        }
+        if (ids.isEmpty()) {
+            idsByValue.remove(value);
+            distinctPersons.removed(distinctValues.remove(value), person);
+        } else if (wasShown) {
+            distinctPersons.replaced(distinctValues.indexOf(value), person);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * An edited person keeps its place in the distinct persons if it keeps its value, or if it has a new value and
+     * was the only person with its old value.
+     */
+    @Override
+    public void replace(ReadOnlyPerson removed, ReadOnlyPerson added) {
+        T removedValue = attribute.apply(removed);
+        T addedValue = attribute.apply(added);
+        IdPostings removedValueIds = idsByValue.get(removedValue);
+        if (removedValueIds == null || !removedValueIds.contains(removed.getId())) {
+            add(added);
+            return;
+        }
+
+        if (removedValue.equals(addedValue) && removed.getId() == added.getId()) {
+            if (removedValueIds.get(0) == added.getId()) {
+                distinctPersons.replaced(distinctValues.indexOf(removedValue), removed);
+            }
+        } else if (removedValueIds.size() == 1 && !idsByValue.containsKey(addedValue)) {
+            idsByValue.remove(removedValue);
+            removedValueIds.remove(removed.getId());
+            removedValueIds.add(added.getId());
+            idsByValue.put(addedValue, removedValueIds);
+            distinctPersons.replaced(distinctValues.replace(removedValue, addedValue), removed);
+        } else {
+            remove(removed);
+            add(added);
+        }
+    }
+
+    /**
+     * Returns the persons whose attribute equals {@code value}, in the order of their ids.
+     * The returned list is a copy and is not affected by later changes to the index.
+     */
+    public List<ReadOnlyPerson> getPersons(T value) {
+        List<ReadOnlyPerson> persons = new ArrayList<>();
+        IdPostings ids = idsByValue.get(value);
+        if (ids != null) {
+            addPersons(ids, persons);
+        }
+        return persons;
+    }
+
+    /**
+     * Returns the number of persons whose attribute equals {@code value}.
+     */
+    public int getPersonCount(T value) {
+        IdPostings ids = idsByValue.get(value);
+        return ids == null ? 0 : ids.size();
+    }
+
+    /**
+     * Adds the persons with {@code ids} to {@code persons}.
+     */
+    private void addPersons(IdPostings ids, Collection<ReadOnlyPerson> persons) {
+        for (int i = 0; i < ids.size(); i++) {
+            persons.add(personById.apply(ids.get(i)));
+        }
+    }
+
+    /**
+     * Returns an unmodifiable view holding one person for each distinct value, which is kept up to date
+     * as the index changes.
+     */
+    public ObservableList<ReadOnlyPerson> getDistinctPersons() {
+        return distinctPersons;
+    }
+
+    /**
+     * Returns an unmodifiable view of the distinct values held by the indexed persons.
+     */
+    public Set<T> getValues() {
+        return Collections.unmodifiableSet(idsByValue.keySet());
+    }
+
+    /**
+     * An unmodifiable observable list of the person shown for each distinct value, read from the index on demand.
+     */
+    private class DistinctPersonList extends ObservableListBase<ReadOnlyPerson> {
+
+        @Override
+        public ReadOnlyPerson get(int index) {
+            return personById.apply(idsByValue.get(distinctValues.get(index)).get(0));
+        }
+
+        @Override
+        public int size() {
+            return distinctValues.size();
+        }
+
+        /**
+         * Reports that a person was added at {@code position}.
+         */
+        void added(int position) {
+            beginChange();
+            nextAdd(position, position + 1);
+            endChange();
+        }
+
+        /**
+         * Reports that {@code removed} was removed from {@code position}.
+         */
+        void removed(int position, ReadOnlyPerson removed) {
+            beginChange();
+            nextRemove(position, removed);
+            endChange();
+        }
+
+        /**
+         * Reports that {@code replaced} was replaced by another person at {@code position}.
+         */
+        void replaced(int position, ReadOnlyPerson replaced) {
+            beginChange();
+            nextSet(position, replaced);
+            endChange();
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package seedu.address.model.index;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.person.ReadOnlyPerson;
+
+/**
+ * BK-tree over the case-folded words of a person's attributes, supporting lookups of words within an edit distance
+ * of a misspelt word. A lookup only visits the subtrees whose distance from their parent word can satisfy the
+ * triangle inequality, instead of comparing against every word.
+ * Words that are no longer used by any person are skipped by lookups and dropped when the tree is rebuilt,
+ * as BK-trees do not support removal.
+ */
+public class FuzzyWordIndex implements PersonIndex {
+
+    private final Function<ReadOnlyPerson, Set<String>> words;
+    private final Map<String, Integer> personCounts = new HashMap<>();
+    private Node root;
+    private int unusedWordCount;
+
+    /**
+     * @param words extracts the case-folded words under which a person is indexed
+     */
+    public FuzzyWordIndex(Function<ReadOnlyPerson, Set<String>> words) {
+        this.words = requireNonNull(words);
+    }
+
+    @Override
+    public void add(ReadOnlyPerson person) {
+        for (String word : words.apply(person)) {
+            Integer count = personCounts.get(word);
+            if (count == null) {
+                insert(word);
+                personCounts.put(word, 1);
+            } else {
+                if (count == 0) {
+                    unusedWordCount--;
+                }
+                personCounts.put(word, count + 1);
+            }
+        }
+    }
+
+    @Override
+    public void remove(ReadOnlyPerson person) {
+        for (String word : words.apply(person)) {
+            Integer count = personCounts.get(word);
+            if (count == null || count == 0) {
+                continue;
+            }
+            personCounts.put(word, count - 1);
+            if (count == 1) {
+                unusedWordCount++;
+            }
+        }
+        if (unusedWordCount > personCounts.size() / 2) {
+            rebuild();
+        }
+    }
+
+    /**
+     * Returns the indexed words within {@code maxDistance} edits of {@code word}, ignoring case.
+     */
+    public Set<String> getWordsWithin(String word, int maxDistance) {
+        String target = word.trim().toLowerCase();
+        Set<String> matchingWords = new HashSet<>();
+        if (root == null) {
+            return matchingWords;
+        }
+        Deque<Node> pending = new ArrayDeque<>();
+        pending.push(root);
+        while (!pending.isEmpty()) {
+            Node node = pending.pop();
+            int distance = StringUtil.getEditDistance(node.word, target);
+            if (distance <= maxDistance && personCounts.get(node.word) > 0) {
+                matchingWords.add(node.word);
+            }
+            for (int childDistance = Math.max(1, distance - maxDistance);
+                    childDistance <= distance + maxDistance; childDistance++) {
+                Node child = node.getChild(childDistance);
+                if (child != null) {
+                    pending.push(child);
+                }
+            }
+        }
+        return matchingWords;
+    }
+
+    /**
+     * Adds {@code word}, which must not be in the tree yet, below the child at its distance from each node visited.
+     */
+    private void insert(String word) {
+        if (root == null) {
+            root = new Node(word);
+            return;
+        }
+        Node node = root;
+        while (true) {
+            int distance = StringUtil.getEditDistance(node.word, word);
+            Node child = node.getChild(distance);
+            if (child == null) {
+                node.putChild(distance, new Node(word));
+                return;
+            }
+            node = child;
+        }
+    }
+
+    /**
+     * Rebuilds the tree from the words still used by some person.
+     */
+    private void rebuild() {
+        personCounts.values().removeIf(count -> count == 0);
+        unusedWordCount = 0;
+        root = null;
+        personCounts.keySet().forEach(this::insert);
+    }
+
+    /**
+     * A node of the BK-tree, with its children keyed by their edit distance from {@code word}.
+     */
+    private static class Node {
+        private final String word;
+        private Map<Integer, Node> children;
+
+        Node(String word) {
+            this.word = word;
+        }
+
+        Node getChild(int distance) {
+            return children == null ? null : children.get(distance);
+        }
+
+        /**
+         * Adds {@code child} at {@code distance}, which must not have a child yet.
+         */
+        void putChild(int distance, Node child) {
+            if (children == null) {
+                children = new HashMap<>();
+            }
+            children.put(distance, child);
+        }
+    }
+
+}
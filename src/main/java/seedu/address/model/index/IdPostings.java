@@ -0,0 +1,72 @@
+package seedu.address.model.index;
+
+import java.util.Arrays;
+
+/**
+ * The ids of the persons indexed under one key, kept in ascending order in an array of {@code long}s.
+ * An id takes 8 bytes instead of an entry object of a set of persons, and the persons themselves are not held.
+ * New persons are given ids above every id given before, so adding a new person appends its id in amortized O(1);
+ * other additions and removals shift the ids behind them.
+ */
+class IdPostings {
+
+    /** Postings without ids, which must not be modified */
+    static final IdPostings EMPTY = new IdPostings();
+
+    private long[] ids = new long[1];
+    private int size;
+
+    /**
+     * Adds {@code id} and returns true if it was not there yet.
+     */
+    boolean add(long id) {
+        int index = Arrays.binarySearch(ids, 0, size, id);
+        if (index >= 0) {
+            return false;
+        }
+        index = -index - 1;
+        if (size == ids.length) {
+            ids = Arrays.copyOf(ids, size * 2);
+        }
+        System.arraycopy(ids, index, ids, index + 1, size - index);
+        ids[index] = id;
+        size++;
+        return true;
+    }
+
+    /**
+     * Removes {@code id} and returns true if it was there.
+     */
+    boolean remove(long id) {
+        int index = Arrays.binarySearch(ids, 0, size, id);
+        if (index < 0) {
+            return false;
+        }
+        System.arraycopy(ids, index + 1, ids, index, size - index - 1);
+        size--;
+        if (size > 0 && size * 4 <= ids.length) {
+            ids = Arrays.copyOf(ids, size * 2);
+        }
+        return true;
+    }
+
+    boolean contains(long id) {
+        return Arrays.binarySearch(ids, 0, size, id) >= 0;
+    }
+
+    /**
+     * Returns the {@code index}-th lowest id.
+     */
+    long get(int index) {
+        assert index < size;
+        return ids[index];
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+}
@@ -0,0 +1,22 @@
+package seedu.address.model.index;
+
+import seedu.address.model.person.ReadOnlyPerson;
+
+/**
+ * An index over the persons of an address book, kept up to date as persons are added and removed.
+ */
+public interface PersonIndex {
+
+    /** Records {@code person} in the index. */
+    void add(ReadOnlyPerson person);
+
+    /** Removes {@code person} from the index. */
+    void remove(ReadOnlyPerson person);
+
+    /** Replaces {@code removed} in the index with {@code added}, which took its place in the address book. */
+    default void replace(ReadOnlyPerson removed, ReadOnlyPerson added) {
+        remove(removed);
+        add(added);
+    }
+
+}
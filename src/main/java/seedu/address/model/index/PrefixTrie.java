@@ -0,0 +1,352 @@
+package seedu.address.model.index;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.LongFunction;
+
+import seedu.address.model.person.ReadOnlyPerson;
+
+/**
+ * Trie over the case-folded words of a person's attributes, supporting lookups of persons by word prefix.
+ * Each word keeps the ids of the persons having it, which are resolved to persons when looked up.
+ * A chain of nodes with one child and no persons is merged into one node labelled with the characters of the chain,
+ * so a word no other word starts with takes one node instead of one per character.
+ * Finding the first {@code k} persons with a word starting with a prefix takes time proportional to the length
+ * of the prefix plus {@code k}, independent of the number of persons in the index.
+ */
+public class PrefixTrie implements PersonIndex {
+
+    private final Function<ReadOnlyPerson, Set<String>> words;
+    private final LongFunction<ReadOnlyPerson> personById;
+    private final Node root = new Node();
+
+    /**
+     * @param words extracts the case-folded words under which a person is indexed
+     * @param personById finds the indexed person with an id
+     */
+    public PrefixTrie(Function<ReadOnlyPerson, Set<String>> words, LongFunction<ReadOnlyPerson> personById) {
+        this.words = requireNonNull(words);
+        this.personById = requireNonNull(personById);
+    }
+
+    @Override
+    public void add(ReadOnlyPerson person) {
+        for (String word : words.apply(person)) {
+            List<Node> path = new ArrayList<>();
+            Node node = getOrCreateNode(word, path);
+            if (node.addPerson(person.getId())) {
+                path.forEach(pathNode -> pathNode.subtreePersonCount++);
+            }
+        }
+    }
+
+    /**
+     * Returns the node for {@code word}, creating it if absent and splitting the node whose label it ends in.
+     * The nodes from the root down to the node for {@code word} are added to {@code path}.
+     */
+    private Node getOrCreateNode(String word, List<Node> path) {
+        Node node = root;
+        path.add(node);
+        int depth = 0;
+        while (depth < word.length()) {
+            Node child = node.getChild(word.charAt(depth));
+            if (child == null) {
+                child = new Node(word.substring(depth));
+                node.putChild(child);
+            } else {
+                int common = getCommonPrefixLength(child.label, word, depth);
+                if (common < child.label.length()) {
+                    child = child.splitAt(common);
+                    node.putChild(child);
+                }
+            }
+            node = child;
+            path.add(node);
+            depth += node.label.length();
+        }
+        return node;
+    }
+
+    @Override
+    public void remove(ReadOnlyPerson person) {
+        for (String word : words.apply(person)) {
+            remove(root, word, 0, person.getId());
+        }
+    }
+
+    /**
+     * Removes the person with {@code id} from the node for {@code word} below {@code node}, pruning nodes left
+     * empty and merging nodes left with one child and no persons into their child. Returns true if the person was
+     * found there.
+     */
+    private boolean remove(Node node, String word, int depth, long id) {
+        boolean isRemoved;
+        if (depth == word.length()) {
+            isRemoved = node.removePerson(id);
+        } else {
+            char c = word.charAt(depth);
+            Node child = node.getChild(c);
+            isRemoved = child != null && word.startsWith(child.label, depth)
+                    && remove(child, word, depth + child.label.length(), id);
+            if (isRemoved && child.isEmpty()) {
+                node.removeChild(c);
+            } else if (isRemoved && child.canMergeWithChild()) {
+                node.putChild(child.mergeWithChild());
+            }
+        }
+        if (isRemoved) {
+            node.subtreePersonCount--;
+        }
+        return isRemoved;
+    }
+
+    /**
+     * Returns the number of words starting with {@code prefix}, ignoring case, counted once for each person
+     * having them. This bounds the number of persons {@link #getPersons(String)} goes through,
+     * and takes time proportional to the length of the prefix.
+     */
+    public int countPersons(String prefix) {
+        Node node = findNode(prefix);
+        return node == null ? 0 : node.subtreePersonCount;
+    }
+
+    /**
+     * Returns the node for {@code prefix}, ignoring case, or null if no word starts with it.
+     */
+    private Node findNode(String prefix) {
+        String key = prefix.trim().toLowerCase();
+        Node node = root;
+        int depth = 0;
+        while (depth < key.length()) {
+            node = node.getChild(key.charAt(depth));
+            if (node == null) {
+                return null;
+            }
+            int common = getCommonPrefixLength(node.label, key, depth);
+            if (depth + common == key.length()) {
+                // every word below the node starts with the prefix, which ends within the label
+                return node;
+            }
+            if (common < node.label.length()) {
+                return null;
+            }
+            depth += common;
+        }
+        return node;
+    }
+
+    /**
+     * Returns the length of the common prefix of {@code label} and {@code word} from {@code depth} onwards.
+     */
+    private static int getCommonPrefixLength(String label, String word, int depth) {
+        int length = 0;
+        while (length < label.length() && depth + length < word.length()
+                && label.charAt(length) == word.charAt(depth + length)) {
+            length++;
+        }
+        return length;
+    }
+
+    /**
+     * Returns all the persons having a word that starts with {@code prefix}, ignoring case.
+     * Persons are ordered alphabetically by the matching word, and then by id.
+     */
+    public Set<ReadOnlyPerson> getPersons(String prefix) {
+        return getPersons(prefix, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Returns up to {@code limit} persons having a word that starts with {@code prefix}, ignoring case.
+     * Persons are ordered alphabetically by the matching word, and then by id.
+     */
+    public Set<ReadOnlyPerson> getPersons(String prefix, int limit) {
+        Node node = findNode(prefix);
+        if (node == null) {
+            return Collections.emptySet();
+        }
+        Set<ReadOnlyPerson> matchingPersons = new LinkedHashSet<>();
+        collect(node, limit, matchingPersons);
+        return matchingPersons;
+    }
+
+    /**
+     * Adds the persons at and below {@code node} to {@code matchingPersons} in word order,
+     * until {@code matchingPersons} holds {@code limit} persons.
+     */
+    private void collect(Node node, int limit, Set<ReadOnlyPerson> matchingPersons) {
+        IdPostings ids = node.getIds();
+        for (int i = 0; i < ids.size(); i++) {
+            if (matchingPersons.size() >= limit) {
+                return;
+            }
+            matchingPersons.add(personById.apply(ids.get(i)));
+        }
+        for (Node child : node.getChildren()) {
+            if (matchingPersons.size() >= limit) {
+                return;
+            }
+            collect(child, limit, matchingPersons);
+        }
+    }
+
+    /**
+     * A node of the trie, reached from its parent through the characters of its label.
+     * Children and ids are allocated on first use, as most nodes only have one of them.
+     * The children are kept in arrays sorted by the first character of their label, which take a fraction of
+     * the memory of a map for the few children most nodes have.
+     */
+    private static class Node {
+        private String label;
+        // the first characters of the labels of the children in ascending order, and the child for each
+        private char[] childKeys;
+        private Node[] childNodes;
+        private IdPostings ids;
+        // the number of persons at this node and below it, counting a person once for each of its words
+        private int subtreePersonCount;
+
+        Node() {
+            this("");
+        }
+
+        Node(String label) {
+            this.label = label;
+        }
+
+        Node getChild(char c) {
+            int index = indexOfChild(c);
+            return index < 0 ? null : childNodes[index];
+        }
+
+        /**
+         * Puts {@code child} in place of the child whose label starts with the same character, or adds it if there
+         * is none.
+         */
+        void putChild(Node child) {
+            char c = child.label.charAt(0);
+            int index = indexOfChild(c);
+            if (index >= 0) {
+                childNodes[index] = child;
+                return;
+            }
+            index = -index - 1;
+            int count = childKeys == null ? 0 : childKeys.length;
+            char[] newKeys = new char[count + 1];
+            Node[] newNodes = new Node[count + 1];
+            if (count > 0) {
+                System.arraycopy(childKeys, 0, newKeys, 0, index);
+                System.arraycopy(childKeys, index, newKeys, index + 1, count - index);
+                System.arraycopy(childNodes, 0, newNodes, 0, index);
+                System.arraycopy(childNodes, index, newNodes, index + 1, count - index);
+            }
+            newKeys[index] = c;
+            newNodes[index] = child;
+            childKeys = newKeys;
+            childNodes = newNodes;
+        }
+
+        /**
+         * Moves the first {@code length} characters of the label of this node into a new parent of it without
+         * persons, and returns the parent.
+         */
+        Node splitAt(int length) {
+            Node parent = new Node(label.substring(0, length));
+            label = label.substring(length);
+            parent.putChild(this);
+            parent.subtreePersonCount = subtreePersonCount;
+            return parent;
+        }
+
+        /**
+         * Returns true if this node has no persons and one child, so that it may be merged into the child.
+         */
+        boolean canMergeWithChild() {
+            return ids == null && childNodes != null && childNodes.length == 1;
+        }
+
+        /**
+         * Prepends the label of this node to the label of its only child, and returns the child.
+         */
+        Node mergeWithChild() {
+            Node child = childNodes[0];
+            child.label = label + child.label;
+            return child;
+        }
+
+        /**
+         * Removes the child for {@code c}, which must be present.
+         */
+        void removeChild(char c) {
+            int index = indexOfChild(c);
+            assert index >= 0;
+            int count = childKeys.length - 1;
+            if (count == 0) {
+                childKeys = null;
+                childNodes = null;
+                return;
+            }
+            char[] newKeys = new char[count];
+            Node[] newNodes = new Node[count];
+            System.arraycopy(childKeys, 0, newKeys, 0, index);
+            System.arraycopy(childKeys, index + 1, newKeys, index, count - index);
+            System.arraycopy(childNodes, 0, newNodes, 0, index);
+            System.arraycopy(childNodes, index + 1, newNodes, index, count - index);
+            childKeys = newKeys;
+            childNodes = newNodes;
+        }
+
+        /**
+         * Returns the index of the child for {@code c}, or {@code -(insertion point) - 1} if there is none.
+         */
+        private int indexOfChild(char c) {
+            return childKeys == null ? -1 : Arrays.binarySearch(childKeys, c);
+        }
+
+        Iterable<Node> getChildren() {
+            return childNodes == null ? Collections.<Node>emptyList() : Arrays.asList(childNodes);
+        }
+
+        /**
+         * Returns the ids of the persons whose word ends at this node, which must not be modified.
+         */
+        IdPostings getIds() {
+            return ids == null ? IdPostings.EMPTY : ids;
+        }
+
+        /**
+         * Adds {@code id} to the ids of the persons whose word ends at this node.
+         * Returns true if it was not there yet.
+         */
+        boolean addPerson(long id) {
+            if (ids == null) {
+                ids = new IdPostings();
+            }
+            return ids.add(id);
+        }
+
+        /**
+         * Removes {@code id} from the ids of the persons whose word ends at this node, if present.
+         * Returns true if it was there.
+         */
+        boolean removePerson(long id) {
+            if (ids == null || !ids.remove(id)) {
+                return false;
+            }
+            if (ids.isEmpty()) {
+                ids = null;
+            }
+            return true;
+        }
+
+        boolean isEmpty() {
+            return childNodes == null && ids == null;
+        }
+    }
+
+}
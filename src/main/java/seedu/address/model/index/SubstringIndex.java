@@ -0,0 +1,126 @@
+package seedu.address.model.index;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.LongFunction;
+
+import seedu.address.model.person.ReadOnlyPerson;
+
+/**
+ * Index of the persons whose text attribute contains a keyword anywhere, matching case like
+ * {@link String#contains(CharSequence)}.
+ * Each trigram (substring of three characters) of an attribute keeps the ids of the persons having it. A keyword of
+ * three characters or more is looked up through its rarest trigram, and one of fewer characters through the
+ * trigrams containing it; the persons found are then checked against the whole keyword.
+ * An attribute shorter than a trigram is indexed under itself.
+ */
+public class SubstringIndex implements PersonIndex {
+
+    private static final int GRAM_LENGTH = 3;
+
+    private final Function<ReadOnlyPerson, String> attribute;
+    private final LongFunction<ReadOnlyPerson> personById;
+    private final Map<String, IdPostings> postings = new HashMap<>();
+
+    /**
+     * @param personById finds the indexed person with an id
+     */
+    public SubstringIndex(Function<ReadOnlyPerson, String> attribute, LongFunction<ReadOnlyPerson> personById) {
+        this.attribute = requireNonNull(attribute);
+        this.personById = requireNonNull(personById);
+    }
+
+    @Override
+    public void add(ReadOnlyPerson person) {
+        String text = attribute.apply(person);
+        for (int start = 0; start <= Math.max(0, text.length() - GRAM_LENGTH); start++) {
+            String gram = text.substring(start, Math.min(text.length(), start + GRAM_LENGTH));
+            postings.computeIfAbsent(gram, unused -> new IdPostings()).add(person.getId());
+        }
+    }
+
+    @Override
+    public void remove(ReadOnlyPerson person) {
+        String text = attribute.apply(person);
+        for (int start = 0; start <= Math.max(0, text.length() - GRAM_LENGTH); start++) {
+            String gram = text.substring(start, Math.min(text.length(), start + GRAM_LENGTH));
+            IdPostings ids = postings.get(gram);
+            if (ids == null) {
+                continue;
+            }
+            ids.remove(person.getId());
+            if (ids.isEmpty()) {
+                postings.remove(gram);
+            }
+        }
+    }
+
+    /**
+     * Returns the persons whose attribute contains {@code keyword}.
+     */
+    public Set<ReadOnlyPerson> getPersons(String keyword) {
+        Set<ReadOnlyPerson> persons = new LinkedHashSet<>();
+        if (keyword.length() >= GRAM_LENGTH) {
+            addPersonsContaining(keyword, getRarestGramIds(keyword), persons);
+        } else {
+            postings.forEach((gram, ids) -> {
+                if (gram.contains(keyword)) {
+                    addPersonsContaining(keyword, ids, persons);
+                }
+            });
+        }
+        return persons;
+    }
+
+    /**
+     * Returns the number of persons {@link #getPersons(String)} checks against {@code keyword}, which bounds the
+     * number of persons found.
+     */
+    public int getCandidateCount(String keyword) {
+        if (keyword.length() >= GRAM_LENGTH) {
+            return getRarestGramIds(keyword).size();
+        }
+        int count = 0;
+        for (Map.Entry<String, IdPostings> entry : postings.entrySet()) {
+            if (entry.getKey().contains(keyword)) {
+                count += entry.getValue().size();
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Returns the ids of the persons having the trigram of {@code keyword} fewest persons have.
+     */
+    private IdPostings getRarestGramIds(String keyword) {
+        IdPostings rarest = null;
+        for (int start = 0; start + GRAM_LENGTH <= keyword.length(); start++) {
+            IdPostings ids = postings.get(keyword.substring(start, start + GRAM_LENGTH));
+            if (ids == null) {
+                return IdPostings.EMPTY;
+            }
+            if (rarest == null || ids.size() < rarest.size()) {
+                rarest = ids;
+            }
+        }
+        return rarest;
+    }
+
+    /**
+     * Adds the persons with {@code ids} whose attribute contains {@code keyword} to {@code persons}.
+     */
+    private void addPersonsContaining(String keyword, IdPostings ids, Set<ReadOnlyPerson> persons) {
+        for (int i = 0; i < ids.size(); i++) {
+            ReadOnlyPerson person = personById.apply(ids.get(i));
+            if (attribute.apply(person).contains(keyword)) {
+                persons.add(person);
+            }
+        }
+    }
+
+}
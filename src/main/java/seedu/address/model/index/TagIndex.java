@@ -0,0 +1,182 @@
+package seedu.address.model.index;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.LongFunction;
+
+import seedu.address.model.person.ReadOnlyPerson;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.util.LongIntHashMap;
+
+/**
+ * Index from each tag to a bitmap of the persons tagged with it, keyed by person ordinal.
+ * Ordinals of removed persons are reused, keeping the bitmaps dense, so that combining the persons of several
+ * tags takes a few word operations per 64 persons instead of a scan over every person's tags.
+ * The ordinals are found from the ids of the persons, so the persons themselves are not held.
+ *
+ * The persons collected by the user are kept in a bitmap by ordinal too. A person stays collected when edited,
+ * and is no longer collected once removed.
+ */
+public class TagIndex implements PersonIndex {
+
+    private final LongFunction<ReadOnlyPerson> personById;
+    private final LongIntHashMap ordinals = new LongIntHashMap();
+    private long[] idsByOrdinal = new long[16];
+    private final BitSet usedOrdinals = new BitSet();
+    private final Map<Tag, BitSet> bitmaps = new HashMap<>();
+    private final BitSet collected = new BitSet();
+
+    /**
+     * @param personById finds the indexed person with an id
+     */
+    public TagIndex(LongFunction<ReadOnlyPerson> personById) {
+        this.personById = requireNonNull(personById);
+    }
+
+    @Override
+    public void add(ReadOnlyPerson person) {
+        int ordinal = usedOrdinals.nextClearBit(0);
+        usedOrdinals.set(ordinal);
+        ordinals.put(person.getId(), ordinal);
+        if (ordinal == idsByOrdinal.length) {
+            idsByOrdinal = Arrays.copyOf(idsByOrdinal, ordinal * 2);
+        }
+        idsByOrdinal[ordinal] = person.getId();
+        addToBitmaps(person, ordinal);
+    }
+
+    @Override
+    public void remove(ReadOnlyPerson person) {
+        int ordinal = ordinals.remove(person.getId());
+        if (ordinal == LongIntHashMap.ABSENT) {
+            return;
+        }
+        usedOrdinals.clear(ordinal);
+        collected.clear(ordinal);
+        removeFromBitmaps(person, ordinal);
+    }
+
+    /**
+     * Keeps the ordinal of an edited person, so that it stays collected.
+     */
+    @Override
+    public void replace(ReadOnlyPerson removed, ReadOnlyPerson added) {
+        int ordinal = ordinals.get(removed.getId());
+        if (ordinal == LongIntHashMap.ABSENT || removed.getId() != added.getId()) {
+            PersonIndex.super.replace(removed, added);
+            return;
+        }
+        removeFromBitmaps(removed, ordinal);
+        addToBitmaps(added, ordinal);
+    }
+
+    /**
+     * Sets {@code ordinal} in the bitmaps of the tags of {@code person}.
+     */
+    private void addToBitmaps(ReadOnlyPerson person, int ordinal) {
+        for (Tag tag : person.getTags()) {
+            bitmaps.computeIfAbsent(tag, unused -> new BitSet()).set(ordinal);
+        }
+    }
+
+    /**
+     * Clears {@code ordinal} from the bitmaps of the tags of {@code person}, removing the bitmaps left empty.
+     */
+    private void removeFromBitmaps(ReadOnlyPerson person, int ordinal) {
+        for (Tag tag : person.getTags()) {
+            BitSet bitmap = bitmaps.get(tag);
+            if (bitmap == null) {
+                continue;
+            }
+            bitmap.clear(ordinal);
+            if (bitmap.isEmpty()) {
+                bitmaps.remove(tag);
+            }
+        }
+    }
+
+    /**
+     * Marks the indexed person with {@code id} as collected. Returns true if it was not collected yet.
+     */
+    public boolean collect(long id) {
+        int ordinal = ordinals.get(id);
+        assert ordinal != LongIntHashMap.ABSENT : "Only indexed persons can be collected";
+        if (collected.get(ordinal)) {
+            return false;
+        }
+        collected.set(ordinal);
+        return true;
+    }
+
+    /**
+     * Returns true if the person with {@code id} is indexed and collected.
+     */
+    public boolean isCollected(long id) {
+        int ordinal = ordinals.get(id);
+        return ordinal != LongIntHashMap.ABSENT && collected.get(ordinal);
+    }
+
+    /**
+     * Returns a new bitmap of the ordinals of the collected persons.
+     */
+    public BitSet getCollectedBitmap() {
+        return (BitSet) collected.clone();
+    }
+
+    /**
+     * Returns the number of collected persons.
+     */
+    public int getCollectedCount() {
+        return collected.cardinality();
+    }
+
+    /**
+     * Returns a new bitmap of the ordinals of the persons tagged with {@code tag}.
+     */
+    public BitSet getBitmap(Tag tag) {
+        BitSet bitmap = bitmaps.get(tag);
+        return bitmap == null ? new BitSet() : (BitSet) bitmap.clone();
+    }
+
+    /**
+     * Returns a new bitmap of the ordinals of all indexed persons.
+     */
+    public BitSet getAllBitmap() {
+        return (BitSet) usedOrdinals.clone();
+    }
+
+    /**
+     * Returns the number of persons tagged with {@code tag}.
+     */
+    public int getPersonCount(Tag tag) {
+        BitSet bitmap = bitmaps.get(tag);
+        return bitmap == null ? 0 : bitmap.cardinality();
+    }
+
+    /**
+     * Returns the number of indexed persons.
+     */
+    public int getPersonCount() {
+        return usedOrdinals.cardinality();
+    }
+
+    /**
+     * Returns the persons whose ordinals are set in {@code bitmap}, in ordinal order.
+     */
+    public Set<ReadOnlyPerson> getPersons(BitSet bitmap) {
+        Set<ReadOnlyPerson> persons = new LinkedHashSet<>();
+        for (int ordinal = bitmap.nextSetBit(0); ordinal >= 0; ordinal = bitmap.nextSetBit(ordinal + 1)) {
+            if (usedOrdinals.get(ordinal)) {
+                persons.add(personById.apply(idsByOrdinal[ordinal]));
+            }
+        }
+        return persons;
+    }
+
+}
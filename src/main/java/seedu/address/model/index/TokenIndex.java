@@ -0,0 +1,92 @@
+package seedu.address.model.index;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.LongFunction;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.person.ReadOnlyPerson;
+
+/**
+ * Inverted index from the words of a text attribute to the ids of the persons whose attribute contains them.
+ * Words are split on whitespace and case-folded, matching the rules of
+ * {@link seedu.address.commons.util.StringUtil#containsWordIgnoreCase(String, String)}.
+ */
+public class TokenIndex implements PersonIndex {
+
+    private final Function<ReadOnlyPerson, String> attribute;
+    private final LongFunction<ReadOnlyPerson> personById;
+    private final Map<String, IdPostings> postings = new HashMap<>();
+
+    /**
+     * @param personById finds the indexed person with an id
+     */
+    public TokenIndex(Function<ReadOnlyPerson, String> attribute, LongFunction<ReadOnlyPerson> personById) {
+        this.attribute = requireNonNull(attribute);
+        this.personById = requireNonNull(personById);
+    }
+
+    @Override
+    public void add(ReadOnlyPerson person) {
+        for (String token : tokenize(attribute.apply(person))) {
+            postings.computeIfAbsent(token, unused -> new IdPostings()).add(person.getId());
+        }
+    }
+
+    @Override
+    public void remove(ReadOnlyPerson person) {
+        for (String token : tokenize(attribute.apply(person))) {
+            IdPostings ids = postings.get(token);
+            if (ids == null) {
+                continue;
+            }
+            ids.remove(person.getId());
+            if (ids.isEmpty()) {
+                postings.remove(token);
+            }
+        }
+    }
+
+    /**
+     * Returns the persons whose attribute contains {@code word}, ignoring case, in the order of their ids.
+     */
+    public Set<ReadOnlyPerson> getPersons(String word) {
+        IdPostings ids = postings.get(foldCase(word.trim()));
+        if (ids == null) {
+            return Collections.emptySet();
+        }
+        Set<ReadOnlyPerson> persons = new LinkedHashSet<>();
+        for (int i = 0; i < ids.size(); i++) {
+            persons.add(personById.apply(ids.get(i)));
+        }
+        return persons;
+    }
+
+    /**
+     * Returns the number of persons whose attribute contains {@code word}, ignoring case.
+     */
+    public int getPersonCount(String word) {
+        IdPostings ids = postings.get(foldCase(word.trim()));
+        return ids == null ? 0 : ids.size();
+    }
+
+    /**
+     * Returns the distinct case-folded words of {@code text}.
+     */
+    public static Set<String> tokenize(String text) {
+        return new HashSet<>(Arrays.asList(StringUtil.toLowerCaseWords(text)));
+    }
+
+    private static String foldCase(String word) {
+        return word.toLowerCase();
+    }
+
+}
@@ -2,9 +2,13 @@ package seedu.address.model.person;
 
 import static java.util.Objects.requireNonNull;
 
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
+
 import javafx.beans.property.SimpleStringProperty;
 import javafx.beans.property.StringProperty;
 import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.StringUtil;
 
 /**
  * Represents a Person's address in the address book.
@@ -21,7 +25,11 @@ public class Address {
      */
     public static final String ADDRESS_VALIDATION_REGEX = "[^\\s].*";
 
+    private static final Interner<Address> INTERNER = Interners.newWeakInterner();
+
     public final String value;
+    // computed on first use, like the words of a Name, and published to the searching threads
+    private volatile String[] lowerCaseWords;
 
     /**
      * Validates given address.
@@ -36,6 +44,18 @@ public class Address {
         this.value = address;
     }
 
+    private Address(String validAddress, boolean isValidated) {
+        assert isValidated;
+        this.value = validAddress;
+    }
+
+    /**
+     * Returns the address {@code validAddress}, which must be valid, without validating it again.
+     */
+    static Address ofValid(String validAddress) {
+        return new Address(validAddress, true);
+    }
+
     /**
      * Get a StringProperty of the address
      */
@@ -43,6 +63,13 @@ public class Address {
         return new SimpleStringProperty(value);
     }
 
+    /**
+     * Returns the canonical {@code Address} equal to this address, shared by every person living there.
+     */
+    public Address intern() {
+        return INTERNER.intern(this);
+    }
+
     /**
      * Returns true if a given string is a valid person email.
      */
@@ -50,6 +77,19 @@ public class Address {
         return test.matches(ADDRESS_VALIDATION_REGEX);
     }
 
+    /**
+     * Returns the words of this address in lower case, computed once and shared by every caller.
+     * The returned array must not be modified.
+     */
+    public String[] getLowerCaseWords() {
+        String[] words = lowerCaseWords;
+        if (words == null) {
+            words = StringUtil.toLowerCaseWords(value);
+            lowerCaseWords = words;
+        }
+        return words;
+    }
+
     @Override
     public String toString() {
         return value;
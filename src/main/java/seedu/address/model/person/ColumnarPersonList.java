@@ -0,0 +1,547 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.lang.reflect.Array;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
+
+import javafx.beans.property.ObjectProperty;
+import javafx.beans.property.SimpleObjectProperty;
+import javafx.collections.ModifiableObservableListBase;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.UniqueTagList;
+
+/**
+ * An observable list of persons that stores their fields column-wise as plain strings, instead of as one
+ * {@code Person} object graph per person.
+ *
+ * The persons are kept in chunks of up to {@value #CHUNK_CAPACITY} persons, each holding one array per field.
+ * Chunks are never changed once built: a change copies the chunk it falls in, and the chunks are kept in order in a
+ * balanced tree of which a change copies only the path to the chunk, in O(log n). So a {@link #snapshot()} of the
+ * list costs O(1), and a person read from the list is a view onto its chunk, created on demand and not kept by the
+ * list, which keeps its values after the person is replaced or removed. Reading the list changes nothing, so the
+ * list and its views may be read from several threads as long as the list is not changed meanwhile, and snapshots
+ * and views may be read from any thread.
+ *
+ * Addresses are stored as shared strings, and the tags of a person as an immutable set of shared tags, itself shared
+ * by every person with the same tags, which the views return without copying.
+ */
+public class ColumnarPersonList extends ModifiableObservableListBase<ReadOnlyPerson> {
+
+    private static final int CHUNK_CAPACITY = 32;
+
+    private static final Interner<String> ADDRESSES = Interners.newWeakInterner();
+    private static final Interner<Set<Tag>> TAG_SETS = Interners.newWeakInterner();
+
+    private Node root;
+    // the id to store the next person added or set with, instead of its own id
+    private long idOfNextStored = ReadOnlyPerson.UNASSIGNED_ID;
+
+    @Override
+    public ReadOnlyPerson get(int index) {
+        checkIndex(index, size());
+        return getPerson(root, index);
+    }
+
+    @Override
+    public int size() {
+        return sizeOf(root);
+    }
+
+    /**
+     * Inserts {@code person} at {@code index}, with {@code id} in place of its own id.
+     */
+    public void add(int index, ReadOnlyPerson person, long id) {
+        idOfNextStored = id;
+        try {
+            add(index, person);
+        } finally {
+            idOfNextStored = ReadOnlyPerson.UNASSIGNED_ID;
+        }
+    }
+
+    /**
+     * Replaces the person at {@code index} with {@code person}, with {@code id} in place of its own id.
+     */
+    public void set(int index, ReadOnlyPerson person, long id) {
+        idOfNextStored = id;
+        try {
+            set(index, person);
+        } finally {
+            idOfNextStored = ReadOnlyPerson.UNASSIGNED_ID;
+        }
+    }
+
+    /**
+     * Replaces the persons with {@code persons}, the i-th of which is given the i-th of {@code ids}.
+     */
+    public void setAll(List<? extends ReadOnlyPerson> persons, long[] ids) {
+        assert persons.size() == ids.length;
+        Chunk[] chunks = new Chunk[(persons.size() + CHUNK_CAPACITY - 1) / CHUNK_CAPACITY];
+        for (int i = 0; i < chunks.length; i++) {
+            int from = i * CHUNK_CAPACITY;
+            chunks[i] = Chunk.of(persons, ids, from, Math.min(persons.size(), from + CHUNK_CAPACITY));
+        }
+        beginChange();
+        try {
+            List<ReadOnlyPerson> removed = snapshot();
+            root = build(chunks, 0, chunks.length);
+            nextRemove(0, removed);
+            nextAdd(0, persons.size());
+            modCount++;
+        } finally {
+            endChange();
+        }
+    }
+
+    /**
+     * Returns an immutable list of the persons in this list now, which later changes to this list do not affect.
+     */
+    public List<ReadOnlyPerson> snapshot() {
+        Node snapshotRoot = root;
+        return new AbstractList<ReadOnlyPerson>() {
+            @Override
+            public ReadOnlyPerson get(int index) {
+                checkIndex(index, size());
+                return getPerson(snapshotRoot, index);
+            }
+
+            @Override
+            public int size() {
+                return sizeOf(snapshotRoot);
+            }
+        };
+    }
+
+    @Override
+    protected void doAdd(int index, ReadOnlyPerson element) {
+        checkIndex(index, size() + 1);
+        root = insert(root, index, toChunk(element));
+    }
+
+    @Override
+    protected ReadOnlyPerson doSet(int index, ReadOnlyPerson element) {
+        checkIndex(index, size());
+        Chunk replacement = toChunk(element);
+        ReadOnlyPerson replaced = get(index);
+        root = replace(root, index, replacement);
+        return replaced;
+    }
+
+    @Override
+    protected ReadOnlyPerson doRemove(int index) {
+        checkIndex(index, size());
+        ReadOnlyPerson removed = get(index);
+        root = remove(root, index);
+        return removed;
+    }
+
+    /**
+     * Returns a chunk of {@code person} alone.
+     */
+    private Chunk toChunk(ReadOnlyPerson person) {
+        requireNonNull(person);
+        long id = idOfNextStored == ReadOnlyPerson.UNASSIGNED_ID ? person.getId() : idOfNextStored;
+        return Chunk.of(Arrays.asList(person), new long[] {id}, 0, 1);
+    }
+
+    private static void checkIndex(int index, int bound) {
+        if (index < 0 || index >= bound) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + bound);
+        }
+    }
+
+    //// the tree of chunks, whose operations return new trees sharing the unchanged nodes
+
+    /**
+     * Returns a view of the person at {@code index} of the tree at {@code node}.
+     */
+    private static ReadOnlyPerson getPerson(Node node, int index) {
+        while (true) {
+            int leftSize = sizeOf(node.left);
+            if (index < leftSize) {
+                node = node.left;
+                continue;
+            }
+            index -= leftSize;
+            if (index < node.chunk.size()) {
+                return new PersonView(node.chunk, index);
+            }
+            index -= node.chunk.size();
+            node = node.right;
+        }
+    }
+
+    /**
+     * Returns the tree at {@code node} with the person of {@code single} inserted at {@code index}.
+     */
+    private static Node insert(Node node, int index, Chunk single) {
+        if (node == null) {
+            return new Node(null, single, null);
+        }
+        int leftSize = sizeOf(node.left);
+        int offset = index - leftSize;
+        if (offset < 0) {
+            return balance(insert(node.left, index, single), node.chunk, node.right);
+        }
+        Chunk chunk = node.chunk;
+        if (offset > chunk.size()) {
+            return balance(node.left, chunk, insert(node.right, offset - chunk.size(), single));
+        }
+        if (chunk.size() < CHUNK_CAPACITY) {
+            return new Node(node.left, chunk.splice(offset, 0, single), node.right);
+        }
+        // a full chunk gets a new chunk next to it when added to at either end, and is split otherwise
+        if (offset == chunk.size()) {
+            return balance(node.left, chunk, insertFirst(node.right, single));
+        }
+        if (offset == 0) {
+            return balance(insertLast(node.left, single), chunk, node.right);
+        }
+        Chunk joined = chunk.splice(offset, 0, single);
+        int half = joined.size() / 2;
+        return balance(node.left, joined.splice(half, joined.size() - half, Chunk.EMPTY),
+                insertFirst(node.right, joined.splice(0, half, Chunk.EMPTY)));
+    }
+
+    /**
+     * Returns the tree at {@code node} with {@code chunk} as its first chunk.
+     */
+    private static Node insertFirst(Node node, Chunk chunk) {
+        if (node == null) {
+            return new Node(null, chunk, null);
+        }
+        return balance(insertFirst(node.left, chunk), node.chunk, node.right);
+    }
+
+    /**
+     * Returns the tree at {@code node} with {@code chunk} as its last chunk.
+     */
+    private static Node insertLast(Node node, Chunk chunk) {
+        if (node == null) {
+            return new Node(null, chunk, null);
+        }
+        return balance(node.left, node.chunk, insertLast(node.right, chunk));
+    }
+
+    /**
+     * Returns the tree at {@code node} with the person at {@code index} replaced by the person of {@code single}.
+     */
+    private static Node replace(Node node, int index, Chunk single) {
+        int leftSize = sizeOf(node.left);
+        int offset = index - leftSize;
+        if (offset < 0) {
+            return new Node(replace(node.left, index, single), node.chunk, node.right);
+        }
+        if (offset >= node.chunk.size()) {
+            return new Node(node.left, node.chunk, replace(node.right, offset - node.chunk.size(), single));
+        }
+        return new Node(node.left, node.chunk.splice(offset, 1, single), node.right);
+    }
+
+    /**
+     * Returns the tree at {@code node} with the person at {@code index} removed, and its chunk if it empties.
+     */
+    private static Node remove(Node node, int index) {
+        int leftSize = sizeOf(node.left);
+        int offset = index - leftSize;
+        if (offset < 0) {
+            return balance(remove(node.left, index), node.chunk, node.right);
+        }
+        if (offset >= node.chunk.size()) {
+            return balance(node.left, node.chunk, remove(node.right, offset - node.chunk.size()));
+        }
+        if (node.chunk.size() > 1) {
+            return new Node(node.left, node.chunk.splice(offset, 1, Chunk.EMPTY), node.right);
+        }
+        if (node.left == null) {
+            return node.right;
+        }
+        if (node.right == null) {
+            return node.left;
+        }
+        return balance(node.left, first(node.right), removeFirst(node.right));
+    }
+
+    /**
+     * Returns the first chunk of the tree at {@code node}.
+     */
+    private static Chunk first(Node node) {
+        while (node.left != null) {
+            node = node.left;
+        }
+        return node.chunk;
+    }
+
+    /**
+     * Returns the tree at {@code node} without its first chunk.
+     */
+    private static Node removeFirst(Node node) {
+        if (node.left == null) {
+            return node.right;
+        }
+        return balance(removeFirst(node.left), node.chunk, node.right);
+    }
+
+    /**
+     * Returns a balanced tree of {@code chunks} from {@code from} until {@code to}.
+     */
+    private static Node build(Chunk[] chunks, int from, int to) {
+        if (from == to) {
+            return null;
+        }
+        int middle = (from + to) >>> 1;
+        return new Node(build(chunks, from, middle), chunks[middle], build(chunks, middle + 1, to));
+    }
+
+    /**
+     * Returns a node joining {@code left}, {@code chunk} and {@code right}, rotating it if the heights of
+     * {@code left} and {@code right} differ by more than one, which they may do by at most two.
+     */
+    private static Node balance(Node left, Chunk chunk, Node right) {
+        if (heightOf(left) > heightOf(right) + 1) {
+            if (heightOf(left.left) >= heightOf(left.right)) {
+                return new Node(left.left, left.chunk, new Node(left.right, chunk, right));
+            }
+            return new Node(new Node(left.left, left.chunk, left.right.left), left.right.chunk,
+                    new Node(left.right.right, chunk, right));
+        }
+        if (heightOf(right) > heightOf(left) + 1) {
+            if (heightOf(right.right) >= heightOf(right.left)) {
+                return new Node(new Node(left, chunk, right.left), right.chunk, right.right);
+            }
+            return new Node(new Node(left, chunk, right.left.left), right.left.chunk,
+                    new Node(right.left.right, right.chunk, right.right));
+        }
+        return new Node(left, chunk, right);
+    }
+
+    private static int sizeOf(Node node) {
+        return node == null ? 0 : node.size;
+    }
+
+    private static int heightOf(Node node) {
+        return node == null ? 0 : node.height;
+    }
+
+    /**
+     * An immutable node of the tree, holding a chunk of the persons in order between its subtrees.
+     */
+    private static final class Node {
+        private final Node left;
+        private final Chunk chunk;
+        private final Node right;
+        // the number of persons in this subtree
+        private final int size;
+        private final int height;
+
+        Node(Node left, Chunk chunk, Node right) {
+            this.left = left;
+            this.chunk = chunk;
+            this.right = right;
+            this.size = sizeOf(left) + chunk.size() + sizeOf(right);
+            this.height = Math.max(heightOf(left), heightOf(right)) + 1;
+        }
+    }
+
+    /**
+     * The fields of consecutive persons, one array per field. A chunk is never changed once built.
+     */
+    private static final class Chunk {
+        private static final Chunk EMPTY = new Chunk(0);
+
+        private final long[] ids;
+        private final String[] names;
+        private final String[] phones;
+        private final String[] emails;
+        private final String[] addresses;
+        private final Object[] tagSets;
+
+        private Chunk(int size) {
+            ids = new long[size];
+            names = new String[size];
+            phones = new String[size];
+            emails = new String[size];
+            addresses = new String[size];
+            tagSets = new Object[size];
+        }
+
+        /**
+         * Returns a chunk of the persons in {@code persons} from {@code from} until {@code to}, with their
+         * ids in {@code ids}.
+         */
+        static Chunk of(List<? extends ReadOnlyPerson> persons, long[] ids, int from, int to) {
+            Chunk chunk = new Chunk(to - from);
+            for (int i = from; i < to; i++) {
+                ReadOnlyPerson person = persons.get(i);
+                int offset = i - from;
+                chunk.ids[offset] = ids[i];
+                chunk.names[offset] = person.getName().fullName;
+                chunk.phones[offset] = person.getPhone().value;
+                chunk.emails[offset] = person.getEmail().value;
+                chunk.addresses[offset] = ADDRESSES.intern(person.getAddress().value);
+                chunk.tagSets[offset] = TAG_SETS.intern(
+                        ImmutableSet.copyOf(person.getTags().stream().map(Tag::intern).iterator()));
+            }
+            return chunk;
+        }
+
+        int size() {
+            return ids.length;
+        }
+
+        /**
+         * Returns a copy of this chunk with the {@code removedCount} persons from {@code offset} replaced by the
+         * persons of {@code inserted}.
+         */
+        Chunk splice(int offset, int removedCount, Chunk inserted) {
+            Chunk chunk = new Chunk(size() - removedCount + inserted.size());
+            spliceColumn(ids, offset, removedCount, inserted.ids, chunk.ids);
+            spliceColumn(names, offset, removedCount, inserted.names, chunk.names);
+            spliceColumn(phones, offset, removedCount, inserted.phones, chunk.phones);
+            spliceColumn(emails, offset, removedCount, inserted.emails, chunk.emails);
+            spliceColumn(addresses, offset, removedCount, inserted.addresses, chunk.addresses);
+            spliceColumn(tagSets, offset, removedCount, inserted.tagSets, chunk.tagSets);
+            return chunk;
+        }
+
+        /**
+         * Fills {@code to} with {@code from}, having its {@code removedCount} entries from {@code offset} replaced
+         * by {@code inserted}.
+         */
+        private static void spliceColumn(Object from, int offset, int removedCount, Object inserted, Object to) {
+            int insertedCount = Array.getLength(inserted);
+            int tailCount = Array.getLength(from) - offset - removedCount;
+            System.arraycopy(from, 0, to, 0, offset);
+            System.arraycopy(inserted, 0, to, offset, insertedCount);
+            System.arraycopy(from, offset + removedCount, to, offset + insertedCount, tailCount);
+        }
+    }
+
+    /**
+     * A person read from its chunk, which it keeps after the person is replaced or removed from the list.
+     * Its values are created from the stored strings when asked for.
+     */
+    private static final class PersonView implements ReadOnlyPerson {
+        private final Chunk chunk;
+        private final int offset;
+
+        private ObjectProperty<Name> nameProperty;
+        private ObjectProperty<Phone> phoneProperty;
+        private ObjectProperty<Email> emailProperty;
+        private ObjectProperty<Address> addressProperty;
+        private ObjectProperty<UniqueTagList> tagProperty;
+
+        PersonView(Chunk chunk, int offset) {
+            this.chunk = chunk;
+            this.offset = offset;
+        }
+
+        @Override
+        public long getId() {
+            return chunk.ids[offset];
+        }
+
+        @Override
+        public ObjectProperty<Name> nameProperty() {
+            if (nameProperty == null) {
+                nameProperty = new SimpleObjectProperty<>(getName());
+            }
+            return nameProperty;
+        }
+
+        @Override
+        public Name getName() {
+            return Name.ofValid(chunk.names[offset]);
+        }
+
+        @Override
+        public ObjectProperty<Phone> phoneProperty() {
+            if (phoneProperty == null) {
+                phoneProperty = new SimpleObjectProperty<>(getPhone());
+            }
+            return phoneProperty;
+        }
+
+        @Override
+        public Phone getPhone() {
+            return Phone.ofValid(chunk.phones[offset]);
+        }
+
+        @Override
+        public ObjectProperty<Email> emailProperty() {
+            if (emailProperty == null) {
+                emailProperty = new SimpleObjectProperty<>(getEmail());
+            }
+            return emailProperty;
+        }
+
+        @Override
+        public Email getEmail() {
+            return Email.ofValid(chunk.emails[offset]);
+        }
+
+        @Override
+        public ObjectProperty<Address> addressProperty() {
+            if (addressProperty == null) {
+                addressProperty = new SimpleObjectProperty<>(getAddress());
+            }
+            return addressProperty;
+        }
+
+        @Override
+        public Address getAddress() {
+            return Address.ofValid(chunk.addresses[offset]);
+        }
+
+        @Override
+        public ObjectProperty<UniqueTagList> tagProperty() {
+            if (tagProperty == null) {
+                tagProperty = new SimpleObjectProperty<>(new UniqueTagList(getTags()));
+            }
+            return tagProperty;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public Set<Tag> getTags() {
+            return (Set<Tag>) chunk.tagSets[offset];
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other instanceof PersonView) {
+                PersonView view = (PersonView) other;
+                return chunk.names[offset].equals(view.chunk.names[view.offset])
+                        && chunk.phones[offset].equals(view.chunk.phones[view.offset])
+                        && chunk.emails[offset].equals(view.chunk.emails[view.offset])
+                        && chunk.addresses[offset].equals(view.chunk.addresses[view.offset]);
+            }
+            return other instanceof ReadOnlyPerson // instanceof handles nulls
+                    && this.isSameStateAs((ReadOnlyPerson) other);
+        }
+
+        @Override
+        public int hashCode() {
+            // consistent with Person#hashCode(), which hashes the values, whose hashes are those of their strings
+            int hash = 1;
+            hash = 31 * hash + chunk.names[offset].hashCode();
+            hash = 31 * hash + chunk.phones[offset].hashCode();
+            hash = 31 * hash + chunk.emails[offset].hashCode();
+            return 31 * hash + chunk.addresses[offset].hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return getAsText();
+        }
+    }
+
+}
@@ -30,6 +30,18 @@ public class Email {
         this.value = trimmedEmail;
     }
 
+    private Email(String validEmail, boolean isValidated) {
+        assert isValidated;
+        this.value = validEmail;
+    }
+
+    /**
+     * Returns the email {@code validEmail}, which must be trimmed and valid, without validating it again.
+     */
+    static Email ofValid(String validEmail) {
+        return new Email(validEmail, true);
+    }
+
     /**
      * Returns if a given string is a valid person email.
      */
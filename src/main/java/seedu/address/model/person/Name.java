@@ -3,6 +3,7 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 
 import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.StringUtil;
 
 /**
  * Represents a Person's name in the address book.
@@ -20,6 +21,9 @@ public class Name {
     public static final String NAME_VALIDATION_REGEX = "[\\p{Alnum}][\\p{Alnum} ]*";
 
     public final String fullName;
+    // computed on first use, as the words are only needed by searches that no index answers;
+    // volatile so that searches on other threads see the words filled in
+    private volatile String[] lowerCaseWords;
 
     /**
      * Validates given name.
@@ -35,6 +39,18 @@ public class Name {
         this.fullName = trimmedName;
     }
 
+    private Name(String validName, boolean isValidated) {
+        assert isValidated;
+        this.fullName = validName;
+    }
+
+    /**
+     * Returns the name {@code validName}, which must be trimmed and valid, without validating it again.
+     */
+    static Name ofValid(String validName) {
+        return new Name(validName, true);
+    }
+
     /**
      * Returns true if a given string is a valid person name.
      */
@@ -43,6 +59,20 @@ public class Name {
     }
 
 
+    /**
+     * Returns the words of this name in lower case, computed once and shared by every caller.
+     * The returned array must not be modified.
+     */
+    public String[] getLowerCaseWords() {
+        String[] words = lowerCaseWords;
+        if (words == null) {
+            // computing the words twice on racing threads is harmless, as they are the same
+            words = StringUtil.toLowerCaseWords(fullName);
+            lowerCaseWords = words;
+        }
+        return words;
+    }
+
     @Override
     public String toString() {
         return fullName;
@@ -4,6 +4,7 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.Objects;
 import java.util.Set;
 
@@ -18,24 +19,31 @@ import seedu.address.model.tag.UniqueTagList;
  */
 public class Person implements ReadOnlyPerson {
 
-    private ObjectProperty<Name> name;
-    private ObjectProperty<Phone> phone;
-    private ObjectProperty<Email> email;
-    private ObjectProperty<Address> address;
+    private long id = UNASSIGNED_ID;
+    private Name name;
+    private Phone phone;
+    private Email email;
+    private Address address;
+    private Set<Tag> tags;
 
-    private ObjectProperty<UniqueTagList> tags;
+    // created on the first call to their accessor, as most persons are never observed
+    private ObjectProperty<Name> nameProperty;
+    private ObjectProperty<Phone> phoneProperty;
+    private ObjectProperty<Email> emailProperty;
+    private ObjectProperty<Address> addressProperty;
+    private ObjectProperty<UniqueTagList> tagProperty;
 
     /**
      * Every field must be present and not null.
      */
     public Person(Name name, Phone phone, Email email, Address address, Set<Tag> tags) {
         requireAllNonNull(name, phone, email, address, tags);
-        this.name = new SimpleObjectProperty<>(name);
-        this.phone = new SimpleObjectProperty<>(phone);
-        this.email = new SimpleObjectProperty<>(email);
-        this.address = new SimpleObjectProperty<>(address);
+        this.name = name;
+        this.phone = phone;
+        this.email = email;
+        this.address = address;
         // protect internal tags from changes in the arg list
-        this.tags = new SimpleObjectProperty<>(new UniqueTagList(tags));
+        this.tags = copyOf(tags);
     }
 
     /**
@@ -44,62 +52,104 @@ public class Person implements ReadOnlyPerson {
     public Person(ReadOnlyPerson source) {
         this(source.getName(), source.getPhone(), source.getEmail(), source.getAddress(),
                 source.getTags());
+        id = source.getId();
+    }
+
+    /**
+     * Returns an immutable copy of {@code tags}.
+     */
+    private static Set<Tag> copyOf(Set<Tag> tags) {
+        requireAllNonNull(tags);
+        return tags.isEmpty() ? Collections.emptySet() : Collections.unmodifiableSet(new HashSet<>(tags));
+    }
+
+    @Override
+    public long getId() {
+        return id;
+    }
+
+    public void setId(long id) {
+        this.id = id;
     }
 
     public void setName(Name name) {
-        this.name.set(requireNonNull(name));
+        this.name = requireNonNull(name);
+        if (nameProperty != null) {
+            nameProperty.set(name);
+        }
     }
 
     @Override
     public ObjectProperty<Name> nameProperty() {
-        return name;
+        if (nameProperty == null) {
+            nameProperty = new SimpleObjectProperty<>(name);
+        }
+        return nameProperty;
     }
 
     @Override
     public Name getName() {
-        return name.get();
+        return nameProperty == null ? name : nameProperty.get();
     }
 
     public void setPhone(Phone phone) {
-        this.phone.set(requireNonNull(phone));
+        this.phone = requireNonNull(phone);
+        if (phoneProperty != null) {
+            phoneProperty.set(phone);
+        }
     }
 
     @Override
     public ObjectProperty<Phone> phoneProperty() {
-        return phone;
+        if (phoneProperty == null) {
+            phoneProperty = new SimpleObjectProperty<>(phone);
+        }
+        return phoneProperty;
     }
 
     @Override
     public Phone getPhone() {
-        return phone.get();
+        return phoneProperty == null ? phone : phoneProperty.get();
     }
 
     public void setEmail(Email email) {
-        this.email.set(requireNonNull(email));
+        this.email = requireNonNull(email);
+        if (emailProperty != null) {
+            emailProperty.set(email);
+        }
     }
 
     @Override
     public ObjectProperty<Email> emailProperty() {
-        return email;
+        if (emailProperty == null) {
+            emailProperty = new SimpleObjectProperty<>(email);
+        }
+        return emailProperty;
     }
 
     @Override
     public Email getEmail() {
-        return email.get();
+        return emailProperty == null ? email : emailProperty.get();
     }
 
     public void setAddress(Address address) {
-        this.address.set(requireNonNull(address));
+        this.address = requireNonNull(address);
+        if (addressProperty != null) {
+            addressProperty.set(address);
+        }
     }
 
     @Override
     public ObjectProperty<Address> addressProperty() {
-        return address;
+        if (addressProperty == null) {
+            addressProperty = new SimpleObjectProperty<>(address);
+        }
+        return addressProperty;
     }
 
     @Override
     public Address getAddress() {
-        return address.get();
+        return addressProperty == null ? address : addressProperty.get();
     }
 
     /**
@@ -108,18 +158,25 @@ public class Person implements ReadOnlyPerson {
      */
     @Override
     public Set<Tag> getTags() {
-        return Collections.unmodifiableSet(tags.get().toSet());
+        return tagProperty == null ? tags : Collections.unmodifiableSet(tagProperty.get().toSet());
     }
 
+    @Override
     public ObjectProperty<UniqueTagList> tagProperty() {
-        return tags;
+        if (tagProperty == null) {
+            tagProperty = new SimpleObjectProperty<>(new UniqueTagList(tags));
+        }
+        return tagProperty;
     }
 
     /**
      * Replaces this person's tags with the tags in the argument tag set.
      */
     public void setTags(Set<Tag> replacement) {
-        tags.set(new UniqueTagList(replacement));
+        tags = copyOf(replacement);
+        if (tagProperty != null) {
+            tagProperty.set(new UniqueTagList(tags));
+        }
     }
 
     @Override
@@ -132,7 +189,8 @@ public class Person implements ReadOnlyPerson {
     @Override
     public int hashCode() {
         // use this method for custom fields hashing instead of implementing your own
-        return Objects.hash(name, phone, email, address, tags);
+        // only the fields compared by isSameStateAs are hashed, so that equal persons have equal hash codes
+        return Objects.hash(getName(), getPhone(), getEmail(), getAddress());
     }
 
     @Override
@@ -0,0 +1,219 @@
+package seedu.address.model.person;
+
+import java.util.function.IntFunction;
+
+import seedu.address.model.util.LongIntHashMap;
+import seedu.address.model.util.SlotPositions;
+
+/**
+ * The positions of the persons in a list, found either by the state of a person or by its id.
+ *
+ * Each person is given a slot, whose position is counted by {@link SlotPositions}. A slot records only the hash of
+ * the person's state and the person's id, so the persons themselves are not held: a candidate found by hash is read
+ * back from the list to be compared. The slots are found from a hash table of slots by state hash, and a
+ * {@link LongIntHashMap} of slots by id. Finding, appending, replacing and removing a person cost O(log n).
+ * Persons inserted anywhere but at the end are put in the slots freed between their neighbours if there are enough,
+ * as when a removal is undone, also in O(log n) each; otherwise the slots are rebuilt in O(n), without reading the
+ * persons.
+ *
+ * The positions must be updated before the list is changed, so that listeners of the list see them up to date.
+ * Lookups by id assume the ids of the persons are distinct.
+ */
+class PersonPositions {
+
+    private static final int MIN_CAPACITY = 16;
+    private static final int[] NO_HASHES = new int[0];
+    private static final long[] NO_IDS = new long[0];
+
+    // the person at a position of the list
+    private final IntFunction<ReadOnlyPerson> personAt;
+    private final SlotPositions slotPositions = new SlotPositions(MIN_CAPACITY);
+    // the state hash and the id of the person in each slot
+    private int[] hashes = new int[MIN_CAPACITY];
+    private long[] ids = new long[MIN_CAPACITY];
+    // open addressing table of each occupied slot plus one, at the state hash of its person; 0 if empty
+    private int[] slotsByHash = new int[MIN_CAPACITY * 2];
+    private final LongIntHashMap slotsById = new LongIntHashMap();
+
+    PersonPositions(IntFunction<ReadOnlyPerson> personAt) {
+        this.personAt = personAt;
+    }
+
+    int size() {
+        return slotPositions.size();
+    }
+
+    /**
+     * Returns the position of the person with the same state as {@code person}, or -1 if there is none.
+     */
+    int indexOf(ReadOnlyPerson person) {
+        int hash = person.hashCode();
+        int mask = slotsByHash.length - 1;
+        for (int index = home(hash, mask); slotsByHash[index] != 0; index = (index + 1) & mask) {
+            int slot = slotsByHash[index] - 1;
+            if (hashes[slot] == hash) {
+                int position = slotPositions.positionOf(slot);
+                if (person.isSameStateAs(personAt.apply(position))) {
+                    return position;
+                }
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the position of the person with {@code id}, or -1 if there is none.
+     */
+    int indexOfId(long id) {
+        int slot = slotsById.get(id);
+        return slot == LongIntHashMap.ABSENT ? -1 : slotPositions.positionOf(slot);
+    }
+
+    /**
+     * Records a person with state hash {@code hash} and {@code id} at the end of the list.
+     */
+    void append(int hash, long id) {
+        if (slotPositions.isFull()) {
+            int capacity = hashes.length;
+            rebuild(size() * 2 < capacity ? capacity : capacity * 2, size(), NO_HASHES, NO_IDS);
+        }
+        occupy(slotPositions.occupyNext(), hash, id);
+    }
+
+    /**
+     * Records persons with the state hashes {@code insertedHashes} and ids {@code insertedIds} at {@code position}
+     * of the list, moving the persons from there back.
+     */
+    void insertAll(int position, int[] insertedHashes, long[] insertedIds) {
+        if (position == size()) {
+            for (int i = 0; i < insertedHashes.length; i++) {
+                append(insertedHashes[i], insertedIds[i]);
+            }
+            return;
+        }
+        int freeSlot = position == 0 ? 0 : slotPositions.slotAt(position - 1) + 1;
+        if (slotPositions.slotAt(position) - freeSlot >= insertedHashes.length) {
+            for (int i = 0; i < insertedHashes.length; i++, freeSlot++) {
+                slotPositions.occupy(freeSlot);
+                occupy(freeSlot, insertedHashes[i], insertedIds[i]);
+            }
+            return;
+        }
+        int count = size() + insertedHashes.length;
+        rebuild(Math.max(MIN_CAPACITY, Integer.highestOneBit(count) * 2), position, insertedHashes, insertedIds);
+    }
+
+    /**
+     * Records a person with state hash {@code hash} and {@code id} in the place of the person at {@code position}.
+     */
+    void set(int position, int hash, long id) {
+        int slot = slotPositions.slotAt(position);
+        vacate(slot);
+        occupy(slot, hash, id);
+    }
+
+    /**
+     * Forgets the person at {@code position}, moving the persons behind it forward.
+     */
+    void removeAt(int position) {
+        int slot = slotPositions.slotAt(position);
+        vacate(slot);
+        slotPositions.free(slot);
+    }
+
+    /**
+     * Replaces the recorded persons with persons with the state hashes {@code newHashes} and ids {@code newIds}.
+     */
+    void setAll(int[] newHashes, long[] newIds) {
+        slotPositions.reset(hashes.length, 0);
+        int capacity = Math.max(MIN_CAPACITY, Integer.highestOneBit(Math.max(1, newHashes.length)) * 2);
+        rebuild(capacity, 0, newHashes, newIds);
+    }
+
+    /**
+     * Moves the occupied slots to the first of {@code capacity} slots, with persons with the state hashes
+     * {@code insertedHashes} and ids {@code insertedIds} put in the slots from {@code position} onwards, and
+     * rebuilds the lookup tables.
+     */
+    private void rebuild(int capacity, int position, int[] insertedHashes, long[] insertedIds) {
+        int[] newHashes = new int[capacity];
+        long[] newIds = new long[capacity];
+        int newSlot = 0;
+        for (int slot = 0; slot <= hashes.length; slot++) {
+            if (newSlot == position) {
+                System.arraycopy(insertedHashes, 0, newHashes, newSlot, insertedHashes.length);
+                System.arraycopy(insertedIds, 0, newIds, newSlot, insertedIds.length);
+                newSlot += insertedHashes.length;
+            }
+            if (slot < hashes.length && slotPositions.isOccupied(slot)) {
+                newHashes[newSlot] = hashes[slot];
+                newIds[newSlot++] = ids[slot];
+            }
+        }
+
+        hashes = newHashes;
+        ids = newIds;
+        slotPositions.reset(capacity, newSlot);
+        slotsByHash = new int[capacity * 2];
+        slotsById.clear();
+        for (int slot = 0; slot < newSlot; slot++) {
+            addToTables(slot);
+        }
+    }
+
+    /**
+     * Records a person with state hash {@code hash} and {@code id} in {@code slot}, which must be occupied and not
+     * recorded in the lookup tables.
+     */
+    private void occupy(int slot, int hash, long id) {
+        hashes[slot] = hash;
+        ids[slot] = id;
+        addToTables(slot);
+    }
+
+    /**
+     * Records the occupied {@code slot} in the lookup tables under the hash and id it holds.
+     */
+    private void addToTables(int slot) {
+        int mask = slotsByHash.length - 1;
+        int index = home(hashes[slot], mask);
+        while (slotsByHash[index] != 0) {
+            index = (index + 1) & mask;
+        }
+        slotsByHash[index] = slot + 1;
+        slotsById.put(ids[slot], slot);
+    }
+
+    /**
+     * Removes {@code slot} from the lookup tables.
+     */
+    private void vacate(int slot) {
+        int mask = slotsByHash.length - 1;
+        int gap = home(hashes[slot], mask);
+        while (slotsByHash[gap] != slot + 1) {
+            gap = (gap + 1) & mask;
+        }
+        slotsByHash[gap] = 0;
+        for (int next = (gap + 1) & mask; slotsByHash[next] != 0; next = (next + 1) & mask) {
+            // a slot may fill the gap if the gap lies between its home and where it is now
+            int nextHome = home(hashes[slotsByHash[next] - 1], mask);
+            if (((next - nextHome) & mask) >= ((next - gap) & mask)) {
+                slotsByHash[gap] = slotsByHash[next];
+                slotsByHash[next] = 0;
+                gap = next;
+            }
+        }
+        if (slotsById.get(ids[slot]) == slot) {
+            slotsById.remove(ids[slot]);
+        }
+    }
+
+    /**
+     * Returns the table index at which probing for {@code hash} starts.
+     */
+    private static int home(int hash, int mask) {
+        int spread = hash * 0x9E3779B9;
+        return (spread ^ (spread >>> 16)) & mask;
+    }
+
+}
@@ -30,6 +30,18 @@ public class Phone {
         this.value = trimmedPhone;
     }
 
+    private Phone(String validPhone, boolean isValidated) {
+        assert isValidated;
+        this.value = validPhone;
+    }
+
+    /**
+     * Returns the phone number {@code validPhone}, which must be trimmed and valid, without validating it again.
+     */
+    static Phone ofValid(String validPhone) {
+        return new Phone(validPhone, true);
+    }
+
     /**
      * Returns true if a given string is a valid person phone number.
      */
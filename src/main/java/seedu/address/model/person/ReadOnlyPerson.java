@@ -12,6 +12,15 @@ import seedu.address.model.tag.UniqueTagList;
  */
 public interface ReadOnlyPerson {
 
+    /** The id of a person that has not been added to an address book. */
+    long UNASSIGNED_ID = 0;
+
+    /**
+     * Returns the id the address book gave this person, which stays the same when the person is edited,
+     * or {@link #UNASSIGNED_ID} if the person is not in an address book.
+     * The id is not part of the person's state, so persons with different ids can be equal.
+     */
+    long getId();
     ObjectProperty<Name> nameProperty();
     Name getName();
     ObjectProperty<Phone> phoneProperty();
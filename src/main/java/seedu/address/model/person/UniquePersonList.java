@@ -2,10 +2,11 @@ package seedu.address.model.person;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
-
-import org.fxmisc.easybind.EasyBind;
+import java.util.Optional;
+import java.util.stream.Collectors;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -14,6 +15,7 @@ import seedu.address.commons.util.CollectionUtil;
 
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
+import seedu.address.model.tag.Tag;
 
 
 /**
@@ -21,21 +23,68 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  *
  * Supports a minimal set of list operations.
  *
+ * The positions of the persons are also indexed by hash (see {@link ReadOnlyPerson#isSameStateAs(ReadOnlyPerson)})
+ * and by id in {@link PersonPositions}, so membership checks and finding a person cost O(log n) instead of a scan of
+ * the list, and a removal does not update the positions of the persons behind it. Removing from the backing list
+ * still shifts the persons behind, and inserting persons anywhere but at the end, as done when undoing and redoing,
+ * rebuilds the positions in O(n). The positions hold no references to the persons.
+ *
+ * The persons are kept in a backing {@code ObservableList}. By default this is an array list of {@code Person}
+ * copies of the persons added, which share their addresses and tags with equal persons; a
+ * {@link ColumnarPersonList} stores the fields of the persons added itself, so no copies are made.
+ *
  * @see Person#equals(Object)
  * @see CollectionUtil#elementsAreUnique(Collection)
  */
-public class UniquePersonList implements Iterable<Person> {
+public class UniquePersonList implements Iterable<ReadOnlyPerson> {
+
+    private final ObservableList<ReadOnlyPerson> internalList;
+    // internalList if it stores the persons added itself, or null if they are copied before they are put into it
+    private final ColumnarPersonList columnarList;
 
-    private final ObservableList<Person> internalList = FXCollections.observableArrayList();
-    // used by asObservableList()
-    private final ObservableList<ReadOnlyPerson> mappedList = EasyBind.map(internalList, (person) -> person);
+    // position of every person in internalList, found by the person's identity fields or id
+    private final PersonPositions positions;
+
+    public UniquePersonList() {
+        this(FXCollections.observableArrayList(), null);
+    }
+
+    /**
+     * Creates a UniquePersonList keeping its persons in {@code internalList}, which must be empty.
+     */
+    public UniquePersonList(ColumnarPersonList internalList) {
+        this(internalList, internalList);
+    }
+
+    private UniquePersonList(ObservableList<ReadOnlyPerson> internalList, ColumnarPersonList columnarList) {
+        requireNonNull(internalList);
+        assert internalList.isEmpty();
+        this.internalList = internalList;
+        this.columnarList = columnarList;
+        positions = new PersonPositions(internalList::get);
+    }
 
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(ReadOnlyPerson toCheck) {
         requireNonNull(toCheck);
-        return internalList.contains(toCheck);
+        return positions.indexOf(toCheck) >= 0;
+    }
+
+    /**
+     * Returns the position of the equivalent person in the list, or -1 if there is no such person.
+     */
+    public int indexOf(ReadOnlyPerson toFind) {
+        return positions.indexOf(toFind);
+    }
+
+    /**
+     * Returns the person with {@code id}, if there is one.
+     */
+    public Optional<ReadOnlyPerson> getPersonById(long id) {
+        int index = positions.indexOfId(id);
+        return index == -1 ? Optional.empty() : Optional.of(internalList.get(index));
     }
 
     /**
@@ -44,15 +93,31 @@ public class UniquePersonList implements Iterable<Person> {
      * @throws DuplicatePersonException if the person to add is a duplicate of an existing person in the list.
      */
     public void add(ReadOnlyPerson toAdd) throws DuplicatePersonException {
+        requireNonNull(toAdd);
+        add(toAdd, toAdd.getId());
+    }
+
+    /**
+     * Adds a person to the list, with {@code id} in place of its own id.
+     *
+     * @throws DuplicatePersonException if the person to add is a duplicate of an existing person in the list.
+     */
+    public void add(ReadOnlyPerson toAdd, long id) throws DuplicatePersonException {
         requireNonNull(toAdd);
         if (contains(toAdd)) {
             throw new DuplicatePersonException();
         }
-        internalList.add(new Person(toAdd));
+        positions.append(toAdd.hashCode(), id);
+        if (columnarList != null) {
+            columnarList.add(columnarList.size(), toAdd, id);
+        } else {
+            internalList.add(copy(toAdd, id));
+        }
     }
 
     /**
-     * Replaces the person {@code target} in the list with {@code editedPerson}.
+     * Replaces the person {@code target} in the list with {@code editedPerson}, which takes over the id of
+     * {@code target}.
      *
      * @throws DuplicatePersonException if the replacement is equivalent to another existing person in the list.
      * @throws PersonNotFoundException if {@code target} could not be found in the list.
@@ -61,16 +126,23 @@ public class UniquePersonList implements Iterable<Person> {
             throws DuplicatePersonException, PersonNotFoundException {
         requireNonNull(editedPerson);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new PersonNotFoundException();
         }
 
-        if (!target.equals(editedPerson) && internalList.contains(editedPerson)) {
+        if (!target.equals(editedPerson) && contains(editedPerson)) {
             throw new DuplicatePersonException();
         }
 
-        internalList.set(index, new Person(editedPerson));
+        // the edited person stays the same person, so it keeps the id of the person it replaces
+        long id = internalList.get(index).getId();
+        positions.set(index, editedPerson.hashCode(), id);
+        if (columnarList != null) {
+            columnarList.set(index, editedPerson, id);
+        } else {
+            internalList.set(index, copy(editedPerson, id));
+        }
     }
 
     /**
@@ -80,34 +152,97 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public boolean remove(ReadOnlyPerson toRemove) throws PersonNotFoundException {
         requireNonNull(toRemove);
-        final boolean personFoundAndDeleted = internalList.remove(toRemove);
-        if (!personFoundAndDeleted) {
+        final int index = indexOf(toRemove);
+        if (index == -1) {
             throw new PersonNotFoundException();
         }
-        return personFoundAndDeleted;
+        positions.removeAt(index);
+        internalList.remove(index);
+        return true;
+    }
+
+    /**
+     * Replaces the {@code removedCount} persons starting at {@code from} with {@code added}, which keep their ids.
+     * The persons added must not be equivalent to any person remaining in the list.
+     */
+    public void replaceRange(int from, int removedCount, List<? extends ReadOnlyPerson> added) {
+        for (int i = 0; i < removedCount; i++) {
+            positions.removeAt(from);
+        }
+        internalList.subList(from, from + removedCount).clear();
+
+        positions.insertAll(from, getHashes(added), getIds(added));
+        internalList.addAll(from, columnarList != null ? added : copy(added, getIds(added)));
     }
 
     public void setPersons(UniquePersonList replacement) {
-        this.internalList.setAll(replacement.internalList);
+        try {
+            setPersons(replacement.internalList, getIds(replacement.internalList));
+        } catch (DuplicatePersonException dpe) {
+            assert false : "A UniquePersonList should not have duplicate persons";
+        }
     }
 
     public void setPersons(List<? extends ReadOnlyPerson> persons) throws DuplicatePersonException {
-        final UniquePersonList replacement = new UniquePersonList();
-        for (final ReadOnlyPerson person : persons) {
-            replacement.add(new Person(person));
+        setPersons(persons, getIds(persons));
+    }
+
+    /**
+     * Replaces the persons in the list with {@code persons}, the i-th of which is given the i-th of {@code ids}.
+     *
+     * @throws DuplicatePersonException if two of {@code persons} are equivalent.
+     */
+    public void setPersons(List<? extends ReadOnlyPerson> persons, long[] ids) throws DuplicatePersonException {
+        if (!CollectionUtil.elementsAreUnique(persons)) {
+            throw new DuplicatePersonException();
         }
-        setPersons(replacement);
+        positions.setAll(getHashes(persons), ids);
+        if (columnarList != null) {
+            columnarList.setAll(persons, ids);
+        } else {
+            internalList.setAll(copy(persons, ids));
+        }
+    }
+
+    /**
+     * Returns a copy of {@code person} with {@code id}, sharing the address and tags of equal persons.
+     */
+    private static Person copy(ReadOnlyPerson person, long id) {
+        Person copy = new Person(person);
+        copy.setId(id);
+        copy.setAddress(person.getAddress().intern());
+        copy.setTags(person.getTags().stream().map(Tag::intern).collect(Collectors.toSet()));
+        return copy;
+    }
+
+    /**
+     * Returns copies of {@code persons}, the i-th of which is given the i-th of {@code ids}.
+     */
+    private static List<ReadOnlyPerson> copy(List<? extends ReadOnlyPerson> persons, long[] ids) {
+        List<ReadOnlyPerson> copies = new ArrayList<>(persons.size());
+        for (int i = 0; i < persons.size(); i++) {
+            copies.add(copy(persons.get(i), ids[i]));
+        }
+        return copies;
+    }
+
+    private static int[] getHashes(List<? extends ReadOnlyPerson> persons) {
+        return persons.stream().mapToInt(ReadOnlyPerson::hashCode).toArray();
+    }
+
+    private static long[] getIds(List<? extends ReadOnlyPerson> persons) {
+        return persons.stream().mapToLong(ReadOnlyPerson::getId).toArray();
     }
 
     /**
      * Returns the backing list as an unmodifiable {@code ObservableList}.
      */
     public ObservableList<ReadOnlyPerson> asObservableList() {
-        return FXCollections.unmodifiableObservableList(mappedList);
+        return FXCollections.unmodifiableObservableList(internalList);
     }
 
     @Override
-    public Iterator<Person> iterator() {
+    public Iterator<ReadOnlyPerson> iterator() {
         return internalList.iterator();
     }
 
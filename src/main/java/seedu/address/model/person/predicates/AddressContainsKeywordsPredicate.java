@@ -1,26 +1,40 @@
 package seedu.address.model.person.predicates;
 
+import java.util.HashSet;
 import java.util.List;
-import java.util.function.Predicate;
+import java.util.Set;
 
-import seedu.address.commons.util.StringUtil;
+import seedu.address.model.AddressBook;
 import seedu.address.model.person.ReadOnlyPerson;
 
 /**
  * Tests that a {@code ReadOnlyPerson}'s {@code Address} matches any of the keywords given.
  */
-public class AddressContainsKeywordsPredicate implements Predicate<ReadOnlyPerson> {
+public class AddressContainsKeywordsPredicate implements IndexablePredicate {
     private final List<String> keywords;
+    private final KeywordMatcher matcher;
 
     public AddressContainsKeywordsPredicate(List<String> keywords) {
         this.keywords = keywords;
+        this.matcher = new KeywordMatcher(keywords);
     }
 
     @Override
     public boolean test(ReadOnlyPerson person) {
+        return matcher.matchesAnyWord(person.getAddress().getLowerCaseWords());
+    }
+
+    @Override
+    public Set<ReadOnlyPerson> getMatchingPersons(AddressBook addressBook) {
+        Set<ReadOnlyPerson> matchingPersons = new HashSet<>();
+        keywords.forEach(keyword -> matchingPersons.addAll(addressBook.getAddressTokenIndex().getPersons(keyword)));
+        return matchingPersons;
+    }
+
+    @Override
+    public int estimateLookupCost(AddressBook addressBook) {
         return keywords.stream()
-                .anyMatch(keyword ->
-                        StringUtil.containsWordIgnoreCase(person.getAddress().value, keyword));
+                .mapToInt(keyword -> addressBook.getAddressTokenIndex().getPersonCount(keyword)).sum();
     }
 
     @Override
@@ -30,4 +44,14 @@ public class AddressContainsKeywordsPredicate implements Predicate<ReadOnlyPerso
                 && this.keywords.equals(((AddressContainsKeywordsPredicate) other).keywords)); // state check
     }
 
+    @Override
+    public int hashCode() {
+        return keywords.hashCode();
+    }
+
+    @Override
+    public IndexablePredicate normalized() {
+        return new AddressContainsKeywordsPredicate(KeywordMatcher.normalize(keywords));
+    }
+
 }
@@ -1,30 +1,49 @@
 package seedu.address.model.person.predicates;
 
+import java.util.HashSet;
 import java.util.List;
-import java.util.function.Predicate;
+import java.util.Set;
 
-import seedu.address.commons.util.StringUtil;
+import seedu.address.model.AddressBook;
 import seedu.address.model.person.ReadOnlyPerson;
 
 /**
  * Tests that a {@code ReadOnlyPerson}'s {@code Name, Address, Phone Number and Email}
  * matches any of the keywords given.
  */
-public class AllAttributesContainsKeywordsPredicate implements Predicate<ReadOnlyPerson> {
+public class AllAttributesContainsKeywordsPredicate implements IndexablePredicate {
     private final List<String> keywords;
+    private final KeywordMatcher matcher;
 
     public AllAttributesContainsKeywordsPredicate(List<String> keywords) {
         this.keywords = keywords;
+        this.matcher = new KeywordMatcher(keywords);
     }
 
     @Override
     public boolean test(ReadOnlyPerson person) {
-        return keywords.stream().anyMatch(keyword -> person.getEmail().value.contains(keyword))
-                || keywords.stream().anyMatch(keyword ->
-                StringUtil.containsWordIgnoreCase(person.getAddress().value, keyword))
-                || keywords.stream().anyMatch(keyword -> person.getPhone().value.contains(keyword))
-                || keywords.stream().anyMatch(keyword ->
-                StringUtil.containsWordIgnoreCase(person.getName().fullName, keyword));
+        return matcher.isContainedIn(person.getEmail().value)
+                || matcher.matchesAnyWord(person.getAddress().getLowerCaseWords())
+                || matcher.isContainedIn(person.getPhone().value)
+                || matcher.matchesAnyWord(person.getName().getLowerCaseWords());
+    }
+
+    @Override
+    public Set<ReadOnlyPerson> getMatchingPersons(AddressBook addressBook) {
+        Set<ReadOnlyPerson> matchingPersons = new HashSet<>();
+        matchingPersons.addAll(new EmailContainsKeywordsPredicate(keywords).getMatchingPersons(addressBook));
+        matchingPersons.addAll(new AddressContainsKeywordsPredicate(keywords).getMatchingPersons(addressBook));
+        matchingPersons.addAll(new PhoneNumberContainsKeywordsPredicate(keywords).getMatchingPersons(addressBook));
+        matchingPersons.addAll(new NameContainsKeywordsPredicate(keywords).getMatchingPersons(addressBook));
+        return matchingPersons;
+    }
+
+    @Override
+    public int estimateLookupCost(AddressBook addressBook) {
+        return new EmailContainsKeywordsPredicate(keywords).estimateLookupCost(addressBook)
+                + new AddressContainsKeywordsPredicate(keywords).estimateLookupCost(addressBook)
+                + new PhoneNumberContainsKeywordsPredicate(keywords).estimateLookupCost(addressBook)
+                + new NameContainsKeywordsPredicate(keywords).estimateLookupCost(addressBook);
     }
 
     @Override
@@ -34,4 +53,14 @@ public class AllAttributesContainsKeywordsPredicate implements Predicate<ReadOnl
                 && this.keywords.equals(((AllAttributesContainsKeywordsPredicate) other).keywords)); // state check
     }
 
+    @Override
+    public int hashCode() {
+        return keywords.hashCode();
+    }
+
+    @Override
+    public IndexablePredicate normalized() {
+        return new AllAttributesContainsKeywordsPredicate(KeywordMatcher.normalize(keywords));
+    }
+
 }
@@ -1,31 +1,58 @@
 package seedu.address.model.person.predicates;
 
-import java.util.HashSet;
-import java.util.function.Predicate;
+import static java.util.Objects.requireNonNull;
 
+import java.util.BitSet;
+import java.util.Set;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.index.TagIndex;
 import seedu.address.model.person.ReadOnlyPerson;
 
 
 /**
- * Tests that if a {@code ReadOnlyPerson} if in the collection list.
+ * Tests that a {@code ReadOnlyPerson} is in the collection list, which the {@link TagIndex} of the address book
+ * keeps as a bitmap of person ordinals. The persons stay collected when they are edited.
+ * The matching persons are found from the bitmap, in time proportional to the number of collected persons, plus
+ * a word operation per 64 persons.
  */
-public class FavourListPredicate implements Predicate<ReadOnlyPerson> {
-    private final HashSet<ReadOnlyPerson> collectionSet;
-
-    public FavourListPredicate(HashSet<ReadOnlyPerson> collectionSet) {
-        this.collectionSet = collectionSet;
+public class FavourListPredicate implements IndexablePredicate {
+    private final TagIndex tagIndex;
+    // the collected persons when this predicate was created, which tells predicates of different collections apart
+    private final BitSet collectedOrdinals;
+
+    public FavourListPredicate(TagIndex tagIndex) {
+        requireNonNull(tagIndex);
+        this.tagIndex = tagIndex;
+        this.collectedOrdinals = tagIndex.getCollectedBitmap();
     }
 
     @Override
     public boolean test(ReadOnlyPerson person) {
-        return collectionSet.contains(person);
+        return tagIndex.isCollected(person.getId());
+    }
+
+    @Override
+    public Set<ReadOnlyPerson> getMatchingPersons(AddressBook addressBook) {
+        return addressBook.getTagIndex().getPersons(addressBook.getTagIndex().getCollectedBitmap());
+    }
+
+    @Override
+    public int estimateLookupCost(AddressBook addressBook) {
+        return addressBook.getTagIndex().getCollectedCount();
     }
 
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof FavourListPredicate // instanceof handles nulls
-                && this.collectionSet.equals(((FavourListPredicate) other).collectionSet)); // state check
+                && this.tagIndex == ((FavourListPredicate) other).tagIndex
+                && this.collectedOrdinals.equals(((FavourListPredicate) other).collectedOrdinals)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return collectedOrdinals.hashCode();
     }
 
 }
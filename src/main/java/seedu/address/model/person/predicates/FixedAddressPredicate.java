@@ -1,14 +1,16 @@
 package seedu.address.model.person.predicates;
 
-import java.util.function.Predicate;
+import java.util.HashSet;
+import java.util.Set;
 
+import seedu.address.model.AddressBook;
 import seedu.address.model.person.Address;
 import seedu.address.model.person.ReadOnlyPerson;
 
 /**
  * Tests that a {@code ReadOnlyPerson}'s {@code address} matches the given address.
  */
-public class FixedAddressPredicate implements Predicate<ReadOnlyPerson> {
+public class FixedAddressPredicate implements IndexablePredicate {
     private final Address fixedAddress;
 
     public FixedAddressPredicate(Address fixedAddress) {
@@ -24,6 +26,16 @@ public class FixedAddressPredicate implements Predicate<ReadOnlyPerson> {
         }
     }
 
+    @Override
+    public Set<ReadOnlyPerson> getMatchingPersons(AddressBook addressBook) {
+        return new HashSet<>(addressBook.getAddressIndex().getPersons(fixedAddress));
+    }
+
+    @Override
+    public int estimateLookupCost(AddressBook addressBook) {
+        return addressBook.getAddressIndex().getPersonCount(fixedAddress);
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
@@ -31,4 +43,9 @@ public class FixedAddressPredicate implements Predicate<ReadOnlyPerson> {
                 && this.fixedAddress.equals(((FixedAddressPredicate) other).fixedAddress)); // state check
     }
 
+    @Override
+    public int hashCode() {
+        return fixedAddress.hashCode();
+    }
+
 }
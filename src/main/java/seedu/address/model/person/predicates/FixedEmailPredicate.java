@@ -1,14 +1,16 @@
 package seedu.address.model.person.predicates;
 
-import java.util.function.Predicate;
+import java.util.HashSet;
+import java.util.Set;
 
+import seedu.address.model.AddressBook;
 import seedu.address.model.person.Email;
 import seedu.address.model.person.ReadOnlyPerson;
 
 /**
  * Tests that a {@code ReadOnlyPerson}'s {@code Email} matches the given email.
  */
-public class FixedEmailPredicate implements Predicate<ReadOnlyPerson> {
+public class FixedEmailPredicate implements IndexablePredicate {
     private final Email fixedEmail;
 
     public FixedEmailPredicate(Email fixedEmail) {
@@ -24,6 +26,16 @@ public class FixedEmailPredicate implements Predicate<ReadOnlyPerson> {
         }
     }
 
+    @Override
+    public Set<ReadOnlyPerson> getMatchingPersons(AddressBook addressBook) {
+        return new HashSet<>(addressBook.getEmailIndex().getPersons(fixedEmail));
+    }
+
+    @Override
+    public int estimateLookupCost(AddressBook addressBook) {
+        return addressBook.getEmailIndex().getPersonCount(fixedEmail);
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
@@ -31,4 +43,9 @@ public class FixedEmailPredicate implements Predicate<ReadOnlyPerson> {
                 && this.fixedEmail.equals(((FixedEmailPredicate) other).fixedEmail)); // state check
     }
 
+    @Override
+    public int hashCode() {
+        return fixedEmail.hashCode();
+    }
+
 }
@@ -1,14 +1,16 @@
 package seedu.address.model.person.predicates;
 
-import java.util.function.Predicate;
+import java.util.HashSet;
+import java.util.Set;
 
+import seedu.address.model.AddressBook;
 import seedu.address.model.person.Phone;
 import seedu.address.model.person.ReadOnlyPerson;
 
 /**
  * Tests that a {@code ReadOnlyPerson}'s {@code Phone} matches the given phone.
  */
-public class FixedPhonePredicate implements Predicate<ReadOnlyPerson> {
+public class FixedPhonePredicate implements IndexablePredicate {
     private final Phone fixedPhone;
 
     public FixedPhonePredicate(Phone fixedPhone) {
@@ -24,6 +26,16 @@ public class FixedPhonePredicate implements Predicate<ReadOnlyPerson> {
         }
     }
 
+    @Override
+    public Set<ReadOnlyPerson> getMatchingPersons(AddressBook addressBook) {
+        return new HashSet<>(addressBook.getPhoneIndex().getPersons(fixedPhone));
+    }
+
+    @Override
+    public int estimateLookupCost(AddressBook addressBook) {
+        return addressBook.getPhoneIndex().getPersonCount(fixedPhone);
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
@@ -31,4 +43,9 @@ public class FixedPhonePredicate implements Predicate<ReadOnlyPerson> {
                 && this.fixedPhone.equals(((FixedPhonePredicate) other).fixedPhone)); // state check
     }
 
+    @Override
+    public int hashCode() {
+        return fixedPhone.hashCode();
+    }
+
 }
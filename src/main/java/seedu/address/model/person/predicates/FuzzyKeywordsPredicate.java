@@ -0,0 +1,75 @@
+package seedu.address.model.person.predicates;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.index.TokenIndex;
+import seedu.address.model.person.ReadOnlyPerson;
+
+/**
+ * Tests that a word in a {@code ReadOnlyPerson}'s {@code Name or Address} is within the maximum edit distance
+ * of any of the keywords given, ignoring case.
+ */
+public class FuzzyKeywordsPredicate implements IndexablePredicate {
+    private final Map<String, Integer> maxDistancesByKeyword;
+
+    /**
+     * @param maxDistancesByKeyword the maximum number of edits allowed for each keyword
+     */
+    public FuzzyKeywordsPredicate(Map<String, Integer> maxDistancesByKeyword) {
+        this.maxDistancesByKeyword = maxDistancesByKeyword;
+    }
+
+    @Override
+    public boolean test(ReadOnlyPerson person) {
+        Set<String> words = TokenIndex.tokenize(person.getName().fullName);
+        words.addAll(TokenIndex.tokenize(person.getAddress().value));
+        return maxDistancesByKeyword.entrySet().stream().anyMatch(keyword -> words.stream().anyMatch(word ->
+                StringUtil.getEditDistance(word, keyword.getKey().toLowerCase()) <= keyword.getValue()));
+    }
+
+    @Override
+    public Set<ReadOnlyPerson> getMatchingPersons(AddressBook addressBook) {
+        Set<ReadOnlyPerson> matchingPersons = new HashSet<>();
+        maxDistancesByKeyword.forEach((keyword, maxDistance) -> {
+            for (String word : addressBook.getFuzzyWordIndex().getWordsWithin(keyword, maxDistance)) {
+                matchingPersons.addAll(addressBook.getNameTokenIndex().getPersons(word));
+                matchingPersons.addAll(addressBook.getAddressTokenIndex().getPersons(word));
+            }
+        });
+        return matchingPersons;
+    }
+
+    /**
+     * {@inheritDoc}
+     * The words within reach of the keywords are looked up in the BK-tree, which only visits a small part of it,
+     * and the persons having these words are counted from the sizes of their postings.
+     */
+    @Override
+    public int estimateLookupCost(AddressBook addressBook) {
+        int cost = 0;
+        for (Map.Entry<String, Integer> keyword : maxDistancesByKeyword.entrySet()) {
+            for (String word : addressBook.getFuzzyWordIndex().getWordsWithin(keyword.getKey(), keyword.getValue())) {
+                cost += addressBook.getNameTokenIndex().getPersonCount(word)
+                        + addressBook.getAddressTokenIndex().getPersonCount(word);
+            }
+        }
+        return cost;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof FuzzyKeywordsPredicate // instanceof handles nulls
+                && this.maxDistancesByKeyword.equals(((FuzzyKeywordsPredicate) other).maxDistancesByKeyword));
+    }
+
+    @Override
+    public int hashCode() {
+        return maxDistancesByKeyword.hashCode();
+    }
+
+}
@@ -0,0 +1,44 @@
+package seedu.address.model.person.predicates;
+
+import java.util.Set;
+import java.util.function.Predicate;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.ReadOnlyPerson;
+
+/**
+ * A {@code Predicate} on persons that can also be answered from the indexes of an {@code AddressBook}.
+ */
+public interface IndexablePredicate extends Predicate<ReadOnlyPerson> {
+
+    /**
+     * Returns the persons in {@code addressBook} that satisfy this predicate, looked up through the indexes
+     * of {@code addressBook} instead of testing every person.
+     */
+    Set<ReadOnlyPerson> getMatchingPersons(AddressBook addressBook);
+
+    /**
+     * Returns persons in {@code addressBook} that satisfy this predicate, as {@link #getMatchingPersons(AddressBook)}
+     * does, but may stop looking once {@code limit} of them are found, which need not be the first of them in the
+     * address book.
+     */
+    default Set<ReadOnlyPerson> getMatchingPersons(AddressBook addressBook, int limit) {
+        return getMatchingPersons(addressBook);
+    }
+
+    /**
+     * Returns the approximate number of persons or attribute values that {@link #getMatchingPersons(AddressBook)}
+     * goes through, which decides whether the indexes or a scan of every person answer the predicate.
+     * The estimate should cost much less than the lookup itself.
+     */
+    int estimateLookupCost(AddressBook addressBook);
+
+    /**
+     * Returns a predicate equal to every predicate matching the same persons in the same way as this one,
+     * e.g. with its keywords in a fixed order, so that results can be reused between such predicates.
+     */
+    default IndexablePredicate normalized() {
+        return this;
+    }
+
+}
@@ -0,0 +1,59 @@
+package seedu.address.model.person.predicates;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Keywords compiled once so that they can be matched against many persons without allocating.
+ * Word matches ignore case, like {@link seedu.address.commons.util.StringUtil#containsWordIgnoreCase(String, String)},
+ * while substring matches are case sensitive, like {@link String#contains(CharSequence)}.
+ */
+public class KeywordMatcher {
+
+    private final String[] keywords;
+    private final Set<String> lowerCaseKeywords = new HashSet<>();
+
+    public KeywordMatcher(List<String> keywords) {
+        requireNonNull(keywords);
+        this.keywords = keywords.toArray(new String[0]);
+        for (String keyword : keywords) {
+            lowerCaseKeywords.add(keyword.trim().toLowerCase());
+        }
+    }
+
+    /**
+     * Returns {@code keywords} sorted and without duplicates, which a matcher matches in the same way.
+     */
+    public static List<String> normalize(List<String> keywords) {
+        return new ArrayList<>(new TreeSet<>(keywords));
+    }
+
+    /**
+     * Returns true if any of {@code lowerCaseWords} is one of the keywords, ignoring case.
+     */
+    public boolean matchesAnyWord(String[] lowerCaseWords) {
+        for (String word : lowerCaseWords) {
+            if (lowerCaseKeywords.contains(word)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns true if {@code text} contains any of the keywords.
+     */
+    public boolean isContainedIn(String text) {
+        for (String keyword : keywords) {
+            if (text.contains(keyword)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -1,25 +1,40 @@
 package seedu.address.model.person.predicates;
 
+import java.util.HashSet;
 import java.util.List;
-import java.util.function.Predicate;
+import java.util.Set;
 
-import seedu.address.commons.util.StringUtil;
+import seedu.address.model.AddressBook;
 import seedu.address.model.person.ReadOnlyPerson;
 
 /**
  * Tests that a {@code ReadOnlyPerson}'s {@code Name} matches any of the keywords given.
  */
-public class NameContainsKeywordsPredicate implements Predicate<ReadOnlyPerson> {
+public class NameContainsKeywordsPredicate implements IndexablePredicate {
     private final List<String> keywords;
+    private final KeywordMatcher matcher;
 
     public NameContainsKeywordsPredicate(List<String> keywords) {
         this.keywords = keywords;
+        this.matcher = new KeywordMatcher(keywords);
     }
 
     @Override
     public boolean test(ReadOnlyPerson person) {
+        return matcher.matchesAnyWord(person.getName().getLowerCaseWords());
+    }
+
+    @Override
+    public Set<ReadOnlyPerson> getMatchingPersons(AddressBook addressBook) {
+        Set<ReadOnlyPerson> matchingPersons = new HashSet<>();
+        keywords.forEach(keyword -> matchingPersons.addAll(addressBook.getNameTokenIndex().getPersons(keyword)));
+        return matchingPersons;
+    }
+
+    @Override
+    public int estimateLookupCost(AddressBook addressBook) {
         return keywords.stream()
-                .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(person.getName().fullName, keyword));
+                .mapToInt(keyword -> addressBook.getNameTokenIndex().getPersonCount(keyword)).sum();
     }
 
     @Override
@@ -29,4 +44,14 @@ public class NameContainsKeywordsPredicate implements Predicate<ReadOnlyPerson>
                 && this.keywords.equals(((NameContainsKeywordsPredicate) other).keywords)); // state check
     }
 
+    @Override
+    public int hashCode() {
+        return keywords.hashCode();
+    }
+
+    @Override
+    public IndexablePredicate normalized() {
+        return new NameContainsKeywordsPredicate(KeywordMatcher.normalize(keywords));
+    }
+
 }
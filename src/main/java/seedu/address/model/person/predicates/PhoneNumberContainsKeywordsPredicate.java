@@ -1,24 +1,40 @@
 package seedu.address.model.person.predicates;
 
+import java.util.HashSet;
 import java.util.List;
-import java.util.function.Predicate;
+import java.util.Set;
 
+import seedu.address.model.AddressBook;
 import seedu.address.model.person.ReadOnlyPerson;
 
 /**
  * Tests that a {@code ReadOnlyPerson}'s {@code Phone Number} matches any of the keywords given.
  */
-public class PhoneNumberContainsKeywordsPredicate implements Predicate<ReadOnlyPerson> {
+public class PhoneNumberContainsKeywordsPredicate implements IndexablePredicate {
     private final List<String> keywords;
+    private final KeywordMatcher matcher;
 
     public PhoneNumberContainsKeywordsPredicate(List<String> keywords) {
         this.keywords = keywords;
+        this.matcher = new KeywordMatcher(keywords);
     }
 
     @Override
     public boolean test(ReadOnlyPerson person) {
+        return matcher.isContainedIn(person.getPhone().value);
+    }
+
+    @Override
+    public Set<ReadOnlyPerson> getMatchingPersons(AddressBook addressBook) {
+        Set<ReadOnlyPerson> matchingPersons = new HashSet<>();
+        keywords.forEach(keyword -> matchingPersons.addAll(addressBook.getPhoneSubstringIndex().getPersons(keyword)));
+        return matchingPersons;
+    }
+
+    @Override
+    public int estimateLookupCost(AddressBook addressBook) {
         return keywords.stream()
-                .anyMatch(keyword -> person.getPhone().value.contains(keyword));
+                .mapToInt(keyword -> addressBook.getPhoneSubstringIndex().getCandidateCount(keyword)).sum();
     }
 
     @Override
@@ -28,4 +44,14 @@ public class PhoneNumberContainsKeywordsPredicate implements Predicate<ReadOnlyP
                 && this.keywords.equals(((PhoneNumberContainsKeywordsPredicate) other).keywords)); // state check
     }
 
+    @Override
+    public int hashCode() {
+        return keywords.hashCode();
+    }
+
+    @Override
+    public IndexablePredicate normalized() {
+        return new PhoneNumberContainsKeywordsPredicate(KeywordMatcher.normalize(keywords));
+    }
+
 }
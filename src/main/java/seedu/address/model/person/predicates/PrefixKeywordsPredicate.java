@@ -0,0 +1,83 @@
+package seedu.address.model.person.predicates;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.index.TokenIndex;
+import seedu.address.model.person.ReadOnlyPerson;
+
+/**
+ * Tests that a word in a {@code ReadOnlyPerson}'s {@code Name, Address or Email} starts with any of the
+ * prefixes given, ignoring case.
+ */
+public class PrefixKeywordsPredicate implements IndexablePredicate {
+    private final List<String> prefixes;
+
+    public PrefixKeywordsPredicate(List<String> prefixes) {
+        this.prefixes = prefixes;
+    }
+
+    @Override
+    public boolean test(ReadOnlyPerson person) {
+        return prefixes.stream().anyMatch(prefix -> hasWordStartingWith(person.getName().fullName, prefix)
+                || hasWordStartingWith(person.getAddress().value, prefix)
+                || hasWordStartingWith(person.getEmail().value, prefix));
+    }
+
+    private static boolean hasWordStartingWith(String sentence, String prefix) {
+        String preppedPrefix = prefix.toLowerCase();
+        return TokenIndex.tokenize(sentence).stream().anyMatch(word -> word.startsWith(preppedPrefix));
+    }
+
+    @Override
+    public Set<ReadOnlyPerson> getMatchingPersons(AddressBook addressBook) {
+        return getMatchingPersons(addressBook, Integer.MAX_VALUE);
+    }
+
+    /**
+     * {@inheritDoc}
+     * The persons are taken from the prefix trie in word order, going through at most {@code limit} persons for
+     * each prefix.
+     */
+    @Override
+    public Set<ReadOnlyPerson> getMatchingPersons(AddressBook addressBook, int limit) {
+        Set<ReadOnlyPerson> matchingPersons = new LinkedHashSet<>();
+        for (String prefix : prefixes) {
+            for (ReadOnlyPerson person : addressBook.getPrefixTrie().getPersons(prefix, limit)) {
+                if (matchingPersons.size() >= limit) {
+                    return matchingPersons;
+                }
+                matchingPersons.add(person);
+            }
+        }
+        return matchingPersons;
+    }
+
+    @Override
+    public int estimateLookupCost(AddressBook addressBook) {
+        return prefixes.stream().mapToInt(prefix -> addressBook.getPrefixTrie().countPersons(prefix)).sum();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof PrefixKeywordsPredicate // instanceof handles nulls
+                && this.prefixes.equals(((PrefixKeywordsPredicate) other).prefixes)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return prefixes.hashCode();
+    }
+
+    @Override
+    public IndexablePredicate normalized() {
+        // prefixes match ignoring case
+        return new PrefixKeywordsPredicate(KeywordMatcher.normalize(
+                prefixes.stream().map(String::toLowerCase).collect(Collectors.toList())));
+    }
+
+}
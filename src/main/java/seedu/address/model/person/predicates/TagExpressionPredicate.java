@@ -0,0 +1,118 @@
+package seedu.address.model.person.predicates;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.index.TagIndex;
+import seedu.address.model.person.ReadOnlyPerson;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Tests that a {@code ReadOnlyPerson}'s {@code Tags} satisfy any of the given clauses.
+ * When answered from the indexes, the tag bitmaps are combined instead of testing every person.
+ */
+public class TagExpressionPredicate implements IndexablePredicate {
+    private final List<Clause> clauses;
+
+    /**
+     * @param clauses the clauses of the expression, any of which a person has to satisfy
+     */
+    public TagExpressionPredicate(List<Clause> clauses) {
+        this.clauses = clauses;
+    }
+
+    @Override
+    public boolean test(ReadOnlyPerson person) {
+        return clauses.stream().anyMatch(clause -> clause.test(person.getTags()));
+    }
+
+    @Override
+    public Set<ReadOnlyPerson> getMatchingPersons(AddressBook addressBook) {
+        TagIndex tagIndex = addressBook.getTagIndex();
+        BitSet matchingOrdinals = new BitSet();
+        for (Clause clause : clauses) {
+            matchingOrdinals.or(clause.getMatchingOrdinals(tagIndex));
+        }
+        return tagIndex.getPersons(matchingOrdinals);
+    }
+
+    @Override
+    public int estimateLookupCost(AddressBook addressBook) {
+        return clauses.stream().mapToInt(clause -> clause.estimateMatches(addressBook.getTagIndex())).sum();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof TagExpressionPredicate // instanceof handles nulls
+                && this.clauses.equals(((TagExpressionPredicate) other).clauses)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return clauses.hashCode();
+    }
+
+    /**
+     * A conjunction of tags a person must have and tags a person must not have.
+     */
+    public static class Clause {
+        private final Set<Tag> requiredTags;
+        private final Set<Tag> excludedTags;
+
+        public Clause(Set<Tag> requiredTags, Set<Tag> excludedTags) {
+            this.requiredTags = requireNonNull(requiredTags);
+            this.excludedTags = requireNonNull(excludedTags);
+        }
+
+        /**
+         * Returns true if {@code tags} has every required tag and none of the excluded tags.
+         */
+        public boolean test(Set<Tag> tags) {
+            return tags.containsAll(requiredTags) && Collections.disjoint(tags, excludedTags);
+        }
+
+        /**
+         * Returns the ordinals of the persons in {@code tagIndex} satisfying this clause.
+         */
+        BitSet getMatchingOrdinals(TagIndex tagIndex) {
+            BitSet matchingOrdinals = tagIndex.getAllBitmap();
+            for (Tag tag : requiredTags) {
+                matchingOrdinals.and(tagIndex.getBitmap(tag));
+            }
+            for (Tag tag : excludedTags) {
+                matchingOrdinals.andNot(tagIndex.getBitmap(tag));
+            }
+            return matchingOrdinals;
+        }
+
+        /**
+         * Returns an upper bound on the number of persons in {@code tagIndex} satisfying this clause:
+         * the number of persons with the least used required tag, or of all persons if no tag is required.
+         */
+        int estimateMatches(TagIndex tagIndex) {
+            return requiredTags.stream().mapToInt(tagIndex::getPersonCount).min()
+                    .orElse(tagIndex.getPersonCount());
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this // short circuit if same object
+                    || (other instanceof Clause // instanceof handles nulls
+                    && this.requiredTags.equals(((Clause) other).requiredTags)
+                    && this.excludedTags.equals(((Clause) other).excludedTags)); // state check
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(requiredTags, excludedTags);
+        }
+    }
+
+}
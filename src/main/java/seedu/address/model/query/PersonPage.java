@@ -0,0 +1,72 @@
+package seedu.address.model.query;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+import seedu.address.model.person.ReadOnlyPerson;
+
+/**
+ * A window of the persons satisfying a {@link Query}: the persons from a given offset onwards, up to a limit,
+ * together with the number of persons satisfying the query in total.
+ */
+public class PersonPage {
+
+    private final List<ReadOnlyPerson> persons;
+    private final int offset;
+    private final int totalCount;
+
+    public PersonPage(List<ReadOnlyPerson> persons, int offset, int totalCount) {
+        requireNonNull(persons);
+        assert offset >= 0 && totalCount >= 0;
+        this.persons = Collections.unmodifiableList(persons);
+        this.offset = offset;
+        this.totalCount = totalCount;
+    }
+
+    /**
+     * Returns the persons in this page, in the order of the address book.
+     */
+    public List<ReadOnlyPerson> getPersons() {
+        return persons;
+    }
+
+    /**
+     * Returns the position of the first person of this page among all the persons satisfying the query.
+     */
+    public int getOffset() {
+        return offset;
+    }
+
+    public int getTotalCount() {
+        return totalCount;
+    }
+
+    /**
+     * Returns true if more persons satisfying the query follow this page.
+     */
+    public boolean hasNextPage() {
+        return offset + persons.size() < totalCount;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof PersonPage // instanceof handles nulls
+                && persons.equals(((PersonPage) other).persons)
+                && offset == ((PersonPage) other).offset
+                && totalCount == ((PersonPage) other).totalCount); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(persons, offset, totalCount);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Persons %1$d to %2$d of %3$d", offset + 1, offset + persons.size(), totalCount);
+    }
+}
@@ -0,0 +1,77 @@
+package seedu.address.model.query;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Objects;
+import java.util.function.Predicate;
+
+import seedu.address.model.person.ReadOnlyPerson;
+
+/**
+ * A request for the persons satisfying a predicate, which the {@link QueryPlanner} turns into a {@link QueryPlan}.
+ */
+public class Query {
+
+    /** Limit of a query showing all the persons satisfying its predicate */
+    public static final int NO_LIMIT = Integer.MAX_VALUE;
+
+    private final Predicate<ReadOnlyPerson> predicate;
+    private final boolean isExplained;
+    private final int limit;
+
+    public Query(Predicate<ReadOnlyPerson> predicate) {
+        this(predicate, false);
+    }
+
+    /**
+     * @param isExplained whether the plan chosen for the query and its timing should be shown to the user
+     */
+    public Query(Predicate<ReadOnlyPerson> predicate, boolean isExplained) {
+        this(predicate, isExplained, NO_LIMIT);
+    }
+
+    /**
+     * @param isExplained whether the plan chosen for the query and its timing should be shown to the user
+     * @param limit the maximum number of persons shown, taken in the order of the person list by a scan, and in
+     *     the order an index lookup finds them otherwise
+     */
+    public Query(Predicate<ReadOnlyPerson> predicate, boolean isExplained, int limit) {
+        assert limit >= 0;
+        this.predicate = requireNonNull(predicate);
+        this.isExplained = isExplained;
+        this.limit = limit;
+    }
+
+    public Predicate<ReadOnlyPerson> getPredicate() {
+        return predicate;
+    }
+
+    public boolean isExplained() {
+        return isExplained;
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    /**
+     * Returns the name of the condition the query looks for.
+     */
+    public String getDescription() {
+        return predicate.getClass().isSynthetic() ? "condition" : predicate.getClass().getSimpleName();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof Query // instanceof handles nulls
+                && predicate.equals(((Query) other).predicate)
+                && isExplained == ((Query) other).isExplained
+                && limit == ((Query) other).limit); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(predicate, isExplained, limit);
+    }
+}
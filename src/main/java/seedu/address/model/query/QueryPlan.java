@@ -0,0 +1,176 @@
+package seedu.address.model.query;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.ReadOnlyPerson;
+import seedu.address.model.person.predicates.IndexablePredicate;
+import seedu.address.model.util.IndexedFilteredList;
+
+/**
+ * The way a {@link Query} is answered: by looking up the indexes of the address book, by testing every person,
+ * or by reusing the result of an earlier equal query.
+ */
+public class QueryPlan {
+
+    /**
+     * How the persons satisfying a query are found.
+     */
+    public enum Strategy {
+        INDEX, SCAN, CACHE
+    }
+
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    private final Query query;
+    private final Strategy strategy;
+    private final int estimatedLookupCost;
+    private final int personCount;
+    // the persons satisfying the query when it was answered before, if the strategy is CACHE
+    private final Set<ReadOnlyPerson> cachedPersons;
+    private long elapsedNanos = -1;
+
+    QueryPlan(Query query, Strategy strategy, int estimatedLookupCost, int personCount) {
+        assert strategy == Strategy.SCAN
+                || (strategy == Strategy.INDEX && query.getPredicate() instanceof IndexablePredicate);
+        this.query = query;
+        this.strategy = strategy;
+        this.estimatedLookupCost = estimatedLookupCost;
+        this.personCount = personCount;
+        this.cachedPersons = null;
+    }
+
+    QueryPlan(Query query, Set<ReadOnlyPerson> cachedPersons, int personCount) {
+        this.query = query;
+        this.strategy = Strategy.CACHE;
+        this.estimatedLookupCost = 0;
+        this.personCount = personCount;
+        this.cachedPersons = cachedPersons;
+    }
+
+    public Query getQuery() {
+        return query;
+    }
+
+    public Strategy getStrategy() {
+        return strategy;
+    }
+
+    /**
+     * Returns the time taken to execute the plan, or -1 if it has not been executed.
+     */
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    /**
+     * Filters {@code persons}, which must be backed by the persons of {@code addressBook}, down to the first
+     * persons satisfying the query, up to its limit, and records the time taken.
+     * The persons found from the indexes or the cache are located in {@code persons} one by one, so only a scan
+     * tests the persons of the address book, stopping once the limit is reached. An index lookup may stop once the
+     * limit is reached too, in which case the persons shown are those it found first, in the order of the list.
+     */
+    public void execute(AddressBook addressBook, IndexedFilteredList<ReadOnlyPerson> persons) {
+        long startNanos = System.nanoTime();
+        if (strategy == Strategy.INDEX) {
+            IndexablePredicate predicate = (IndexablePredicate) query.getPredicate();
+            persons.setMatches(predicate, predicate.getMatchingPersons(addressBook, query.getLimit()),
+                    query.getLimit());
+        } else if (strategy == Strategy.CACHE) {
+            persons.setMatches(query.getPredicate(), cachedPersons, query.getLimit());
+        } else {
+            persons.setPredicate(query.getPredicate(), query.getLimit());
+        }
+        elapsedNanos = System.nanoTime() - startNanos;
+    }
+
+    /**
+     * Returns the {@code limit} persons of {@code addressBook} satisfying the query from position {@code offset}
+     * onwards, in the order of the address book, and records the time taken.
+     * The persons found from the indexes or the cache are located in the address book and sorted by position,
+     * which costs O(k log n) for k persons found, and the page is taken from them without going through the other
+     * persons. A scan tests every person, as all the persons satisfying the query have to be counted.
+     */
+    public PersonPage executePage(AddressBook addressBook, int offset, int limit) {
+        long startNanos = System.nanoTime();
+        PersonPage page;
+        if (strategy == Strategy.INDEX) {
+            IndexablePredicate predicate = (IndexablePredicate) query.getPredicate();
+            page = getPage(addressBook, predicate.getMatchingPersons(addressBook), offset, limit);
+        } else if (strategy == Strategy.CACHE) {
+            page = getPage(addressBook, cachedPersons, offset, limit);
+        } else {
+            page = scanPage(addressBook, offset, limit);
+        }
+        elapsedNanos = System.nanoTime() - startNanos;
+        return page;
+    }
+
+    /**
+     * Returns the page of {@code matchingPersons} from position {@code offset} onwards, in the order of
+     * {@code addressBook}.
+     */
+    private static PersonPage getPage(AddressBook addressBook, Collection<ReadOnlyPerson> matchingPersons,
+            int offset, int limit) {
+        int[] positions = new int[matchingPersons.size()];
+        int count = 0;
+        for (ReadOnlyPerson person : matchingPersons) {
+            int position = addressBook.indexOf(person);
+            if (position >= 0) {
+                positions[count++] = position;
+            }
+        }
+        Arrays.sort(positions, 0, count);
+
+        List<ReadOnlyPerson> persons = new ArrayList<>();
+        for (int i = offset; i < count && persons.size() < limit; i++) {
+            persons.add(addressBook.getPersonList().get(positions[i]));
+        }
+        return new PersonPage(persons, offset, count);
+    }
+
+    /**
+     * Returns the page of the persons satisfying the query from position {@code offset} onwards, testing every
+     * person of {@code addressBook} to count them.
+     */
+    private PersonPage scanPage(AddressBook addressBook, int offset, int limit) {
+        Predicate<ReadOnlyPerson> predicate = query.getPredicate();
+        List<ReadOnlyPerson> persons = new ArrayList<>();
+        int matchCount = 0;
+        for (ReadOnlyPerson person : addressBook.getPersonList()) {
+            if (!predicate.test(person)) {
+                continue;
+            }
+            if (matchCount >= offset && persons.size() < limit) {
+                persons.add(person);
+            }
+            matchCount++;
+        }
+        return new PersonPage(persons, offset, matchCount);
+    }
+
+    @Override
+    public String toString() {
+        String plan;
+        switch (strategy) {
+        case INDEX:
+            plan = String.format("index lookup for %1$s (estimated cost %2$d of %3$d persons)",
+                    query.getDescription(), estimatedLookupCost, personCount);
+            break;
+        case CACHE:
+            plan = String.format("cached result for %1$s (%2$d of %3$d persons)",
+                    query.getDescription(), cachedPersons.size(), personCount);
+            break;
+        default:
+            plan = String.format("scan of %1$d persons for %2$s", personCount, query.getDescription());
+        }
+        String timing = elapsedNanos < 0 ? "not executed"
+                : String.format("took %.3f ms", elapsedNanos / NANOS_PER_MILLI);
+        return "Plan: " + plan + ", " + timing;
+    }
+}
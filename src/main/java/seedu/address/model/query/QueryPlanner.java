@@ -0,0 +1,34 @@
+package seedu.address.model.query;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.predicates.IndexablePredicate;
+
+/**
+ * Chooses how to answer a {@link Query}. The indexes are used when the predicate of the query can be answered
+ * from them and the lookup is estimated to go through a small enough part of the address book; otherwise testing
+ * every person is cheaper than building the set of matching persons.
+ */
+public class QueryPlanner {
+
+    /** Largest fraction of the persons an index lookup may go through for it to be chosen over a scan */
+    public static final double MAX_INDEX_COST_RATIO = 0.5;
+
+    /**
+     * Returns the plan answering {@code query} on {@code addressBook}.
+     */
+    public QueryPlan plan(Query query, AddressBook addressBook) {
+        requireAllNonNull(query, addressBook);
+        int personCount = addressBook.getPersonList().size();
+        if (!(query.getPredicate() instanceof IndexablePredicate)) {
+            return new QueryPlan(query, QueryPlan.Strategy.SCAN, personCount, personCount);
+        }
+
+        int lookupCost = ((IndexablePredicate) query.getPredicate()).estimateLookupCost(addressBook);
+        QueryPlan.Strategy strategy = lookupCost <= personCount * MAX_INDEX_COST_RATIO
+                ? QueryPlan.Strategy.INDEX
+                : QueryPlan.Strategy.SCAN;
+        return new QueryPlan(query, strategy, lookupCost, personCount);
+    }
+}
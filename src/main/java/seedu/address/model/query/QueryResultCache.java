@@ -0,0 +1,105 @@
+package seedu.address.model.query;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.ReadOnlyPerson;
+import seedu.address.model.person.predicates.IndexablePredicate;
+
+/**
+ * Remembers the persons satisfying the most recently used queries, so that repeating a query on an address book
+ * that has not changed since does not have to look up the indexes or test every person again.
+ * Each result is tagged with the {@link AddressBook#getModificationCount()} it was computed at, and is only reused
+ * at that same count. The least recently used results are evicted beyond the capacity of the cache.
+ * Only queries on an {@link IndexablePredicate} are cached, as other predicates may not be compared by value.
+ * The cache may be used by several threads, as looking a result up reorders the results too.
+ */
+public class QueryResultCache {
+
+    public static final int DEFAULT_CAPACITY = 16;
+
+    private final Map<IndexablePredicate, CachedResult> results;
+
+    public QueryResultCache() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public QueryResultCache(int capacity) {
+        assert capacity > 0;
+        results = new LinkedHashMap<IndexablePredicate, CachedResult>(capacity, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<IndexablePredicate, CachedResult> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    /**
+     * Returns the plan answering {@code query} with its cached result on {@code addressBook}, if the result
+     * was computed at the current modification count of {@code addressBook}.
+     */
+    public synchronized Optional<QueryPlan> lookUp(Query query, AddressBook addressBook) {
+        requireAllNonNull(query, addressBook);
+        if (!isCacheable(query)) {
+            return Optional.empty();
+        }
+
+        IndexablePredicate key = ((IndexablePredicate) query.getPredicate()).normalized();
+        CachedResult result = results.get(key);
+        if (result == null) {
+            return Optional.empty();
+        }
+        if (result.modificationCount != addressBook.getModificationCount()) {
+            results.remove(key);
+            return Optional.empty();
+        }
+        return Optional.of(new QueryPlan(query, result.persons, addressBook.getPersonList().size()));
+    }
+
+    /**
+     * Caches {@code matchingPersons} as the result of the query of {@code executedPlan} on {@code addressBook}
+     * at its current modification count, unless the plan already reused a cached result or its query is limited,
+     * as {@code matchingPersons} may then leave some persons out.
+     */
+    public synchronized void store(QueryPlan executedPlan, AddressBook addressBook,
+            Collection<ReadOnlyPerson> matchingPersons) {
+        requireAllNonNull(executedPlan, addressBook, matchingPersons);
+        if (executedPlan.getStrategy() == QueryPlan.Strategy.CACHE || !isCacheable(executedPlan.getQuery())
+                || executedPlan.getQuery().getLimit() != Query.NO_LIMIT) {
+            return;
+        }
+
+        IndexablePredicate key = ((IndexablePredicate) executedPlan.getQuery().getPredicate()).normalized();
+        Set<ReadOnlyPerson> persons = Collections.unmodifiableSet(new HashSet<>(matchingPersons));
+        results.put(key, new CachedResult(persons, addressBook.getModificationCount()));
+    }
+
+    public synchronized int size() {
+        return results.size();
+    }
+
+    private static boolean isCacheable(Query query) {
+        return query.getPredicate() instanceof IndexablePredicate;
+    }
+
+    /**
+     * The persons satisfying a query, and the modification count of the address book they were found at.
+     */
+    private static class CachedResult {
+        private final Set<ReadOnlyPerson> persons;
+        private final long modificationCount;
+
+        CachedResult(Set<ReadOnlyPerson> persons, long modificationCount) {
+            this.persons = persons;
+            this.modificationCount = modificationCount;
+        }
+    }
+}
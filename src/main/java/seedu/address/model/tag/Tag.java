@@ -2,6 +2,9 @@ package seedu.address.model.tag;
 
 import static java.util.Objects.requireNonNull;
 
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
+
 import seedu.address.commons.exceptions.IllegalValueException;
 
 /**
@@ -13,6 +16,8 @@ public class Tag {
     public static final String MESSAGE_TAG_CONSTRAINTS = "Tags names should be alphanumeric";
     public static final String TAG_VALIDATION_REGEX = "\\p{Alnum}+";
 
+    private static final Interner<Tag> INTERNER = Interners.newWeakInterner();
+
     public final String tagName;
 
     /**
@@ -36,6 +41,13 @@ public class Tag {
         return test.matches(TAG_VALIDATION_REGEX);
     }
 
+    /**
+     * Returns the canonical {@code Tag} equal to this tag, shared by every person tagged with it.
+     */
+    public Tag intern() {
+        return INTERNER.intern(this);
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
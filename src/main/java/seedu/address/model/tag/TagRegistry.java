@@ -0,0 +1,53 @@
+package seedu.address.model.tag;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Counts the references to each tag, so that a tag can be found to be no longer used in O(1) time
+ * instead of by going through every person.
+ */
+public class TagRegistry {
+
+    private final Map<Tag, Integer> referenceCounts = new HashMap<>();
+
+    /**
+     * Records one more reference to {@code tag}, and returns true if it was not referenced before.
+     */
+    public boolean acquire(Tag tag) {
+        requireNonNull(tag);
+        return referenceCounts.merge(tag, 1, Integer::sum) == 1;
+    }
+
+    /**
+     * Records one reference less to {@code tag}, and returns true if it is not referenced anymore.
+     */
+    public boolean release(Tag tag) {
+        requireNonNull(tag);
+        Integer count = referenceCounts.get(tag);
+        assert count != null : "Tag " + tag + " was released more times than it was acquired";
+        if (count == 1) {
+            referenceCounts.remove(tag);
+            return true;
+        }
+        referenceCounts.put(tag, count - 1);
+        return false;
+    }
+
+    /**
+     * Returns the number of references to {@code tag}.
+     */
+    public int getReferenceCount(Tag tag) {
+        requireNonNull(tag);
+        return referenceCounts.getOrDefault(tag, 0);
+    }
+
+    /**
+     * Returns true if {@code tag} is referenced.
+     */
+    public boolean isUsed(Tag tag) {
+        return getReferenceCount(tag) > 0;
+    }
+}
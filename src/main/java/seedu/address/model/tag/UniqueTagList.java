@@ -5,6 +5,7 @@ import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Set;
 
 import javafx.collections.FXCollections;
@@ -22,6 +23,8 @@ import seedu.address.commons.util.CollectionUtil;
 public class UniqueTagList implements Iterable<Tag> {
 
     private final ObservableList<Tag> internalList = FXCollections.observableArrayList();
+    // the tags of internalList, for membership checks in O(1) time
+    private final Set<Tag> internalSet = new HashSet<>();
 
     /**
      * Constructs empty TagList.
@@ -35,6 +38,7 @@ public class UniqueTagList implements Iterable<Tag> {
     public UniqueTagList(Set<Tag> tags) {
         requireAllNonNull(tags);
         internalList.addAll(tags);
+        internalSet.addAll(tags);
 
         assert CollectionUtil.elementsAreUnique(internalList);
     }
@@ -54,6 +58,8 @@ public class UniqueTagList implements Iterable<Tag> {
     public void setTags(Set<Tag> tags) {
         requireAllNonNull(tags);
         internalList.setAll(tags);
+        internalSet.clear();
+        internalSet.addAll(tags);
         assert CollectionUtil.elementsAreUnique(internalList);
     }
 
@@ -61,9 +67,8 @@ public class UniqueTagList implements Iterable<Tag> {
      * Ensures every tag in the argument list exists in this object.
      */
     public void mergeFrom(UniqueTagList from) {
-        final Set<Tag> alreadyInside = this.toSet();
         from.internalList.stream()
-                .filter(tag -> !alreadyInside.contains(tag))
+                .filter(internalSet::add)
                 .forEach(internalList::add);
 
         assert CollectionUtil.elementsAreUnique(internalList);
@@ -74,7 +79,7 @@ public class UniqueTagList implements Iterable<Tag> {
      */
     public boolean contains(Tag toCheck) {
         requireNonNull(toCheck);
-        return internalList.contains(toCheck);
+        return internalSet.contains(toCheck);
     }
 
     /**
@@ -88,6 +93,32 @@ public class UniqueTagList implements Iterable<Tag> {
             throw new DuplicateTagException();
         }
         internalList.add(toAdd);
+        internalSet.add(toAdd);
+
+        assert CollectionUtil.elementsAreUnique(internalList);
+    }
+
+    /**
+     * Removes the equivalent tag from the list, and returns true if there was one.
+     */
+    public boolean remove(Tag toRemove) {
+        requireNonNull(toRemove);
+        if (!internalSet.remove(toRemove)) {
+            return false;
+        }
+        return internalList.remove(toRemove);
+    }
+
+    /**
+     * Replaces the {@code removedCount} tags starting at {@code from} with {@code added}.
+     */
+    public void replaceRange(int from, int removedCount, List<Tag> added) {
+        requireAllNonNull(added);
+        List<Tag> removedRange = internalList.subList(from, from + removedCount);
+        internalSet.removeAll(removedRange);
+        removedRange.clear();
+        internalList.addAll(from, added);
+        internalSet.addAll(added);
 
         assert CollectionUtil.elementsAreUnique(internalList);
     }
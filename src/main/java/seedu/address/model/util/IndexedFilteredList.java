@@ -0,0 +1,270 @@
+package seedu.address.model.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.function.ToIntFunction;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.collections.ObservableListBase;
+import javafx.collections.WeakListChangeListener;
+
+/**
+ * An unmodifiable observable view of the elements of a source list that satisfy a predicate, in the order of the
+ * source. Like a {@code FilteredList}, the view is kept up to date as the source changes, testing only the elements
+ * added or updated.
+ *
+ * Unlike a {@code FilteredList}, the elements satisfying a new predicate can also be given directly, e.g. as looked
+ * up from an index. They are then located in the source one by one, so the view is built in O(k log k) plus the cost
+ * of locating k elements, instead of testing every element of the source.
+ */
+public class IndexedFilteredList<E> extends ObservableListBase<E> {
+
+    private static final int MIN_CAPACITY = 16;
+
+    private final ObservableList<E> source;
+    // the position of an element in the source, or -1 if it is not in the source
+    private final ToIntFunction<? super E> positionInSource;
+    // held so that the weak listener on the source stays registered for as long as this list is used
+    private final ListChangeListener<E> sourceListener = this::sourceChanged;
+    private Predicate<? super E> predicate;
+    // the positions in the source of the elements satisfying the predicate, in ascending order
+    private int[] matches = new int[MIN_CAPACITY];
+    private int size;
+
+    /**
+     * Creates a view of the elements of {@code source} that satisfy {@code predicate}, testing every element.
+     *
+     * @param positionInSource gives the position of an element in {@code source}, or -1 if it is not in it
+     */
+    public IndexedFilteredList(ObservableList<E> source, ToIntFunction<? super E> positionInSource,
+            Predicate<? super E> predicate) {
+        this.source = requireNonNull(source);
+        this.positionInSource = requireNonNull(positionInSource);
+        this.predicate = requireNonNull(predicate);
+        source.addListener(new WeakListChangeListener<>(sourceListener));
+        refilter(Integer.MAX_VALUE);
+    }
+
+    public ObservableList<E> getSource() {
+        return source;
+    }
+
+    public Predicate<? super E> getPredicate() {
+        return predicate;
+    }
+
+    /**
+     * Shows the elements of the source satisfying {@code newPredicate}, testing every element of the source.
+     */
+    public void setPredicate(Predicate<? super E> newPredicate) {
+        setPredicate(newPredicate, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Shows the first {@code limit} elements of the source satisfying {@code newPredicate}, testing the elements
+     * of the source until that many are found.
+     * Elements added to the source later are shown if they satisfy {@code newPredicate}, even beyond the limit.
+     */
+    public void setPredicate(Predicate<? super E> newPredicate, int limit) {
+        requireNonNull(newPredicate);
+        List<E> removed = new ArrayList<>(this);
+        predicate = newPredicate;
+        refilter(limit);
+        fireReplacedAll(removed);
+    }
+
+    /**
+     * Shows {@code matchingElements}, which must be the elements of the source satisfying {@code newPredicate},
+     * without testing the other elements of the source. Elements given that are not in the source are left out.
+     * Elements added to the source later are tested against {@code newPredicate}.
+     */
+    public void setMatches(Predicate<? super E> newPredicate, Collection<? extends E> matchingElements) {
+        setMatches(newPredicate, matchingElements, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Shows the first {@code limit} elements of {@code matchingElements} in the order of the source, as
+     * {@link #setMatches(Predicate, Collection)} does.
+     * Elements added to the source later are shown if they satisfy {@code newPredicate}, even beyond the limit.
+     */
+    public void setMatches(Predicate<? super E> newPredicate, Collection<? extends E> matchingElements, int limit) {
+        requireNonNull(newPredicate);
+        int[] positions = new int[Math.max(MIN_CAPACITY, matchingElements.size())];
+        int count = 0;
+        for (E element : matchingElements) {
+            int position = positionInSource.applyAsInt(element);
+            if (position >= 0) {
+                positions[count++] = position;
+            }
+        }
+        Arrays.sort(positions, 0, count);
+
+        List<E> removed = new ArrayList<>(this);
+        predicate = newPredicate;
+        matches = positions;
+        size = Math.min(count, limit);
+        fireReplacedAll(removed);
+    }
+
+    @Override
+    public E get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        return source.get(matches[index]);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Finds the positions in the source of the first {@code limit} elements satisfying the predicate by testing
+     * the elements in order.
+     */
+    private void refilter(int limit) {
+        matches = new int[Math.max(MIN_CAPACITY, Math.min(limit, source.size()))];
+        size = 0;
+        for (int i = 0; i < source.size() && size < limit; i++) {
+            if (predicate.test(source.get(i))) {
+                matches[size++] = i;
+            }
+        }
+    }
+
+    /**
+     * Reports that the elements in {@code removed} were replaced by all the elements now in this list.
+     */
+    private void fireReplacedAll(List<E> removed) {
+        if (removed.isEmpty() && size == 0) {
+            return;
+        }
+        beginChange();
+        nextReplace(0, size, removed);
+        endChange();
+    }
+
+    /**
+     * Updates the matches for {@code change} to the source, and reports the changes to this list.
+     */
+    private void sourceChanged(ListChangeListener.Change<? extends E> change) {
+        beginChange();
+        while (change.next()) {
+            if (change.wasPermutated()) {
+                permutated(change);
+            } else if (change.wasUpdated()) {
+                updated(change);
+            } else {
+                replaced(change);
+            }
+        }
+        endChange();
+    }
+
+    /**
+     * Moves the matches in the permutated range of the source to their new positions.
+     * The matches moved are reported as replaced by themselves in their new order.
+     */
+    private void permutated(ListChangeListener.Change<? extends E> change) {
+        int from = findMatchIndex(change.getFrom());
+        int to = findMatchIndex(change.getTo());
+        if (from == to) {
+            return;
+        }
+        List<E> removed = new ArrayList<>();
+        for (int i = from; i < to; i++) {
+            matches[i] = change.getPermutation(matches[i]);
+            removed.add(source.get(matches[i]));
+        }
+        Arrays.sort(matches, from, to);
+        nextReplace(from, to, removed);
+    }
+
+    /**
+     * Tests the updated elements of the source again, adding and removing them from the matches as needed.
+     */
+    private void updated(ListChangeListener.Change<? extends E> change) {
+        for (int position = change.getFrom(); position < change.getTo(); position++) {
+            E element = source.get(position);
+            int index = findMatchIndex(position);
+            boolean wasMatching = index < size && matches[index] == position;
+            boolean isMatching = predicate.test(element);
+            if (wasMatching && isMatching) {
+                nextUpdate(index);
+            } else if (wasMatching) {
+                System.arraycopy(matches, index + 1, matches, index, size - index - 1);
+                size--;
+                nextRemove(index, element);
+            } else if (isMatching) {
+                insertMatches(index, new int[] {position}, 1);
+                nextAdd(index, index + 1);
+            }
+        }
+    }
+
+    /**
+     * Drops the matches among the elements removed from the source, shifts the matches behind them,
+     * and adds the elements added to the source that satisfy the predicate.
+     */
+    private void replaced(ListChangeListener.Change<? extends E> change) {
+        int from = change.getFrom();
+        int removedSize = change.getRemovedSize();
+        int addedSize = change.getAddedSize();
+
+        int firstRemoved = findMatchIndex(from);
+        int afterRemoved = findMatchIndex(from + removedSize);
+        List<E> removed = new ArrayList<>();
+        for (int i = firstRemoved; i < afterRemoved; i++) {
+            removed.add(change.getRemoved().get(matches[i] - from));
+        }
+
+        int[] added = new int[addedSize];
+        int addedCount = 0;
+        for (int position = from; position < from + addedSize; position++) {
+            if (predicate.test(source.get(position))) {
+                added[addedCount++] = position;
+            }
+        }
+
+        // the matches behind the change, shifted by the change in size of the source
+        int shift = addedSize - removedSize;
+        for (int i = afterRemoved; i < size; i++) {
+            matches[i] += shift;
+        }
+        System.arraycopy(matches, afterRemoved, matches, firstRemoved, size - afterRemoved);
+        size -= afterRemoved - firstRemoved;
+        insertMatches(firstRemoved, added, addedCount);
+
+        if (!removed.isEmpty() || addedCount > 0) {
+            nextReplace(firstRemoved, firstRemoved + addedCount, removed);
+        }
+    }
+
+    /**
+     * Inserts the first {@code count} positions of {@code positions}, which must be in ascending order,
+     * at {@code index} of the matches.
+     */
+    private void insertMatches(int index, int[] positions, int count) {
+        if (size + count > matches.length) {
+            matches = Arrays.copyOf(matches, Math.max(matches.length * 2, size + count));
+        }
+        System.arraycopy(matches, index, matches, index + count, size - index);
+        System.arraycopy(positions, 0, matches, index, count);
+        size += count;
+    }
+
+    /**
+     * Returns the index of the first match at {@code position} of the source or after it.
+     */
+    private int findMatchIndex(int position) {
+        int index = Arrays.binarySearch(matches, 0, size, position);
+        return index >= 0 ? index : -index - 1;
+    }
+}
@@ -0,0 +1,133 @@
+package seedu.address.model.util;
+
+import java.util.Arrays;
+
+/**
+ * A map from {@code long} keys to non-negative {@code int} values, kept in two flat arrays with linear probing.
+ * An entry takes 12 bytes per table slot instead of the three objects of a {@code HashMap<Long, Integer>} entry.
+ * The table is kept at most half full, and removing an entry moves the entries probed after it back into its place,
+ * so lookups never have to skip removed entries.
+ */
+public class LongIntHashMap {
+
+    /** Returned in place of the value of a key that is not in the map */
+    public static final int ABSENT = -1;
+
+    private static final int MIN_CAPACITY = 16;
+
+    private long[] keys = new long[MIN_CAPACITY];
+    // the value of each entry plus one, or 0 if the table slot is empty
+    private int[] values = new int[MIN_CAPACITY];
+    private int size;
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the value of {@code key}, or {@link #ABSENT} if it is not in the map.
+     */
+    public int get(long key) {
+        int index = find(key);
+        return index < 0 ? ABSENT : values[index] - 1;
+    }
+
+    public boolean containsKey(long key) {
+        return find(key) >= 0;
+    }
+
+    /**
+     * Maps {@code key} to {@code value}, which must not be negative, and returns the value it had,
+     * or {@link #ABSENT} if it had none.
+     */
+    public int put(long key, int value) {
+        assert value >= 0;
+        if ((size + 1) * 2 > keys.length) {
+            resize(keys.length * 2);
+        }
+        int mask = keys.length - 1;
+        int index = home(key, mask);
+        while (values[index] != 0) {
+            if (keys[index] == key) {
+                int oldValue = values[index] - 1;
+                values[index] = value + 1;
+                return oldValue;
+            }
+            index = (index + 1) & mask;
+        }
+        keys[index] = key;
+        values[index] = value + 1;
+        size++;
+        return ABSENT;
+    }
+
+    /**
+     * Removes {@code key} and returns the value it had, or {@link #ABSENT} if it was not in the map.
+     */
+    public int remove(long key) {
+        int index = find(key);
+        if (index < 0) {
+            return ABSENT;
+        }
+        int oldValue = values[index] - 1;
+        int mask = keys.length - 1;
+        int gap = index;
+        values[gap] = 0;
+        for (int next = (gap + 1) & mask; values[next] != 0; next = (next + 1) & mask) {
+            // an entry may fill the gap if the gap lies between its home and where it is now
+            if (((next - home(keys[next], mask)) & mask) >= ((next - gap) & mask)) {
+                keys[gap] = keys[next];
+                values[gap] = values[next];
+                values[next] = 0;
+                gap = next;
+            }
+        }
+        size--;
+        return oldValue;
+    }
+
+    /**
+     * Removes every entry.
+     */
+    public void clear() {
+        Arrays.fill(values, 0);
+        size = 0;
+    }
+
+    /**
+     * Returns the table slot of {@code key}, or -1 if it is not in the map.
+     */
+    private int find(long key) {
+        int mask = keys.length - 1;
+        for (int index = home(key, mask); values[index] != 0; index = (index + 1) & mask) {
+            if (keys[index] == key) {
+                return index;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Moves the entries into a table of {@code capacity} slots.
+     */
+    private void resize(int capacity) {
+        long[] oldKeys = keys;
+        int[] oldValues = values;
+        keys = new long[capacity];
+        values = new int[capacity];
+        size = 0;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldValues[i] != 0) {
+                put(oldKeys[i], oldValues[i] - 1);
+            }
+        }
+    }
+
+    /**
+     * Returns the table slot at which probing for {@code key} starts.
+     */
+    private static int home(long key, int mask) {
+        long hash = key * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+}
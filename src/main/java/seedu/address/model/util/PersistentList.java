@@ -0,0 +1,206 @@
+package seedu.address.model.util;
+
+import java.util.AbstractList;
+import java.util.List;
+
+/**
+ * An immutable list whose modifying operations return a new list sharing most of its structure with the old one.
+ * The elements are kept in a height-balanced tree ordered by position, so that {@link #get(int)},
+ * {@link #withSet(int, Object)}, {@link #withAdded(int, Object)} and {@link #withRemoved(int)} take
+ * O(log n) time and allocate O(log n) nodes, and holding on to an earlier version of the list costs nothing more.
+ */
+public final class PersistentList<E> extends AbstractList<E> {
+
+    private static final PersistentList<?> EMPTY = new PersistentList<>(null);
+
+    private final Node<E> root;
+
+    private PersistentList(Node<E> root) {
+        this.root = root;
+    }
+
+    /**
+     * Returns the empty list.
+     */
+    @SuppressWarnings("unchecked")
+    public static <E> PersistentList<E> empty() {
+        return (PersistentList<E>) EMPTY;
+    }
+
+    /**
+     * Returns a list of the elements of {@code elements}, in O(n) time.
+     */
+    public static <E> PersistentList<E> of(List<? extends E> elements) {
+        return new PersistentList<>(build(elements, 0, elements.size()));
+    }
+
+    @Override
+    public E get(int index) {
+        checkIndex(index, size());
+        Node<E> node = root;
+        while (true) {
+            int leftSize = sizeOf(node.left);
+            if (index < leftSize) {
+                node = node.left;
+            } else if (index == leftSize) {
+                return node.value;
+            } else {
+                index -= leftSize + 1;
+                node = node.right;
+            }
+        }
+    }
+
+    @Override
+    public int size() {
+        return sizeOf(root);
+    }
+
+    /**
+     * Returns a list with the element at {@code index} replaced by {@code element}.
+     */
+    public PersistentList<E> withSet(int index, E element) {
+        checkIndex(index, size());
+        return new PersistentList<>(set(root, index, element));
+    }
+
+    /**
+     * Returns a list with {@code element} inserted at {@code index}.
+     */
+    public PersistentList<E> withAdded(int index, E element) {
+        checkIndex(index, size() + 1);
+        return new PersistentList<>(add(root, index, element));
+    }
+
+    /**
+     * Returns a list with the element at {@code index} removed.
+     */
+    public PersistentList<E> withRemoved(int index) {
+        checkIndex(index, size());
+        return new PersistentList<>(remove(root, index));
+    }
+
+    private static void checkIndex(int index, int bound) {
+        if (index < 0 || index >= bound) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + bound);
+        }
+    }
+
+    /**
+     * Returns a balanced tree of the elements of {@code elements} from {@code from} until {@code to}.
+     */
+    private static <E> Node<E> build(List<? extends E> elements, int from, int to) {
+        if (from == to) {
+            return null;
+        }
+        int middle = (from + to) >>> 1;
+        return new Node<>(build(elements, from, middle), elements.get(middle), build(elements, middle + 1, to));
+    }
+
+    /**
+     * Returns a copy of the tree at {@code node} with the element at {@code index} replaced.
+     */
+    private static <E> Node<E> set(Node<E> node, int index, E element) {
+        int leftSize = sizeOf(node.left);
+        if (index < leftSize) {
+            return new Node<>(set(node.left, index, element), node.value, node.right);
+        } else if (index == leftSize) {
+            return new Node<>(node.left, element, node.right);
+        } else {
+            return new Node<>(node.left, node.value, set(node.right, index - leftSize - 1, element));
+        }
+    }
+
+    /**
+     * Returns a copy of the tree at {@code node} with {@code element} inserted at {@code index}.
+     */
+    private static <E> Node<E> add(Node<E> node, int index, E element) {
+        if (node == null) {
+            return new Node<>(null, element, null);
+        }
+        int leftSize = sizeOf(node.left);
+        if (index <= leftSize) {
+            return balance(add(node.left, index, element), node.value, node.right);
+        } else {
+            return balance(node.left, node.value, add(node.right, index - leftSize - 1, element));
+        }
+    }
+
+    /**
+     * Returns a copy of the tree at {@code node} with the element at {@code index} removed.
+     */
+    private static <E> Node<E> remove(Node<E> node, int index) {
+        int leftSize = sizeOf(node.left);
+        if (index < leftSize) {
+            return balance(remove(node.left, index), node.value, node.right);
+        } else if (index > leftSize) {
+            return balance(node.left, node.value, remove(node.right, index - leftSize - 1));
+        } else if (node.left == null) {
+            return node.right;
+        } else if (node.right == null) {
+            return node.left;
+        } else {
+            return balance(node.left, first(node.right), remove(node.right, 0));
+        }
+    }
+
+    /**
+     * Returns the first element of the tree at {@code node}.
+     */
+    private static <E> E first(Node<E> node) {
+        while (node.left != null) {
+            node = node.left;
+        }
+        return node.value;
+    }
+
+    /**
+     * Returns a node joining {@code left}, {@code value} and {@code right}, rotating it if the heights of
+     * {@code left} and {@code right} differ by more than one, which they may do by at most two.
+     */
+    private static <E> Node<E> balance(Node<E> left, E value, Node<E> right) {
+        if (heightOf(left) > heightOf(right) + 1) {
+            if (heightOf(left.left) >= heightOf(left.right)) {
+                return new Node<>(left.left, left.value, new Node<>(left.right, value, right));
+            }
+            return new Node<>(new Node<>(left.left, left.value, left.right.left), left.right.value,
+                    new Node<>(left.right.right, value, right));
+        }
+        if (heightOf(right) > heightOf(left) + 1) {
+            if (heightOf(right.right) >= heightOf(right.left)) {
+                return new Node<>(new Node<>(left, value, right.left), right.value, right.right);
+            }
+            return new Node<>(new Node<>(left, value, right.left.left), right.left.value,
+                    new Node<>(right.left.right, right.value, right.right));
+        }
+        return new Node<>(left, value, right);
+    }
+
+    private static int sizeOf(Node<?> node) {
+        return node == null ? 0 : node.size;
+    }
+
+    private static int heightOf(Node<?> node) {
+        return node == null ? 0 : node.height;
+    }
+
+    /**
+     * An immutable node of the tree, holding the element at its position in the list.
+     */
+    private static final class Node<E> {
+        private final Node<E> left;
+        private final E value;
+        private final Node<E> right;
+        private final int size;
+        private final int height;
+
+        Node(Node<E> left, E value, Node<E> right) {
+            this.left = left;
+            this.value = value;
+            this.right = right;
+            this.size = sizeOf(left) + sizeOf(right) + 1;
+            this.height = Math.max(heightOf(left), heightOf(right)) + 1;
+        }
+    }
+
+}
@@ -0,0 +1,132 @@
+package seedu.address.model.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The positions of distinct keys in a sequence to which keys are appended, and from which keys are removed anywhere.
+ * Each key is given a slot when it is appended. A removed key leaves an empty slot behind instead of shifting the keys
+ * after it, and the position of a key is counted by {@link SlotPositions}. So appending costs amortized O(1), and
+ * removing, replacing and looking keys up cost O(log n).
+ * When the slots run out, the empty slots are dropped, and the slots are doubled if they are more than half full.
+ */
+public class PositionIndex<K> {
+
+    private static final int MIN_CAPACITY = 16;
+
+    private final Map<K, Integer> slots = new HashMap<>();
+    // the key in each slot, or null if the slot is empty
+    private Object[] keys = new Object[MIN_CAPACITY];
+    private final SlotPositions slotPositions = new SlotPositions(MIN_CAPACITY);
+
+    /**
+     * Returns the number of keys.
+     */
+    public int size() {
+        return slots.size();
+    }
+
+    /**
+     * Returns true if {@code key} is in the sequence.
+     */
+    public boolean contains(K key) {
+        return slots.containsKey(key);
+    }
+
+    /**
+     * Returns the position of {@code key}, or -1 if it is not in the sequence.
+     */
+    public int indexOf(K key) {
+        Integer slot = slots.get(key);
+        return slot == null ? -1 : slotPositions.positionOf(slot);
+    }
+
+    /**
+     * Returns the key at {@code position}.
+     */
+    @SuppressWarnings("unchecked")
+    public K get(int position) {
+        return (K) keys[slotPositions.slotAt(position)];
+    }
+
+    /**
+     * Appends {@code key}, which must not be in the sequence yet.
+     */
+    public void append(K key) {
+        requireNonNull(key);
+        assert !contains(key);
+        if (slotPositions.isFull()) {
+            compact(size() * 2 < keys.length ? keys.length : keys.length * 2);
+        }
+        int slot = slotPositions.occupyNext();
+        slots.put(key, slot);
+        keys[slot] = key;
+    }
+
+    /**
+     * Removes {@code key} and returns the position it had, or -1 if it was not in the sequence.
+     */
+    public int remove(K key) {
+        Integer slot = slots.remove(key);
+        if (slot == null) {
+            return -1;
+        }
+        int position = slotPositions.positionOf(slot);
+        keys[slot] = null;
+        slotPositions.free(slot);
+        return position;
+    }
+
+    /**
+     * Puts {@code added}, which must not be in the sequence yet, in the place of {@code removed},
+     * and returns that position.
+     */
+    public int replace(K removed, K added) {
+        requireNonNull(added);
+        Integer slot = slots.remove(removed);
+        assert slot != null && !contains(added);
+        slots.put(added, slot);
+        keys[slot] = added;
+        return slotPositions.positionOf(slot);
+    }
+
+    /**
+     * Replaces the sequence with {@code newKeys}, which must be distinct.
+     */
+    public void setAll(List<? extends K> newKeys) {
+        slots.clear();
+        int capacity = Math.max(MIN_CAPACITY, Integer.highestOneBit(Math.max(1, newKeys.size())) * 2);
+        keys = new Object[capacity];
+        int slot = 0;
+        for (K key : newKeys) {
+            slots.put(requireNonNull(key), slot);
+            keys[slot++] = key;
+        }
+        slotPositions.reset(capacity, slot);
+    }
+
+    /**
+     * Moves the keys to the first slots of {@code capacity} slots, dropping the empty slots.
+     */
+    private void compact(int capacity) {
+        Object[] newKeys = new Object[capacity];
+        int slot = 0;
+        for (Object key : keys) {
+            if (key != null) {
+                newKeys[slot] = key;
+                slots.put(cast(key), slot);
+                slot++;
+            }
+        }
+        keys = newKeys;
+        slotPositions.reset(capacity, slot);
+    }
+
+    @SuppressWarnings("unchecked")
+    private K cast(Object key) {
+        return (K) key;
+    }
+}
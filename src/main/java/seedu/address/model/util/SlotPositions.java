@@ -0,0 +1,139 @@
+package seedu.address.model.util;
+
+import java.util.BitSet;
+
+/**
+ * The positions of the occupied slots in a row of slots, which are occupied in order and freed anywhere, and
+ * of which the freed slots may be occupied again.
+ * The position of a slot is the number of occupied slots before it, which is counted with a Fenwick tree, so that
+ * occupying, freeing and finding slots cost O(log n) and the slots behind a freed slot do not have to be moved.
+ * Once every slot has been occupied, the owner moves what it keeps per slot to the first slots and calls
+ * {@link #reset(int, int)}.
+ */
+public class SlotPositions {
+
+    private final BitSet occupied = new BitSet();
+    // fenwick tree counting the occupied slots, indexed from 1
+    private int[] occupiedCounts;
+    private int nextSlot;
+    private int size;
+
+    /**
+     * Creates {@code capacity} empty slots.
+     */
+    public SlotPositions(int capacity) {
+        reset(capacity, 0);
+    }
+
+    /**
+     * Returns the number of occupied slots.
+     */
+    public int size() {
+        return size;
+    }
+
+    public int capacity() {
+        return occupiedCounts.length - 1;
+    }
+
+    /**
+     * Returns true if every slot has been occupied, whether or not it was freed since.
+     */
+    public boolean isFull() {
+        return nextSlot == capacity();
+    }
+
+    public boolean isOccupied(int slot) {
+        return occupied.get(slot);
+    }
+
+    /**
+     * Occupies the slot after the last slot occupied and returns it. The slots must not be full.
+     */
+    public int occupyNext() {
+        assert !isFull();
+        int slot = nextSlot++;
+        occupied.set(slot);
+        addOccupied(slot, 1);
+        size++;
+        return slot;
+    }
+
+    /**
+     * Occupies {@code slot} again, which must have been freed.
+     */
+    public void occupy(int slot) {
+        assert slot < nextSlot && !occupied.get(slot);
+        occupied.set(slot);
+        addOccupied(slot, 1);
+        size++;
+    }
+
+    /**
+     * Frees {@code slot}, which must be occupied.
+     */
+    public void free(int slot) {
+        assert occupied.get(slot);
+        occupied.clear(slot);
+        addOccupied(slot, -1);
+        size--;
+    }
+
+    /**
+     * Returns the position of {@code slot}, which is the number of occupied slots before it.
+     */
+    public int positionOf(int slot) {
+        int count = 0;
+        for (int i = slot; i > 0; i -= i & -i) {
+            count += occupiedCounts[i];
+        }
+        return count;
+    }
+
+    /**
+     * Returns the occupied slot at {@code position}, which is the slot with {@code position} occupied slots before it.
+     */
+    public int slotAt(int position) {
+        if (position < 0 || position >= size) {
+            throw new IndexOutOfBoundsException("Position " + position + " of " + size + " slots");
+        }
+        int slot = 0;
+        int remaining = position;
+        for (int step = Integer.highestOneBit(capacity()); step > 0; step >>= 1) {
+            int next = slot + step;
+            if (next <= capacity() && occupiedCounts[next] <= remaining) {
+                slot = next;
+                remaining -= occupiedCounts[next];
+            }
+        }
+        return slot;
+    }
+
+    /**
+     * Replaces the slots with {@code capacity} slots of which the first {@code occupiedCount} are occupied,
+     * in O(capacity) time.
+     */
+    public void reset(int capacity, int occupiedCount) {
+        assert occupiedCount <= capacity;
+        occupied.clear();
+        occupied.set(0, occupiedCount);
+        occupiedCounts = new int[capacity + 1];
+        for (int i = 1; i <= capacity; i++) {
+            if (i <= occupiedCount) {
+                occupiedCounts[i]++;
+            }
+            int parent = i + (i & -i);
+            if (parent <= capacity) {
+                occupiedCounts[parent] += occupiedCounts[i];
+            }
+        }
+        nextSlot = occupiedCount;
+        size = occupiedCount;
+    }
+
+    private void addOccupied(int slot, int delta) {
+        for (int i = slot + 1; i < occupiedCounts.length; i += i & -i) {
+            occupiedCounts[i] += delta;
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package seedu.address.model.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import javafx.collections.ObservableList;
+import javafx.collections.transformation.SortedList;
+
+/**
+ * Sorted views of a source list, one for each of the most recently used orders, which are identified by keys.
+ * A view is sorted once when it is created, and then kept in order as the source changes, so returning to an order
+ * used before does not sort again.
+ * The views of the orders used least recently are dropped beyond the capacity, as every view has to be updated
+ * on each change of the source.
+ */
+public class SortedViews<E, K> {
+
+    public static final int DEFAULT_CAPACITY = 4;
+
+    private final ObservableList<E> source;
+    private final Function<K, Comparator<? super E>> comparatorOf;
+    private final Map<K, SortedList<E>> views;
+
+    public SortedViews(ObservableList<E> source, Function<K, Comparator<? super E>> comparatorOf) {
+        this(source, comparatorOf, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * @param comparatorOf gives the comparator of the order identified by a key, or null for the source's own order
+     */
+    public SortedViews(ObservableList<E> source, Function<K, Comparator<? super E>> comparatorOf, int capacity) {
+        assert capacity > 0;
+        this.source = requireNonNull(source);
+        this.comparatorOf = requireNonNull(comparatorOf);
+        views = new LinkedHashMap<K, SortedList<E>>(capacity, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, SortedList<E>> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    /**
+     * Returns the position of {@code element} in {@code sortedList}, which is sorted by {@code comparator},
+     * or -1 if it is not in the list. The elements equal to {@code element} by {@code comparator} are compared with
+     * {@code equals} until it is found.
+     */
+    public static <E> int indexOf(List<? extends E> sortedList, Comparator<? super E> comparator, E element) {
+        int found = Collections.binarySearch(sortedList, element, comparator);
+        if (found < 0) {
+            return -1;
+        }
+        for (int i = found; i >= 0 && comparator.compare(sortedList.get(i), element) == 0; i--) {
+            if (sortedList.get(i).equals(element)) {
+                return i;
+            }
+        }
+        for (int i = found + 1; i < sortedList.size() && comparator.compare(sortedList.get(i), element) == 0; i++) {
+            if (sortedList.get(i).equals(element)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the view of the source in the order identified by {@code key}.
+     */
+    public ObservableList<E> get(K key) {
+        requireNonNull(key);
+        SortedList<E> view = views.get(key);
+        if (view != null) {
+            return view;
+        }
+        Comparator<? super E> comparator = comparatorOf.apply(key);
+        if (comparator == null) {
+            return source;
+        }
+        view = new SortedList<>(source, comparator);
+        views.put(key, view);
+        return view;
+    }
+}
@@ -0,0 +1,84 @@
+package seedu.address.model.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.collections.ObservableListBase;
+
+/**
+ * An unmodifiable observable view of one of several source lists, which can be switched to another source.
+ * Changes to the current source are passed on to the listeners of this list, and switching sources is reported
+ * as the elements of the old source being replaced by those of the new one.
+ */
+public class SwitchableList<E> extends ObservableListBase<E> {
+
+    private final ListChangeListener<E> sourceListener = this::sourceChanged;
+    private ObservableList<E> source;
+
+    public SwitchableList(ObservableList<E> source) {
+        this.source = requireNonNull(source);
+        source.addListener(sourceListener);
+    }
+
+    public ObservableList<E> getSource() {
+        return source;
+    }
+
+    /**
+     * Makes this list a view of {@code newSource}.
+     */
+    public void setSource(ObservableList<E> newSource) {
+        requireNonNull(newSource);
+        if (newSource == source) {
+            return;
+        }
+
+        List<E> removed = new ArrayList<>(source);
+        source.removeListener(sourceListener);
+        source = newSource;
+        source.addListener(sourceListener);
+        if (removed.isEmpty() && source.isEmpty()) {
+            return;
+        }
+        beginChange();
+        nextReplace(0, source.size(), removed);
+        endChange();
+    }
+
+    /**
+     * Passes {@code change} to the current source on to the listeners of this list.
+     */
+    private void sourceChanged(ListChangeListener.Change<? extends E> change) {
+        beginChange();
+        while (change.next()) {
+            if (change.wasPermutated()) {
+                int[] permutation = new int[change.getTo() - change.getFrom()];
+                for (int i = change.getFrom(); i < change.getTo(); i++) {
+                    permutation[i - change.getFrom()] = change.getPermutation(i);
+                }
+                nextPermutation(change.getFrom(), change.getTo(), permutation);
+            } else if (change.wasUpdated()) {
+                for (int i = change.getFrom(); i < change.getTo(); i++) {
+                    nextUpdate(i);
+                }
+            } else {
+                nextReplace(change.getFrom(), change.getTo(), new ArrayList<>(change.getRemoved()));
+            }
+        }
+        endChange();
+    }
+
+    @Override
+    public E get(int index) {
+        return source.get(index);
+    }
+
+    @Override
+    public int size() {
+        return source.size();
+    }
+}
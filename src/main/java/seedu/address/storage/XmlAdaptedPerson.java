@@ -21,6 +21,9 @@ import seedu.address.model.tag.Tag;
  */
 public class XmlAdaptedPerson {
 
+    // optional, so that files saved before persons had ids can still be read
+    @XmlElement
+    private Long id;
     @XmlElement(required = true)
     private String name;
     @XmlElement(required = true)
@@ -46,6 +49,9 @@ public class XmlAdaptedPerson {
      * @param source future changes to this will not affect the created XmlAdaptedPerson
      */
     public XmlAdaptedPerson(ReadOnlyPerson source) {
+        if (source.getId() != ReadOnlyPerson.UNASSIGNED_ID) {
+            id = source.getId();
+        }
         name = source.getName().fullName;
         phone = source.getPhone().value;
         email = source.getEmail().value;
@@ -69,8 +75,12 @@ public class XmlAdaptedPerson {
         final Name name = new Name(this.name);
         final Phone phone = new Phone(this.phone);
         final Email email = new Email(this.email);
-        final Address address = new Address(this.address);
+        final Address address = new Address(this.address).intern();
         final Set<Tag> tags = new HashSet<>(personTags);
-        return new Person(name, phone, email, address, tags);
+        final Person person = new Person(name, phone, email, address, tags);
+        if (id != null) {
+            person.setId(id);
+        }
+        return person;
     }
 }
@@ -34,7 +34,7 @@ public class XmlAdaptedTag {
      * @throws IllegalValueException if there were any data constraints violated in the adapted person
      */
     public Tag toModelType() throws IllegalValueException {
-        return new Tag(tagName);
+        return new Tag(tagName).intern();
     }
 
 }
@@ -10,12 +10,15 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
 import java.util.logging.Logger;
 
 import org.controlsfx.control.textfield.TextFields;
 
 import com.google.common.eventbus.Subscribe;
 
+import javafx.application.Platform;
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.geometry.Insets;
@@ -33,6 +36,7 @@ import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.events.ui.ChangeFontSizeEvent;
 import seedu.address.commons.events.ui.ColorKeywordEvent;
 import seedu.address.commons.events.ui.NewResultAvailableEvent;
+import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.ListElementPointer;
 import seedu.address.logic.Logic;
 import seedu.address.logic.commands.CommandResult;
@@ -47,6 +51,10 @@ import seedu.address.logic.parser.exceptions.ParseException;
 public class CommandBox extends UiPart<Region> {
 
     public static final String ERROR_STYLE_CLASS = "error";
+    public static final String BUSY_STYLE_CLASS = "busy";
+    public static final String MESSAGE_COMMAND_RUNNING = "Running: %1$s\nPress Esc to cancel.";
+    public static final String MESSAGE_COMMAND_CANCELLING = "Cancelling: %1$s";
+    public static final String MESSAGE_COMMAND_CANCELLED = "Cancelled: %1$s";
     private static final String FXML = "CommandBox.fxml";
     private static final String TAG_PREFIX = "prefix";
 
@@ -60,6 +68,8 @@ public class CommandBox extends UiPart<Region> {
     private final Logger logger = LogsCenter.getLogger(CommandBox.class);
     private final Logic logic;
     private ListElementPointer historySnapshot;
+    // the command being executed, or null if there is none
+    private CompletableFuture<CommandResult> runningCommand;
 
     private final AddressBookParser tester;
 
@@ -152,6 +162,15 @@ public class CommandBox extends UiPart<Region> {
             keyEvent.consume();
             navigateToNextInput();
             break;
+        case ESCAPE:
+            if (runningCommand != null) {
+                keyEvent.consume();
+                // the command is only reported as cancelled once the worker has stopped it
+                runningCommand.cancel(true);
+                raise(new NewResultAvailableEvent(
+                        String.format(MESSAGE_COMMAND_CANCELLING, commandTextField.getText())));
+            }
+            break;
         default:
                 // let JavaFx handle the keypress
         }
@@ -488,22 +507,44 @@ public class CommandBox extends UiPart<Region> {
      */
     @FXML
     private void handleCommandInputChanged() {
-        try {
-            CommandResult commandResult = logic.execute(commandTextField.getText());
-            initHistory();
+        if (runningCommand != null) {
+            return;
+        }
+        String commandText = commandTextField.getText();
+        setStyleToIndicateBusy(true);
+        raise(new NewResultAvailableEvent(String.format(MESSAGE_COMMAND_RUNNING, commandText)));
+        runningCommand = logic.executeAsync(commandText);
+        runningCommand.whenComplete((commandResult, error) ->
+                Platform.runLater(() -> handleCommandCompleted(commandText, commandResult, error)));
+    }
+
+    /**
+     * Shows the result of {@code commandText}, which failed with {@code error} if it is not null.
+     */
+    private void handleCommandCompleted(String commandText, CommandResult commandResult, Throwable error) {
+        runningCommand = null;
+        setStyleToIndicateBusy(false);
+        initHistory();
+
+        if (error == null) {
             historySnapshot.next();
             // process result of the command
             commandTextField.setText("");
             configInactiveKeyword();
             logger.info("Result: " + commandResult.feedbackToUser);
             raise(new NewResultAvailableEvent(commandResult.feedbackToUser));
-
-        } catch (CommandException | ParseException e) {
-            initHistory();
+        } else if (error instanceof CancellationException) {
+            logger.info("Cancelled command: " + commandText);
+            raise(new NewResultAvailableEvent(String.format(MESSAGE_COMMAND_CANCELLED, commandText)));
+        } else {
             // handle command failure
             setStyleToIndicateCommandFailure();
-            logger.info("Invalid command: " + commandTextField.getText());
-            raise(new NewResultAvailableEvent(e.getMessage()));
+            if (error instanceof CommandException || error instanceof ParseException) {
+                logger.info("Invalid command: " + commandText);
+            } else {
+                logger.severe("Command failed: " + commandText + " " + StringUtil.getDetails(error));
+            }
+            raise(new NewResultAvailableEvent(error.getMessage()));
         }
     }
 
@@ -564,6 +605,19 @@ public class CommandBox extends UiPart<Region> {
         commandTextField.getStyleClass().remove(ERROR_STYLE_CLASS);
     }
 
+    /**
+     * Sets the command box style to indicate whether a command is being executed, during which the command
+     * cannot be edited.
+     */
+    private void setStyleToIndicateBusy(boolean isBusy) {
+        commandTextField.setEditable(!isBusy);
+        if (isBusy) {
+            commandTextField.getStyleClass().add(BUSY_STYLE_CLASS);
+        } else {
+            commandTextField.getStyleClass().remove(BUSY_STYLE_CLASS);
+        }
+    }
+
     /**
      * Sets the command box style to indicate a failed command.
      */
@@ -1,6 +1,5 @@
 package seedu.address.ui;
 
-import java.util.Comparator;
 import java.util.logging.Logger;
 
 import org.fxmisc.easybind.EasyBind;
@@ -9,7 +8,6 @@ import com.google.common.eventbus.Subscribe;
 
 import javafx.application.Platform;
 import javafx.collections.ObservableList;
-import javafx.collections.transformation.SortedList;
 import javafx.fxml.FXML;
 import javafx.scene.control.ListCell;
 import javafx.scene.control.ListView;
@@ -19,8 +17,6 @@ import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.events.ui.ChangeListingUnitEvent;
 import seedu.address.commons.events.ui.JumpToListRequestEvent;
 import seedu.address.commons.events.ui.PersonPanelSelectionChangedEvent;
-import seedu.address.commons.events.ui.SortListRequestEvent;
-import seedu.address.model.ListingUnit;
 import seedu.address.model.person.ReadOnlyPerson;
 
 /**
@@ -43,7 +39,11 @@ public class PersonListPanel extends UiPart<Region> {
         registerAsAnEventHandler(this);
     }
 
+    /**
+     * Shows {@code infoList} in the panel, keeping the person selected before selected if it is still listed.
+     */
     private void setConnections(ObservableList<ReadOnlyPerson> infoList) {
+        PersonCard selectedCard = personListView.getSelectionModel().getSelectedItem();
 
         ObservableList<PersonCard> mappedList = EasyBind.map(
                 infoList, (person) -> new PersonCard(person, infoList.indexOf(person) + 1));
@@ -52,6 +52,21 @@ public class PersonListPanel extends UiPart<Region> {
         personListView.setCellFactory(listView -> new PersonListViewCell());
         setEventHandlerForSelectionChangeEvent();
 
+        if (selectedCard != null) {
+            reselect(selectedCard.person.getId());
+        }
+    }
+
+    /**
+     * Selects the person with {@code id}, which is the same person however it has been edited, if it is listed.
+     */
+    private void reselect(long id) {
+        for (int i = 0; i < personListView.getItems().size(); i++) {
+            if (personListView.getItems().get(i).person.getId() == id) {
+                personListView.getSelectionModel().select(i);
+                return;
+            }
+        }
     }
 
 
@@ -87,51 +102,6 @@ public class PersonListPanel extends UiPart<Region> {
         setConnections(personList);
     }
 
-    @Subscribe
-    private void handleSortListRequestEvent(SortListRequestEvent event) {
-        logger.info(LogsCenter.getEventHandlingLogMessage(event));
-        SortedList<ReadOnlyPerson> sortedList;
-
-        switch (ListingUnit.getCurrentListingUnit()) {
-        case ADDRESS:
-            sortedList = new SortedList<ReadOnlyPerson>(personList, new Comparator<ReadOnlyPerson>() {
-                @Override
-                public int compare(ReadOnlyPerson firstPerson, ReadOnlyPerson secondPerson) {
-                    return firstPerson.getAddress().value.compareTo(secondPerson.getAddress().value);
-                }
-            });
-            break;
-
-        case PHONE:
-            sortedList = new SortedList<ReadOnlyPerson>(personList, new Comparator<ReadOnlyPerson>() {
-                @Override
-                public int compare(ReadOnlyPerson firstPerson, ReadOnlyPerson secondPerson) {
-                    return firstPerson.getPhone().value.compareTo(secondPerson.getPhone().value);
-                }
-            });
-            break;
-
-        case EMAIL:
-            sortedList = new SortedList<ReadOnlyPerson>(personList, new Comparator<ReadOnlyPerson>() {
-                @Override
-                public int compare(ReadOnlyPerson firstPerson, ReadOnlyPerson secondPerson) {
-                    return firstPerson.getEmail().value.compareTo(secondPerson.getEmail().value);
-                }
-            });
-            break;
-
-        default:
-            sortedList = new SortedList<ReadOnlyPerson>(personList, new Comparator<ReadOnlyPerson>() {
-                @Override
-                public int compare(ReadOnlyPerson firstPerson, ReadOnlyPerson secondPerson) {
-                    return firstPerson.getName().fullName.compareTo(secondPerson.getName().fullName);
-                }
-            });
-            break;
-        }
-        setConnections(sortedList);
-    }
-
     /**
      * Custom {@code ListCell} that displays the graphics of a {@code PersonCard}.
      */
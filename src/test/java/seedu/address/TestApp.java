@@ -7,6 +7,7 @@ import java.util.function.Supplier;
 import javafx.stage.Screen;
 import javafx.stage.Stage;
 import seedu.address.commons.core.Config;
+import seedu.address.commons.core.EventsCenter;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.commons.util.FileUtil;
@@ -71,9 +72,11 @@ public class TestApp extends MainApp {
     }
 
     /**
-     * Returns a defensive copy of the address book data stored inside the storage file.
+     * Returns a defensive copy of the address book data stored inside the storage file,
+     * after the pending changes to the address book have been saved.
      */
     public AddressBook readStorageAddressBook() {
+        EventsCenter.getInstance().flush();
         try {
             return new AddressBook(storage.readAddressBook().get());
         } catch (DataConversionException dce) {
@@ -0,0 +1,136 @@
+package seedu.address.commons.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Test;
+
+import com.google.common.eventbus.Subscribe;
+
+import seedu.address.commons.events.BaseEvent;
+
+public class EventsCenterTest {
+
+    private final EventsCenter eventsCenter = EventsCenter.getInstance();
+
+    @After
+    public void tearDown() {
+        EventsCenter.clearSubscribers();
+    }
+
+    @Test
+    public void post_synchronousDelivery_handlersOfEventAndSupertypesCalledOnPostingThread() {
+        EventRecorder recorder = new EventRecorder();
+        eventsCenter.registerHandler(recorder);
+
+        TestEvent event = new TestEvent(1);
+        eventsCenter.post(event);
+        assertEquals(Arrays.asList("event 1", "base event 1"), recorder.deliveries);
+        assertEquals(Collections.singletonList(Thread.currentThread().getName()), recorder.threadNames);
+    }
+
+    @Test
+    public void post_handlerPostsEvent_nestedEventDeliveredAfterOuterEvent() {
+        EventRecorder recorder = new EventRecorder();
+        eventsCenter.registerHandler(new Object() {
+            @Subscribe
+            private void handleTestEvent(TestEvent event) {
+                if (event.number == 1) {
+                    eventsCenter.post(new TestEvent(2));
+                }
+            }
+        });
+        eventsCenter.registerHandler(recorder);
+
+        eventsCenter.post(new TestEvent(1));
+        assertEquals(Arrays.asList("event 1", "base event 1", "event 2", "base event 2"), recorder.deliveries);
+    }
+
+    @Test
+    public void post_handlerThrows_otherHandlersStillCalled() {
+        eventsCenter.registerHandler(new Object() {
+            @Subscribe
+            private void handleTestEvent(TestEvent event) {
+                throw new IllegalStateException();
+            }
+        });
+        EventRecorder recorder = new EventRecorder();
+        eventsCenter.registerHandler(recorder);
+
+        eventsCenter.post(new TestEvent(1));
+        assertEquals(Arrays.asList("event 1", "base event 1"), recorder.deliveries);
+    }
+
+    @Test
+    public void post_asynchronousDelivery_handlersCalledOnTheirLanesInOrder() {
+        EventRecorder recorder = new EventRecorder();
+        eventsCenter.registerHandler(recorder);
+        eventsCenter.enableAsynchronousDelivery();
+
+        for (int i = 1; i <= 3; i++) {
+            eventsCenter.post(new TestEvent(i));
+        }
+        eventsCenter.flush();
+
+        List<String> ioDeliveries = new ArrayList<>();
+        List<String> computeDeliveries = new ArrayList<>();
+        synchronized (recorder) {
+            for (String delivery : recorder.deliveries) {
+                if (delivery.startsWith("base")) {
+                    ioDeliveries.add(delivery);
+                } else {
+                    computeDeliveries.add(delivery);
+                }
+            }
+            assertEquals(Arrays.asList("event 1", "event 2", "event 3"), computeDeliveries);
+            assertEquals(Arrays.asList("base event 1", "base event 2", "base event 3"), ioDeliveries);
+            assertEquals(Collections.singletonList("events-compute"), recorder.threadNames);
+            assertNotEquals(Thread.currentThread().getName(), recorder.threadNames.get(0));
+        }
+    }
+
+    /**
+     * An event with no declared lane, which is delivered on {@link EventLane#COMPUTE}.
+     */
+    private static class TestEvent extends BaseEvent {
+        private final int number;
+
+        TestEvent(int number) {
+            this.number = number;
+        }
+
+        @Override
+        public String toString() {
+            return "event " + number;
+        }
+    }
+
+    /**
+     * Records the events it handles, and the threads on which {@code TestEvent}s are handled.
+     */
+    private static class EventRecorder {
+        private final List<String> deliveries = new ArrayList<>();
+        private final List<String> threadNames = new ArrayList<>();
+
+        @Subscribe
+        private synchronized void handleTestEvent(TestEvent event) {
+            deliveries.add(event.toString());
+            String threadName = Thread.currentThread().getName();
+            if (!threadNames.contains(threadName)) {
+                threadNames.add(threadName);
+            }
+        }
+
+        @Subscribe
+        @DeliveredOn(EventLane.IO)
+        private synchronized void handleBaseEvent(BaseEvent event) {
+            deliveries.add("base " + event);
+        }
+    }
+}
@@ -76,6 +76,7 @@ public class ConfigUtilTest {
         config.setAppTitle("Typical App Title");
         config.setLogLevel(Level.INFO);
         config.setUserPrefsFilePath("C:\\preferences.json");
+        config.setUndoMemoryBudget(1048576);
         return config;
     }
 
@@ -0,0 +1,64 @@
+package seedu.address.commons.util;
+
+import static org.junit.Assert.assertEquals;
+import static seedu.address.testutil.TypicalPersons.AMY;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.model.ModelManager;
+import seedu.address.model.person.ReadOnlyPerson;
+
+public class ObservableListCopyTest {
+
+    @Test
+    public void sourceChanged_sourceOnlyWeaklyReferenced_copyStillUpdatedAfterGarbageCollection() {
+        ObservableList<String> backingList = FXCollections.observableArrayList("b");
+        // an unmodifiable list only listens weakly to the list it wraps
+        ObservableListCopy<String> copy = new ObservableListCopy<>(
+                FXCollections.unmodifiableObservableList(backingList), Runnable::run);
+
+        System.gc();
+        backingList.addAll("c", "a");
+        assertEquals(Arrays.asList("b", "c", "a"), copy);
+    }
+
+    @Test
+    public void sourceChanged_modelPersonList_copyStillUpdatedAfterGarbageCollection() throws Exception {
+        ModelManager model = new ModelManager();
+        ObservableListCopy<ReadOnlyPerson> copy = new ObservableListCopy<>(model.getFilteredPersonList(),
+                Runnable::run);
+
+        System.gc();
+        model.addPerson(AMY);
+        assertEquals(model.getFilteredPersonList(), copy);
+    }
+
+    @Test
+    public void sourceChanged_changesDeferred_madeInOrder() {
+        ObservableList<String> source = FXCollections.observableArrayList("d", "b", "a");
+        List<Runnable> deferredChanges = new ArrayList<>();
+        ObservableListCopy<String> copy = new ObservableListCopy<>(source, deferredChanges::add);
+
+        source.add("c");
+        FXCollections.sort(source);
+        source.remove("b");
+        source.set(0, "e");
+        assertEquals(Arrays.asList("d", "b", "a"), copy);
+
+        deferredChanges.forEach(Runnable::run);
+        assertEquals(source, copy);
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void add_unmodifiable_throwsUnsupportedOperationException() {
+        new ObservableListCopy<>(FXCollections.observableList(new ArrayList<>(Collections.singleton("a"))),
+                Runnable::run).add("b");
+    }
+}
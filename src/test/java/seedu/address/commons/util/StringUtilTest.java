@@ -2,6 +2,8 @@ package seedu.address.commons.util;
 
 import static org.hamcrest.CoreMatchers.containsString;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
@@ -155,5 +157,32 @@ public class StringUtilTest {
         StringUtil.getDetails(null);
     }
 
+    //---------------- Tests for toLowerCaseWords --------------------------------------
+
+    @Test
+    public void toLowerCaseWords_validInputs_correctResult() {
+        assertArrayEquals(new String[0], StringUtil.toLowerCaseWords("   "));
+        assertArrayEquals(new String[] {"abc"}, StringUtil.toLowerCaseWords("ABc"));
+        assertArrayEquals(new String[] {"abc", "def", "abc"}, StringUtil.toLowerCaseWords("  ABc \t def  abc "));
+    }
+
+    //---------------- Tests for getEditDistance --------------------------------------
+
+    @Test
+    public void getEditDistance_validInputs_correctResult() {
+        assertEquals(0, StringUtil.getEditDistance("alice", "alice"));
+        assertEquals(5, StringUtil.getEditDistance("", "alice"));
+        assertEquals(1, StringUtil.getEditDistance("alice", "alise")); // substitution
+        assertEquals(1, StringUtil.getEditDistance("alice", "alce")); // deletion
+        assertEquals(1, StringUtil.getEditDistance("alice", "alicea")); // insertion
+        assertEquals(2, StringUtil.getEditDistance("alice", "alcie")); // transposition
+        assertEquals(1, StringUtil.getEditDistance("Alice", "alice")); // case sensitive
+    }
+
+    @Test
+    public void getEditDistance_nullGiven_throwsNullPointerException() {
+        thrown.expect(NullPointerException.class);
+        StringUtil.getEditDistance(null, "alice");
+    }
 
 }
@@ -1,8 +1,18 @@
 package seedu.address.logic;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX;
 import static seedu.address.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.BOB;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
 
 import org.junit.Rule;
 import org.junit.Test;
@@ -16,6 +26,9 @@ import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.person.ReadOnlyPerson;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.testutil.PersonUtil;
 
 
 public class LogicManagerTest {
@@ -46,6 +59,81 @@ public class LogicManagerTest {
         assertHistoryCorrect(listCommand);
     }
 
+    @Test
+    public void executeAsync_validCommand_completesWithResult() throws Exception {
+        String listCommand = ListCommand.COMMAND_WORD;
+        CommandResult result = logic.executeAsync(listCommand).get();
+        assertEquals(String.format(ListCommand.MESSAGE_SUCCESS, "Persons"), result.feedbackToUser);
+        assertHistoryCorrect(listCommand);
+    }
+
+    @Test
+    public void executeAsync_invalidCommand_completesExceptionally() throws Exception {
+        try {
+            logic.executeAsync("uicfhmowqewca").get();
+            throw new AssertionError("The expected ExecutionException was not thrown.");
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof ParseException);
+            assertEquals(MESSAGE_UNKNOWN_COMMAND, e.getCause().getMessage());
+        }
+    }
+
+    @Test
+    public void executeAsync_cancelledBeforeStarting_notExecuted() throws Exception {
+        BlockingModel blockingModel = new BlockingModel();
+        Logic blockingLogic = new LogicManager(blockingModel);
+        CompletableFuture<CommandResult> runningCommand = blockingLogic.executeAsync(PersonUtil.getAddCommand(AMY));
+        blockingModel.started.await();
+        CompletableFuture<CommandResult> waitingCommand = blockingLogic.executeAsync(PersonUtil.getAddCommand(BOB));
+
+        // the waiting command is only cancelled by the worker
+        assertFalse(waitingCommand.cancel(true));
+        blockingModel.released.countDown();
+        runningCommand.get();
+        try {
+            waitingCommand.get();
+            throw new AssertionError("The expected CancellationException was not thrown.");
+        } catch (CancellationException ce) {
+            assertTrue(waitingCommand.isCancelled());
+        }
+        assertEquals(1, blockingModel.getAddressBook().getPersonList().size());
+    }
+
+    @Test
+    public void executeAsync_cancelledAfterChangingModel_completesNormally() throws Exception {
+        BlockingModel blockingModel = new BlockingModel();
+        Logic blockingLogic = new LogicManager(blockingModel);
+        CompletableFuture<CommandResult> runningCommand = blockingLogic.executeAsync(PersonUtil.getAddCommand(AMY));
+        blockingModel.started.await();
+
+        // adding a single person cannot be stopped once it has started
+        runningCommand.cancel(true);
+        runningCommand.get();
+        assertFalse(runningCommand.isCancelled());
+        assertEquals(1, blockingModel.getAddressBook().getPersonList().size());
+    }
+
+    @Test
+    public void executeAsync_commandThrowsError_completesExceptionally() throws Exception {
+        Logic failingLogic = new LogicManager(new ModelManager() {
+            @Override
+            public void addPerson(ReadOnlyPerson person) {
+                throw new AssertionError("failed");
+            }
+        });
+        CompletableFuture<CommandResult> failingCommand = failingLogic.executeAsync(PersonUtil.getAddCommand(AMY));
+        try {
+            failingCommand.get(10, TimeUnit.SECONDS);
+            throw new AssertionError("The expected ExecutionException was not thrown.");
+        } catch (ExecutionException e) {
+            assertEquals("failed", e.getCause().getMessage());
+        }
+
+        // the worker is still able to execute the commands after it
+        assertEquals(String.format(ListCommand.MESSAGE_SUCCESS, "Persons"),
+                failingLogic.executeAsync(ListCommand.COMMAND_WORD).get(10, TimeUnit.SECONDS).feedbackToUser);
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         thrown.expect(UnsupportedOperationException.class);
@@ -121,4 +209,23 @@ public class LogicManagerTest {
             throw new AssertionError("Parsing and execution of HistoryCommand.COMMAND_WORD should succeed.", e);
         }
     }
+
+    /**
+     * A model that blocks the first person being added until it is released or interrupted.
+     */
+    private static class BlockingModel extends ModelManager {
+        private final CountDownLatch started = new CountDownLatch(1);
+        private final CountDownLatch released = new CountDownLatch(1);
+
+        @Override
+        public void addPerson(ReadOnlyPerson person) throws DuplicatePersonException {
+            started.countDown();
+            try {
+                released.await();
+            } catch (InterruptedException ie) {
+                Thread.currentThread().interrupt();
+            }
+            super.addPerson(person);
+        }
+    }
 }
@@ -0,0 +1,90 @@
+package seedu.address.logic;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.BOB;
+
+import java.io.IOException;
+
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import seedu.address.model.AddressBookDelta;
+import seedu.address.model.ModelManager;
+import seedu.address.model.person.ReadOnlyPerson;
+
+public class UndoJournalTest {
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private final ModelManager model = new ModelManager();
+    private UndoJournal journal = new UndoJournal();
+
+    @After
+    public void tearDown() throws IOException {
+        journal.close();
+    }
+
+    @Test
+    public void read_allEntriesRead_fileEmptied() throws Exception {
+        AddressBookDelta addAmy = recordAdding(AMY);
+        AddressBookDelta addBob = recordAdding(BOB);
+        UndoJournal.Entry amyEntry = journal.write(addAmy);
+        UndoJournal.Entry bobEntry = journal.write(addBob);
+
+        assertEquals(addBob.size(), bobEntry.read().size());
+        assertTrue(journal.getFileSize() > 0);
+        assertEquals(addAmy.size(), amyEntry.read().size());
+        assertEquals(0, journal.getFileSize());
+    }
+
+    @Test
+    public void discard_mostOfFileReleased_fileCompacted() throws Exception {
+        journal = new UndoJournal(0);
+        UndoJournal.Entry amyEntry = journal.write(recordAdding(AMY));
+        UndoJournal.Entry bobEntry = journal.write(recordAdding(BOB));
+        long fileSizeWithBob = journal.getFileSize();
+        AddressBookDelta addAlice = recordAdding(ALICE);
+        UndoJournal.Entry aliceEntry = journal.write(addAlice);
+        long aliceBytes = journal.getFileSize() - fileSizeWithBob;
+
+        amyEntry.discard();
+        bobEntry.discard();
+        // only the entry still in use is left, and it can still be read back
+        assertEquals(aliceBytes, journal.getFileSize());
+        assertEquals(addAlice.size(), aliceEntry.read().size());
+    }
+
+    @Test
+    public void read_entryAlreadyRead_throwsIoException() throws Exception {
+        UndoJournal.Entry amyEntry = journal.write(recordAdding(AMY));
+        journal.write(recordAdding(BOB));
+        amyEntry.read();
+
+        thrown.expect(IOException.class);
+        amyEntry.read();
+    }
+
+    @Test
+    public void write_journalClosed_throwsIoException() throws Exception {
+        journal.write(recordAdding(AMY));
+        journal.close();
+        assertEquals(0, journal.getFileSize());
+
+        thrown.expect(IOException.class);
+        journal.write(recordAdding(BOB));
+    }
+
+    /**
+     * Returns the changes made by adding {@code person} to the model.
+     */
+    private AddressBookDelta recordAdding(ReadOnlyPerson person) throws Exception {
+        model.startRecordingChanges();
+        model.addPerson(person);
+        return model.stopRecordingChanges();
+    }
+}
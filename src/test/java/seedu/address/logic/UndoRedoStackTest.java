@@ -5,6 +5,9 @@ import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 import static seedu.address.logic.UndoRedoStackUtil.prepareStack;
+import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.util.Arrays;
 import java.util.Collections;
@@ -13,11 +16,15 @@ import java.util.List;
 
 import org.junit.Test;
 
+import seedu.address.logic.commands.AddCommand;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.RedoCommand;
 import seedu.address.logic.commands.UndoCommand;
 import seedu.address.logic.commands.UndoableCommand;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
 
 public class UndoRedoStackTest {
     private final DummyCommand dummyCommandOne = new DummyCommand();
@@ -140,6 +147,59 @@ public class UndoRedoStackTest {
                 Collections.emptyList());
     }
 
+    @Test
+    public void push_overMemoryBudget_olderChangesSpilledAndReloadedOnUndo() throws Exception {
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        undoRedoStack = new UndoRedoStack(0);
+        CommandHistory history = new CommandHistory();
+
+        UndoableCommand addAmy = new AddCommand(AMY);
+        addAmy.setData(model, history, undoRedoStack);
+        addAmy.execute();
+        undoRedoStack.push(addAmy);
+        UndoableCommand addBob = new AddCommand(BOB);
+        addBob.setData(model, history, undoRedoStack);
+        addBob.execute();
+        undoRedoStack.push(addBob);
+
+        // only the changes of the command to be undone next are kept in memory
+        assertEquals(0, addAmy.getRetainedBytes());
+        assertTrue(addBob.getRetainedBytes() > 0);
+        assertEquals(addBob.getRetainedBytes(), undoRedoStack.getRetainedBytes());
+
+        UndoCommand undoCommand = new UndoCommand();
+        undoCommand.setData(model, history, undoRedoStack);
+        undoCommand.execute();
+        undoCommand.execute();
+        assertEquals(expectedModel, model);
+        assertEquals(addAmy.getRetainedBytes(), undoRedoStack.getRetainedBytes());
+    }
+
+    @Test
+    public void push_redoStackCleared_spilledChangesReleasedFromJournal() throws Exception {
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        UndoJournal journal = new UndoJournal();
+        undoRedoStack = new UndoRedoStack(0, journal);
+        CommandHistory history = new CommandHistory();
+        UndoCommand undoCommand = new UndoCommand();
+        undoCommand.setData(model, history, undoRedoStack);
+
+        for (UndoableCommand command : Arrays.asList(new AddCommand(AMY), new AddCommand(BOB))) {
+            command.setData(model, history, undoRedoStack);
+            command.execute();
+            undoRedoStack.push(command);
+        }
+        undoCommand.execute();
+        undoCommand.execute();
+        // the changes of the command furthest from being redone are in the journal
+        assertTrue(journal.getFileSize() > 0);
+
+        undoRedoStack.push(dummyCommandOne);
+        assertEquals(0, journal.getFileSize());
+        undoRedoStack.close();
+    }
+
     @Test
     public void equals() {
         undoRedoStack = prepareStack(Arrays.asList(dummyUndoableCommandTwo, dummyUndoableCommandOne),
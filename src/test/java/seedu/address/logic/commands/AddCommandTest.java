@@ -20,8 +20,11 @@ import seedu.address.logic.CommandHistory;
 import seedu.address.logic.UndoRedoStack;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookDelta;
+import seedu.address.model.AddressBookSnapshot;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.SortOrder;
 import seedu.address.model.person.Address;
 import seedu.address.model.person.Email;
 import seedu.address.model.person.Person;
@@ -30,6 +33,9 @@ import seedu.address.model.person.ReadOnlyPerson;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
 import seedu.address.model.person.predicates.FavourListPredicate;
+import seedu.address.model.query.PersonPage;
+import seedu.address.model.query.Query;
+import seedu.address.model.query.QueryPlan;
 import seedu.address.testutil.PersonBuilder;
 
 public class AddCommandTest {
@@ -125,6 +131,24 @@ public class AddCommandTest {
             return null;
         }
 
+        @Override
+        public List<ReadOnlyPerson> getPersonsWithAddress(Address address) {
+            fail("This method should not be called.");
+            return null;
+        }
+
+        @Override
+        public List<ReadOnlyPerson> getPersonsWithEmail(Email email) {
+            fail("This method should not be called.");
+            return null;
+        }
+
+        @Override
+        public List<ReadOnlyPerson> getPersonsWithPhone(Phone phone) {
+            fail("This method should not be called.");
+            return null;
+        }
+
         @Override
         public FavourListPredicate getFavourListPredicate() {
             fail("This method should not be called.");
@@ -142,6 +166,38 @@ public class AddCommandTest {
             return null;
         }
 
+        @Override
+        public AddressBookSnapshot snapshot() {
+            fail("This method should not be called.");
+            return null;
+        }
+
+        @Override
+        public void startRecordingChanges() {
+            fail("This method should not be called.");
+        }
+
+        @Override
+        public AddressBookDelta stopRecordingChanges() {
+            fail("This method should not be called.");
+            return null;
+        }
+
+        @Override
+        public void batch(Batch batch) throws DuplicatePersonException, PersonNotFoundException {
+            fail("This method should not be called.");
+        }
+
+        @Override
+        public void undoChanges(AddressBookDelta changes) {
+            fail("This method should not be called.");
+        }
+
+        @Override
+        public void redoChanges(AddressBookDelta changes) {
+            fail("This method should not be called.");
+        }
+
         @Override
         public void deletePerson(ReadOnlyPerson target) throws PersonNotFoundException {
             fail("This method should not be called.");
@@ -174,6 +230,23 @@ public class AddCommandTest {
             fail("This method should not be called.");
         }
 
+        @Override
+        public QueryPlan executeQuery(Query query) {
+            fail("This method should not be called.");
+            return null;
+        }
+
+        @Override
+        public PersonPage getPersonPage(Query query, int offset, int limit) {
+            fail("This method should not be called.");
+            return null;
+        }
+
+        @Override
+        public void sortFilteredPersonList(SortOrder order) {
+            fail("This method should not be called.");
+        }
+
         @Override
         public void handleListingUnit() {
 
@@ -193,6 +266,15 @@ public class AddCommandTest {
         public ReadOnlyAddressBook getAddressBook() {
             return new AddressBook();
         }
+
+        @Override
+        public void startRecordingChanges() {
+        }
+
+        @Override
+        public AddressBookDelta stopRecordingChanges() {
+            return null;
+        }
     }
 
     /**
@@ -210,6 +292,15 @@ public class AddCommandTest {
         public ReadOnlyAddressBook getAddressBook() {
             return new AddressBook();
         }
+
+        @Override
+        public void startRecordingChanges() {
+        }
+
+        @Override
+        public AddressBookDelta stopRecordingChanges() {
+            return null;
+        }
     }
 
 }
@@ -2,10 +2,23 @@ package seedu.address.logic.parser;
 
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 import org.junit.Test;
 
+import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.logic.commands.FindCommand;
+import seedu.address.model.person.predicates.FuzzyKeywordsPredicate;
+import seedu.address.model.person.predicates.PrefixKeywordsPredicate;
+import seedu.address.model.person.predicates.TagExpressionPredicate;
+import seedu.address.model.query.Query;
+import seedu.address.model.tag.Tag;
 
 
 
@@ -17,6 +30,82 @@ public class FindCommandParserTest {
     public void parse_emptyArg_throwsParseException() {
         assertParseFailure(parser, "     ", String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
     }
+
+    @Test
+    public void parse_prefixArgs_returnsFindCommand() {
+        FindCommand expectedFindCommand = new FindCommand(new Query(
+                new PrefixKeywordsPredicate(Arrays.asList("Ali", "Bo")), false, FindCommand.PREFIX_MATCH_LIMIT));
+        assertParseSuccess(parser, " Ali* \n Bo*  ", expectedFindCommand);
+    }
+
+    @Test
+    public void parse_explainFlag_returnsExplainedFindCommand() {
+        FindCommand expectedFindCommand = new FindCommand(new Query(
+                new PrefixKeywordsPredicate(Arrays.asList("Ali")), true, FindCommand.PREFIX_MATCH_LIMIT));
+        assertParseSuccess(parser, " -explain Ali* ", expectedFindCommand);
+
+        // flag only
+        assertParseFailure(parser, " -explain ", String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                FindCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_invalidPrefixArgs_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE);
+        // keyword without wildcard
+        assertParseFailure(parser, "Ali* Bob", expectedMessage);
+        // wildcard only
+        assertParseFailure(parser, "*", expectedMessage);
+        // wildcard inside keyword
+        assertParseFailure(parser, "A*li*", expectedMessage);
+    }
+
+    @Test
+    public void parse_fuzzyArgs_returnsFindCommand() {
+        Map<String, Integer> maxDistancesByKeyword = new LinkedHashMap<>();
+        maxDistancesByKeyword.put("Alise", FindCommand.DEFAULT_FUZZY_DISTANCE);
+        maxDistancesByKeyword.put("Bemson", 2);
+        FindCommand expectedFindCommand = new FindCommand(new FuzzyKeywordsPredicate(maxDistancesByKeyword));
+        assertParseSuccess(parser, " Alise~ \n Bemson~2  ", expectedFindCommand);
+    }
+
+    @Test
+    public void parse_invalidFuzzyArgs_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE);
+        // keyword without marker
+        assertParseFailure(parser, "Alise~ Bob", expectedMessage);
+        // marker only
+        assertParseFailure(parser, "~2", expectedMessage);
+        // distance too large
+        assertParseFailure(parser, "Alise~4", FindCommand.MESSAGE_INVALID_FUZZY_DISTANCE);
+        // distance not a number
+        assertParseFailure(parser, "Alise~a", FindCommand.MESSAGE_INVALID_FUZZY_DISTANCE);
+    }
+
+    @Test
+    public void parse_tagExpression_returnsFindCommand() throws IllegalValueException {
+        Tag friends = new Tag("friends");
+        Tag colleagues = new Tag("colleagues");
+        Tag family = new Tag("family");
+        FindCommand expectedFindCommand = new FindCommand(new TagExpressionPredicate(Arrays.asList(
+                new TagExpressionPredicate.Clause(new HashSet<>(Arrays.asList(friends)),
+                        new HashSet<>(Arrays.asList(colleagues))),
+                new TagExpressionPredicate.Clause(Collections.emptySet(), new HashSet<>(Arrays.asList(family))))));
+        assertParseSuccess(parser, "t/friends AND NOT colleagues OR NOT family", expectedFindCommand);
+    }
+
+    @Test
+    public void parse_invalidTagExpression_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE);
+        // no tag
+        assertParseFailure(parser, "t/ ", expectedMessage);
+        // missing operator
+        assertParseFailure(parser, "t/friends family", expectedMessage);
+        // dangling operator
+        assertParseFailure(parser, "t/friends AND", expectedMessage);
+        // invalid tag name
+        assertParseFailure(parser, "t/friends OR fam*ly", Tag.MESSAGE_TAG_CONSTRAINTS);
+    }
     /***
      @Test public void parse_validArgs_returnsFindCommand() {
      // no leading and trailing whitespaces
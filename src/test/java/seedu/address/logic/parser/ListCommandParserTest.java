@@ -28,6 +28,12 @@ public class ListCommandParserTest {
         assertParseSuccess(parser, " phone", new ListCommand(ListCommand.ATTRIBUTE_PHONE));
     }
 
+    @Test
+    public void parse_explainFlag_returnsExplainedListCommand() {
+        assertParseSuccess(parser, " -explain phone", new ListCommand(ListCommand.ATTRIBUTE_PHONE, true));
+        assertParseSuccess(parser, " -explain", new ListCommand(ListCommand.DEFAULT_LISTING_ELEMENT, true));
+    }
+
     @Test
     public void parse_invalidArgs_throwsParseException() {
         assertParseFailure(parser, "list asda", String.format(MESSAGE_INVALID_COMMAND_FORMAT,
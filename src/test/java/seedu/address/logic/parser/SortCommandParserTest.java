@@ -0,0 +1,34 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.util.Arrays;
+
+import org.junit.Test;
+
+import seedu.address.logic.commands.SortCommand;
+import seedu.address.model.SortOrder;
+
+public class SortCommandParserTest {
+
+    private SortCommandParser parser = new SortCommandParser();
+
+    @Test
+    public void parse_noArgs_returnsSortCommandByListingUnit() {
+        assertParseSuccess(parser, "  ", new SortCommand());
+    }
+
+    @Test
+    public void parse_attributes_returnsSortCommandByAttributes() {
+        assertParseSuccess(parser, " address  Name ",
+                new SortCommand(Arrays.asList(SortOrder.Key.ADDRESS, SortOrder.Key.NAME)));
+    }
+
+    @Test
+    public void parse_invalidAttribute_throwsParseException() {
+        assertParseFailure(parser, " address tag", String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                SortCommand.MESSAGE_USAGE));
+    }
+}
@@ -1,7 +1,15 @@
 package seedu.address.model;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_FRIEND;
 import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.CARL;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.util.ArrayList;
@@ -19,6 +27,7 @@ import javafx.collections.ObservableList;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.ReadOnlyPerson;
 import seedu.address.model.tag.Tag;
+import seedu.address.testutil.PersonBuilder;
 
 public class AddressBookTest {
 
@@ -46,6 +55,126 @@ public class AddressBookTest {
         assertEquals(newData, addressBook);
     }
 
+    @Test
+    public void removePerson_lastPersonWithTag_tagRemoved() throws Exception {
+        Tag colleagues = new Tag("colleagues");
+        ReadOnlyPerson carlColleague = new PersonBuilder(CARL).withTags("friends", "colleagues").build();
+        addressBook.addPerson(ALICE);
+        addressBook.addPerson(carlColleague);
+        assertTrue(addressBook.getTagList().contains(colleagues));
+
+        // colleagues no longer used -> removed, friends still used by ALICE -> kept
+        addressBook.updatePerson(carlColleague, CARL);
+        assertEquals(Arrays.asList(new Tag("friends")), addressBook.getTagList());
+
+        addressBook.removePerson(ALICE);
+        addressBook.removePerson(CARL);
+        assertEquals(Collections.emptyList(), addressBook.getTagList());
+    }
+
+    @Test
+    public void resetData_columnarAddressBook_replacesData() {
+        AddressBook newData = getTypicalAddressBook();
+        AddressBook columnarAddressBook = AddressBook.createColumnar();
+        columnarAddressBook.resetData(newData);
+        assertEquals(newData, columnarAddressBook);
+    }
+
+    @Test
+    public void updatePerson_columnarAddressBook_updatesIndexes() throws Exception {
+        AddressBook columnarAddressBook = AddressBook.createColumnar();
+        columnarAddressBook.addPerson(ALICE);
+        columnarAddressBook.addPerson(BENSON);
+
+        columnarAddressBook.updatePerson(ALICE, CARL);
+        columnarAddressBook.removePerson(BENSON);
+
+        assertEquals(Arrays.asList(CARL), columnarAddressBook.getPersonList());
+        assertEquals(Arrays.asList(CARL), columnarAddressBook.getAddressIndex().getPersons(CARL.getAddress()));
+        assertTrue(columnarAddressBook.getAddressIndex().getPersons(ALICE.getAddress()).isEmpty());
+    }
+
+    @Test
+    public void updatePerson_editedPerson_keepsId() throws Exception {
+        addressBook.addPerson(ALICE);
+        addressBook.addPerson(BENSON);
+        long aliceId = addressBook.getPersonList().get(0).getId();
+        long bensonId = addressBook.getPersonList().get(1).getId();
+        assertNotEquals(ReadOnlyPerson.UNASSIGNED_ID, aliceId);
+        assertNotEquals(aliceId, bensonId);
+
+        addressBook.updatePerson(ALICE, CARL);
+        assertEquals(aliceId, addressBook.getPersonList().get(0).getId());
+        assertEquals(CARL, addressBook.getPersonById(aliceId).get());
+
+        addressBook.removePerson(CARL);
+        addressBook.addPerson(ALICE);
+        assertFalse(addressBook.getPersonById(aliceId).isPresent());
+        assertNotEquals(aliceId, addressBook.getPersonList().get(1).getId());
+    }
+
+    @Test
+    public void resetData_sharedIds_givenNewIds() {
+        Person alice = new Person(ALICE);
+        alice.setId(5);
+        Person benson = new Person(BENSON);
+        benson.setId(5);
+        addressBook.resetData(new AddressBookStub(Arrays.asList(alice, benson), Collections.emptyList()));
+
+        assertEquals(5, addressBook.getPersonList().get(0).getId());
+        assertEquals(6, addressBook.getPersonList().get(1).getId());
+        assertEquals(ALICE, addressBook.getPersonById(5).get());
+    }
+
+    @Test
+    public void snapshot_laterChanges_notReflected() throws Exception {
+        addressBook.addPerson(ALICE);
+        addressBook.addPerson(BENSON);
+        ReadOnlyAddressBook snapshot = addressBook.snapshot();
+
+        addressBook.removePerson(ALICE);
+        addressBook.addPerson(CARL);
+
+        assertEquals(Arrays.asList(ALICE, BENSON), snapshot.getPersonList());
+        assertEquals(Arrays.asList(BENSON, CARL), addressBook.snapshot().getPersonList());
+    }
+
+    @Test
+    public void snapshot_changes_laterVersion() throws Exception {
+        addressBook.addPerson(ALICE);
+        AddressBookSnapshot snapshot = addressBook.snapshot();
+        assertEquals(snapshot.getVersion(), addressBook.snapshot().getVersion());
+
+        addressBook.addTag(new Tag(VALID_TAG_FRIEND));
+        AddressBookSnapshot laterSnapshot = addressBook.snapshot();
+        assertTrue(laterSnapshot.getVersion() > snapshot.getVersion());
+        assertEquals(ALICE.getTags().size(), snapshot.getTagList().size());
+        assertEquals(ALICE.getTags().size() + 1, laterSnapshot.getTagList().size());
+    }
+
+    @Test
+    public void revertDelta_recordedChanges_restoresPreviousState() throws Exception {
+        addressBook.resetData(getTypicalAddressBook());
+        AddressBook expectedAddressBook = new AddressBook(addressBook);
+        List<Tag> expectedTags = new ArrayList<>(addressBook.getTagList());
+        addressBook.startRecordingChanges();
+        addressBook.removePerson(BENSON);
+        addressBook.updatePerson(ALICE, AMY);
+        addressBook.addPerson(BOB);
+        AddressBookDelta delta = addressBook.stopRecordingChanges();
+        AddressBook changedAddressBook = new AddressBook(addressBook);
+        List<Tag> changedTags = new ArrayList<>(addressBook.getTagList());
+
+        addressBook.revertDelta(delta);
+        assertEquals(expectedAddressBook, addressBook);
+        assertEquals(expectedTags, addressBook.getTagList());
+        assertEquals(Arrays.asList(BENSON), addressBook.getAddressIndex().getPersons(BENSON.getAddress()));
+
+        addressBook.applyDelta(delta);
+        assertEquals(changedAddressBook, addressBook);
+        assertEquals(changedTags, addressBook.getTagList());
+    }
+
     @Test
     public void resetData_withDuplicatePersons_throwsAssertionError() {
         // Repeat ALICE twice
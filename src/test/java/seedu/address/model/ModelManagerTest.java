@@ -1,24 +1,45 @@
 package seedu.address.model;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
+import seedu.address.commons.events.model.AddressBookChangedEvent;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.ReadOnlyPerson;
+import seedu.address.model.person.predicates.FavourListPredicate;
 import seedu.address.model.person.predicates.NameContainsKeywordsPredicate;
+import seedu.address.model.query.PersonPage;
+import seedu.address.model.query.Query;
+import seedu.address.model.query.QueryPlan;
 import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.PersonBuilder;
+import seedu.address.ui.testutil.EventsCollectorRule;
 
 public class ModelManagerTest {
     @Rule
     public ExpectedException thrown = ExpectedException.none();
 
+    @Rule
+    public final EventsCollectorRule eventsCollectorRule = new EventsCollectorRule();
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         ModelManager modelManager = new ModelManager();
@@ -26,6 +47,205 @@ public class ModelManagerTest {
         modelManager.getFilteredPersonList().remove(0);
     }
 
+    @Test
+    public void batch_multipleMutations_singleChangeEventRaised() throws Exception {
+        ModelManager modelManager = new ModelManager(new AddressBookBuilder().withPerson(ALICE).build(),
+                new UserPrefs());
+
+        modelManager.batch(() -> {
+            modelManager.addPerson(BENSON);
+            modelManager.addPerson(CARL);
+            modelManager.deletePerson(ALICE);
+        });
+
+        assertEquals(1, eventsCollectorRule.eventsCollector.getSize());
+        assertTrue(eventsCollectorRule.eventsCollector.getMostRecent() instanceof AddressBookChangedEvent);
+        assertEquals(Arrays.asList(BENSON, CARL), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void addPerson_laterChanges_changeEventDataUnchanged() throws Exception {
+        ModelManager modelManager = new ModelManager(new AddressBookBuilder().withPerson(ALICE).build(),
+                new UserPrefs());
+
+        modelManager.addPerson(BENSON);
+        AddressBookChangedEvent event = (AddressBookChangedEvent) eventsCollectorRule.eventsCollector.getMostRecent();
+        modelManager.deletePerson(ALICE);
+
+        assertEquals(Arrays.asList(ALICE, BENSON), event.data.getPersonList());
+        assertTrue(modelManager.snapshot().getVersion() > ((AddressBookSnapshot) event.data).getVersion());
+    }
+
+    @Test
+    public void getPersonsWithAddress_readDuringBatch_seesWholeBatch() throws Exception {
+        ModelManager modelManager = new ModelManager(new AddressBookBuilder().withPerson(ALICE).build(),
+                new UserPrefs());
+        ReadOnlyPerson carlAtAliceAddress = new PersonBuilder(CARL).withAddress(ALICE.getAddress().value).build();
+        List<ReadOnlyPerson> readPersons = new ArrayList<>();
+        Thread reader = new Thread(() -> readPersons.addAll(modelManager.getPersonsWithAddress(ALICE.getAddress())));
+
+        modelManager.batch(() -> {
+            modelManager.addPerson(carlAtAliceAddress);
+            reader.start();
+            // the reader waits for the batch to be applied
+            assertTrue(isStillRunningAfterWait(reader));
+            modelManager.deletePerson(ALICE);
+        });
+        reader.join();
+
+        assertEquals(Arrays.asList(carlAtAliceAddress), readPersons);
+    }
+
+    @Test
+    public void snapshot_readWhileBatchesApplied_seesWholeBatches() throws Exception {
+        ModelManager modelManager = new ModelManager();
+        List<Integer> snapshotSizes = Collections.synchronizedList(new ArrayList<>());
+        Thread reader = new Thread(() -> {
+            while (snapshotSizes.isEmpty() || snapshotSizes.get(snapshotSizes.size() - 1) < 200) {
+                snapshotSizes.add(modelManager.snapshot().getPersonList().size());
+            }
+        });
+
+        reader.start();
+        for (int i = 0; i < 100; i++) {
+            ReadOnlyPerson first = new PersonBuilder().withName("First " + i).build();
+            ReadOnlyPerson second = new PersonBuilder().withName("Second " + i).build();
+            modelManager.batch(() -> {
+                modelManager.addPerson(first);
+                modelManager.addPerson(second);
+            });
+        }
+        reader.join();
+
+        for (int size : snapshotSizes) {
+            assertEquals(0, size % 2);
+        }
+    }
+
+    @Test
+    public void getPersonsWithAddress_afterMutations_reflectsCurrentPersons() throws Exception {
+        ModelManager modelManager = new ModelManager(new AddressBookBuilder().withPerson(ALICE).build(),
+                new UserPrefs());
+        ReadOnlyPerson carlAtAliceAddress = new PersonBuilder(CARL).withAddress(ALICE.getAddress().value).build();
+
+        modelManager.addPerson(carlAtAliceAddress);
+        assertEquals(Arrays.asList(ALICE, carlAtAliceAddress), modelManager.getPersonsWithAddress(ALICE.getAddress()));
+
+        modelManager.updatePerson(carlAtAliceAddress, CARL);
+        assertEquals(Arrays.asList(ALICE), modelManager.getPersonsWithAddress(ALICE.getAddress()));
+        assertEquals(Arrays.asList(CARL), modelManager.getPersonsWithAddress(CARL.getAddress()));
+
+        modelManager.deletePerson(ALICE);
+        assertEquals(Collections.emptyList(), modelManager.getPersonsWithAddress(ALICE.getAddress()));
+        assertFalse(modelManager.getUniqueAdPersonSet().contains(ALICE.getAddress()));
+    }
+
+    @Test
+    public void collectPerson_personEdited_stillCollected() throws Exception {
+        ModelManager modelManager = new ModelManager(new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON)
+                .build(), new UserPrefs());
+        modelManager.collectPerson(modelManager.getFilteredPersonList().get(0));
+
+        modelManager.updatePerson(ALICE, CARL);
+        FavourListPredicate favourListPredicate = modelManager.getFavourListPredicate();
+        assertTrue(favourListPredicate.test(modelManager.getFilteredPersonList().get(0)));
+        assertFalse(favourListPredicate.test(modelManager.getFilteredPersonList().get(1)));
+
+        QueryPlan plan = modelManager.executeQuery(new Query(favourListPredicate, false));
+        assertEquals(QueryPlan.Strategy.INDEX, plan.getStrategy());
+        assertEquals(Arrays.asList(CARL), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void collectPerson_idBeyondIntRange_collected() throws Exception {
+        Person alice = new Person(ALICE);
+        alice.setId(Integer.MAX_VALUE + 1L);
+        ModelManager modelManager = new ModelManager(new AddressBookBuilder().withPerson(alice).withPerson(BENSON)
+                .build(), new UserPrefs());
+        modelManager.collectPerson(modelManager.getFilteredPersonList().get(0));
+
+        FavourListPredicate favourListPredicate = modelManager.getFavourListPredicate();
+        modelManager.executeQuery(new Query(favourListPredicate, false));
+        assertEquals(Arrays.asList(ALICE), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void getUniqueAdPersonSet_filteredList_keepsFilter() {
+        ModelManager modelManager = new ModelManager(new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON)
+                .build(), new UserPrefs());
+        modelManager.updateFilteredPersonList(person -> person.equals(ALICE));
+
+        assertEquals(2, modelManager.getUniqueAdPersonSet().size());
+        assertEquals(Arrays.asList(ALICE), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void handleListingUnit_addressUnit_distinctAddressesKeptUpToDate() throws Exception {
+        ModelManager modelManager = new ModelManager(new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON)
+                .build(), new UserPrefs());
+        ListingUnit.setCurrentListingUnit(ListingUnit.ADDRESS);
+        try {
+            modelManager.handleListingUnit();
+            assertEquals(Arrays.asList(ALICE, BENSON), modelManager.getFilteredPersonList());
+
+            modelManager.addPerson(new PersonBuilder(CARL).withAddress(ALICE.getAddress().value).build());
+            assertEquals(Arrays.asList(ALICE, BENSON), modelManager.getFilteredPersonList());
+            modelManager.deletePerson(BENSON);
+            assertEquals(Arrays.asList(ALICE), modelManager.getFilteredPersonList());
+
+            // filtering shows the filtered persons again
+            modelManager.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+            assertEquals(2, modelManager.getFilteredPersonList().size());
+        } finally {
+            ListingUnit.setCurrentListingUnit(ListingUnit.PERSON);
+        }
+    }
+
+    @Test
+    public void sortFilteredPersonList_personsChanged_keptInOrder() throws Exception {
+        ModelManager modelManager = new ModelManager(new AddressBookBuilder().withPerson(CARL).withPerson(ALICE)
+                .build(), new UserPrefs());
+        SortOrder byName = new SortOrder(Collections.singletonList(SortOrder.Key.NAME));
+        modelManager.sortFilteredPersonList(byName);
+        assertEquals(Arrays.asList(ALICE, CARL), modelManager.getFilteredPersonList());
+
+        modelManager.addPerson(BENSON);
+        assertEquals(Arrays.asList(ALICE, BENSON, CARL), modelManager.getFilteredPersonList());
+
+        // filter kept across orders
+        modelManager.updateFilteredPersonList(person -> !person.equals(BENSON));
+        modelManager.sortFilteredPersonList(SortOrder.UNSORTED);
+        assertEquals(Arrays.asList(CARL, ALICE), modelManager.getFilteredPersonList());
+        modelManager.sortFilteredPersonList(byName);
+        assertEquals(Arrays.asList(ALICE, CARL), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void getPersonPage_windowOfQuery_filteredListUnchanged() {
+        ModelManager modelManager = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+        PersonPage page = modelManager.getPersonPage(new Query(PREDICATE_SHOW_ALL_PERSONS), 2, 3);
+        assertEquals(Arrays.asList(CARL, DANIEL, ELLE), page.getPersons());
+        assertEquals(getTypicalPersons().size(), page.getTotalCount());
+        assertTrue(page.hasNextPage());
+
+        // answered from the indexes
+        page = modelManager.getPersonPage(new Query(
+                new NameContainsKeywordsPredicate(Collections.singletonList("Meier"))), 1, 5);
+        assertEquals(Arrays.asList(DANIEL), page.getPersons());
+        assertEquals(2, page.getTotalCount());
+        assertFalse(page.hasNextPage());
+
+        // persons found from the indexes are paged in the order of the address book
+        page = modelManager.getPersonPage(new Query(
+                new NameContainsKeywordsPredicate(Arrays.asList("Meier", "Alice"))), 0, 2);
+        assertEquals(Arrays.asList(ALICE, BENSON), page.getPersons());
+        assertEquals(3, page.getTotalCount());
+        assertTrue(page.hasNextPage());
+
+        assertEquals(getTypicalPersons(), modelManager.getFilteredPersonList());
+    }
+
     @Test
     public void equals() {
         AddressBook addressBook = new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build();
@@ -62,4 +282,16 @@ public class ModelManagerTest {
         differentUserPrefs.setAddressBookName("differentName");
         assertTrue(modelManager.equals(new ModelManager(addressBook, differentUserPrefs)));
     }
+
+    /**
+     * Returns true if {@code thread} has not finished after waiting a while for it.
+     */
+    private static boolean isStillRunningAfterWait(Thread thread) {
+        try {
+            thread.join(100);
+        } catch (InterruptedException ie) {
+            throw new AssertionError(ie);
+        }
+        return thread.isAlive();
+    }
 }
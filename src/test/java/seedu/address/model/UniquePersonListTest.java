@@ -1,10 +1,25 @@
 package seedu.address.model;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.FIONA;
+
+import java.util.Arrays;
+import java.util.Collections;
+
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
 import seedu.address.model.person.UniquePersonList;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.model.person.exceptions.PersonNotFoundException;
 
 public class UniquePersonListTest {
     @Rule
@@ -16,4 +31,72 @@ public class UniquePersonListTest {
         thrown.expect(UnsupportedOperationException.class);
         uniquePersonList.asObservableList().remove(0);
     }
+
+    @Test
+    public void add_duplicatePerson_throwsDuplicatePersonException() throws Exception {
+        UniquePersonList uniquePersonList = new UniquePersonList();
+        uniquePersonList.add(ALICE);
+        thrown.expect(DuplicatePersonException.class);
+        uniquePersonList.add(ALICE);
+    }
+
+    @Test
+    public void remove_personNotInList_throwsPersonNotFoundException() throws Exception {
+        UniquePersonList uniquePersonList = new UniquePersonList();
+        uniquePersonList.add(ALICE);
+        thrown.expect(PersonNotFoundException.class);
+        uniquePersonList.remove(BENSON);
+    }
+
+    @Test
+    public void setPerson_afterRemoval_replacesShiftedPerson() throws Exception {
+        UniquePersonList uniquePersonList = new UniquePersonList();
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BENSON, CARL));
+
+        uniquePersonList.remove(ALICE);
+        assertFalse(uniquePersonList.contains(ALICE));
+
+        // CARL has shifted forward by one position and must still be located correctly
+        uniquePersonList.setPerson(CARL, DANIEL);
+        assertFalse(uniquePersonList.contains(CARL));
+        assertTrue(uniquePersonList.contains(DANIEL));
+        assertEquals(Arrays.asList(BENSON, DANIEL), uniquePersonList.asObservableList());
+    }
+
+    @Test
+    public void replaceRange_personsSwappedOrResized_personsLocatedAtNewPositions() throws Exception {
+        UniquePersonList uniquePersonList = new UniquePersonList();
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BENSON, CARL));
+
+        uniquePersonList.replaceRange(0, 2, Arrays.asList(BENSON, ALICE));
+        assertEquals(Arrays.asList(BENSON, ALICE, CARL), uniquePersonList.asObservableList());
+
+        uniquePersonList.replaceRange(0, 1, Arrays.asList(DANIEL, BENSON));
+        assertEquals(Arrays.asList(DANIEL, BENSON, ALICE, CARL), uniquePersonList.asObservableList());
+
+        uniquePersonList.remove(BENSON);
+        uniquePersonList.setPerson(CARL, BENSON);
+        assertEquals(Arrays.asList(DANIEL, ALICE, BENSON), uniquePersonList.asObservableList());
+    }
+
+    @Test
+    public void replaceRange_removedPersonsPutBack_personsLocatedAtTheirPositions() throws Exception {
+        UniquePersonList uniquePersonList = new UniquePersonList();
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BENSON, CARL, DANIEL));
+
+        // the persons put back take the slots they were removed from
+        uniquePersonList.replaceRange(1, 2, Collections.emptyList());
+        uniquePersonList.replaceRange(1, 0, Arrays.asList(BENSON, CARL));
+        assertEquals(Arrays.asList(ALICE, BENSON, CARL, DANIEL), uniquePersonList.asObservableList());
+
+        // no slot is free between the neighbours of the persons inserted
+        uniquePersonList.replaceRange(2, 0, Arrays.asList(ELLE));
+        assertEquals(Arrays.asList(ALICE, BENSON, ELLE, CARL, DANIEL), uniquePersonList.asObservableList());
+
+        uniquePersonList.setPerson(CARL, FIONA);
+        uniquePersonList.remove(BENSON);
+        assertEquals(Arrays.asList(ALICE, ELLE, FIONA, DANIEL), uniquePersonList.asObservableList());
+        assertTrue(uniquePersonList.contains(DANIEL));
+        assertFalse(uniquePersonList.contains(CARL));
+    }
 }
@@ -0,0 +1,107 @@
+package seedu.address.model.index;
+
+import static org.junit.Assert.assertEquals;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Test;
+
+import javafx.collections.ListChangeListener;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.ReadOnlyPerson;
+import seedu.address.testutil.PersonBuilder;
+
+public class AttributeIndexTest {
+
+    private final ReadOnlyPerson alice = new PersonBuilder(ALICE).withId(1).build();
+    private final ReadOnlyPerson benson = new PersonBuilder(BENSON).withId(2).build();
+    private final ReadOnlyPerson carl = new PersonBuilder(CARL).withId(3).build();
+    private final Map<Long, ReadOnlyPerson> personsById = new HashMap<>();
+    private final AttributeIndex<Address> addressIndex = new AttributeIndex<>(ReadOnlyPerson::getAddress,
+            personsById::get);
+
+    @Test
+    public void getDistinctPersons_personsSharingValue_onePersonPerValue() {
+        ReadOnlyPerson carlAtAliceAddress = new PersonBuilder(carl).withAddress(alice.getAddress().value).build();
+        add(alice);
+        add(carlAtAliceAddress);
+        add(benson);
+        assertEquals(Arrays.asList(alice, benson), addressIndex.getDistinctPersons());
+
+        // person shown for a value removed -> another person with that value shown in its place
+        remove(alice);
+        assertEquals(Arrays.asList(carlAtAliceAddress, benson), addressIndex.getDistinctPersons());
+
+        // last person with a value removed -> value no longer shown
+        remove(carlAtAliceAddress);
+        assertEquals(Collections.singletonList(benson), addressIndex.getDistinctPersons());
+    }
+
+    @Test
+    public void replace_onlyPersonWithValueGivenNewValue_keepsPosition() {
+        add(alice);
+        add(benson);
+        add(carl);
+
+        ReadOnlyPerson editedAlice = new PersonBuilder(alice).withAddress("Clementi Ave 3").build();
+        replace(alice, editedAlice);
+        assertEquals(Arrays.asList(editedAlice, benson, carl), addressIndex.getDistinctPersons());
+
+        // positions behind a removed value are still found
+        remove(editedAlice);
+        ReadOnlyPerson editedCarl = new PersonBuilder(carl).withAddress("Jurong West St 74").build();
+        replace(carl, editedCarl);
+        assertEquals(Arrays.asList(benson, editedCarl), addressIndex.getDistinctPersons());
+        assertEquals(Collections.singletonList(editedCarl), addressIndex.getPersons(editedCarl.getAddress()));
+    }
+
+    @Test
+    public void getDistinctPersons_personsChanged_listenersToldOfChanges() {
+        add(alice);
+        add(benson);
+        List<ReadOnlyPerson> copy = new ArrayList<>(addressIndex.getDistinctPersons());
+        addressIndex.getDistinctPersons().addListener((ListChangeListener<ReadOnlyPerson>) change -> {
+            while (change.next()) {
+                copy.subList(change.getFrom(), change.getFrom() + change.getRemovedSize()).clear();
+                copy.addAll(change.getFrom(), change.getAddedSubList());
+            }
+        });
+
+        add(carl);
+        remove(alice);
+        replace(benson, new PersonBuilder(benson).withAddress("Clementi Ave 3").build());
+        assertEquals(addressIndex.getDistinctPersons(), copy);
+    }
+
+    /**
+     * Indexes {@code person} and lets the index find it by its id.
+     */
+    private void add(ReadOnlyPerson person) {
+        personsById.put(person.getId(), person);
+        addressIndex.add(person);
+    }
+
+    /**
+     * Removes {@code person} from the index and from the persons it can find.
+     */
+    private void remove(ReadOnlyPerson person) {
+        addressIndex.remove(person);
+        personsById.remove(person.getId());
+    }
+
+    /**
+     * Replaces {@code removed} with {@code added}, which has the same id, in the index.
+     */
+    private void replace(ReadOnlyPerson removed, ReadOnlyPerson added) {
+        personsById.put(added.getId(), added);
+        addressIndex.replace(removed, added);
+    }
+}
@@ -0,0 +1,46 @@
+package seedu.address.model.index;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+
+import java.util.Arrays;
+import java.util.HashSet;
+
+import org.junit.Test;
+
+public class FuzzyWordIndexTest {
+
+    private final FuzzyWordIndex nameIndex =
+            new FuzzyWordIndex(person -> TokenIndex.tokenize(person.getName().fullName));
+
+    @Test
+    public void getWordsWithin_misspeltWord_returnsWordsWithinDistance() {
+        nameIndex.add(ALICE);
+        nameIndex.add(BENSON);
+        nameIndex.add(DANIEL);
+
+        assertEquals(new HashSet<>(Arrays.asList("meier")), nameIndex.getWordsWithin("MEYER", 1));
+        assertEquals(new HashSet<>(Arrays.asList("alice")), nameIndex.getWordsWithin("alcie", 2));
+        assertTrue(nameIndex.getWordsWithin("alcie", 1).isEmpty());
+        assertEquals(new HashSet<>(Arrays.asList("benson")), nameIndex.getWordsWithin("benson", 0));
+    }
+
+    @Test
+    public void remove_lastPersonWithWord_wordNoLongerReturned() {
+        nameIndex.add(ALICE);
+        nameIndex.add(BENSON);
+        nameIndex.add(DANIEL);
+        nameIndex.remove(BENSON);
+
+        assertTrue(nameIndex.getWordsWithin("bensen", 1).isEmpty());
+        assertEquals(new HashSet<>(Arrays.asList("meier")), nameIndex.getWordsWithin("meir", 1));
+
+        nameIndex.remove(DANIEL);
+        nameIndex.add(BENSON);
+        assertEquals(new HashSet<>(Arrays.asList("benson")), nameIndex.getWordsWithin("bensen", 1));
+        assertEquals(new HashSet<>(Arrays.asList("meier")), nameIndex.getWordsWithin("meir", 1));
+    }
+}
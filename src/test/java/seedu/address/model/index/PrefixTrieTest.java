@@ -0,0 +1,109 @@
+package seedu.address.model.index;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Test;
+
+import seedu.address.model.person.ReadOnlyPerson;
+import seedu.address.testutil.PersonBuilder;
+
+public class PrefixTrieTest {
+
+    private final ReadOnlyPerson alice = new PersonBuilder(ALICE).withId(1).build();
+    private final ReadOnlyPerson benson = new PersonBuilder(BENSON).withId(2).build();
+    private final ReadOnlyPerson daniel = new PersonBuilder(DANIEL).withId(3).build();
+    private final Map<Long, ReadOnlyPerson> personsById = new HashMap<>();
+    private final PrefixTrie nameTrie = new PrefixTrie(person -> TokenIndex.tokenize(person.getName().fullName),
+            personsById::get);
+
+    @Test
+    public void getPersons_prefixOfWord_returnsPersonsInWordOrder() {
+        add(daniel);
+        add(benson);
+        add(alice);
+
+        // persons sharing a word are ordered by id
+        assertEquals(Arrays.asList(benson, daniel), new ArrayList<>(nameTrie.getPersons("mEi", 10)));
+        assertEquals(Arrays.asList(benson, daniel), new ArrayList<>(nameTrie.getPersons("mEi")));
+        // Alice Pauline, Benson Meier
+        assertEquals(Arrays.asList(alice, benson), new ArrayList<>(nameTrie.getPersons("", 2)));
+        assertTrue(nameTrie.getPersons("Meiers", 10).isEmpty());
+    }
+
+    @Test
+    public void getPersons_limitReached_returnsFirstPersons() {
+        add(daniel);
+        add(benson);
+
+        assertEquals(Arrays.asList(benson), new ArrayList<>(nameTrie.getPersons("Meier", 1)));
+    }
+
+    @Test
+    public void remove_indexedPerson_prunesWords() {
+        add(benson);
+        add(daniel);
+        nameTrie.remove(benson);
+        personsById.remove(benson.getId());
+
+        assertTrue(nameTrie.getPersons("Ben", 10).isEmpty());
+        assertEquals(Arrays.asList(daniel), new ArrayList<>(nameTrie.getPersons("Mei", 10)));
+    }
+
+    @Test
+    public void countPersons_wordsUnderPrefix_countedOncePerPersonWord() {
+        add(benson);
+        add(daniel);
+        add(alice);
+        add(alice);
+
+        assertEquals(2, nameTrie.countPersons("MEI"));
+        // Alice Pauline, Benson Meier, Daniel Meier
+        assertEquals(6, nameTrie.countPersons(""));
+        assertEquals(0, nameTrie.countPersons("x"));
+
+        nameTrie.remove(daniel);
+        nameTrie.remove(daniel);
+        assertEquals(1, nameTrie.countPersons("mei"));
+        assertEquals(4, nameTrie.countPersons(""));
+    }
+
+    @Test
+    public void getPersons_wordsSharingPrefixes_foundByEveryPrefix() {
+        ReadOnlyPerson meie = new PersonBuilder(CARL).withName("Meie").withId(4).build();
+        add(benson);
+        add(daniel);
+        add(meie);
+
+        // Meier ends within the node of Meie, which splits the node of Meier
+        assertEquals(Arrays.asList(meie, benson, daniel), new ArrayList<>(nameTrie.getPersons("me")));
+        assertEquals(Arrays.asList(meie, benson, daniel), new ArrayList<>(nameTrie.getPersons("meie")));
+        assertEquals(Arrays.asList(benson, daniel), new ArrayList<>(nameTrie.getPersons("meier")));
+        assertEquals(3, nameTrie.countPersons("mei"));
+
+        nameTrie.remove(meie);
+        personsById.remove(meie.getId());
+        nameTrie.remove(benson);
+        personsById.remove(benson.getId());
+        assertEquals(Arrays.asList(daniel), new ArrayList<>(nameTrie.getPersons("meie")));
+        assertEquals(1, nameTrie.countPersons("m"));
+        assertTrue(nameTrie.getPersons("meiex").isEmpty());
+    }
+
+    /**
+     * Indexes {@code person} and lets the trie find it by its id.
+     */
+    private void add(ReadOnlyPerson person) {
+        personsById.put(person.getId(), person);
+        nameTrie.add(person);
+    }
+}
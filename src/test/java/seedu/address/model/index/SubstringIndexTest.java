@@ -0,0 +1,78 @@
+package seedu.address.model.index;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+
+import org.junit.Test;
+
+import seedu.address.model.person.ReadOnlyPerson;
+import seedu.address.testutil.PersonBuilder;
+
+public class SubstringIndexTest {
+
+    private final ReadOnlyPerson alice = new PersonBuilder(ALICE).withId(1).withEmail("alice@example.com").build();
+    private final ReadOnlyPerson benson = new PersonBuilder(BENSON).withId(2).withEmail("johnd@example.com").build();
+    private final Map<Long, ReadOnlyPerson> personsById = new HashMap<>();
+    private final SubstringIndex emailIndex = new SubstringIndex(person -> person.getEmail().value,
+            personsById::get);
+
+    @Test
+    public void getPersons_substringOfAttribute_returnsPersonsMatchingCase() {
+        add(alice);
+        add(benson);
+
+        assertEquals(Collections.singleton(alice), emailIndex.getPersons("lice@"));
+        assertEquals(new HashSet<>(Arrays.asList(alice, benson)), emailIndex.getPersons("@example"));
+        assertTrue(emailIndex.getPersons("ALICE").isEmpty());
+        // every trigram of the keyword is indexed, but not next to each other
+        assertTrue(emailIndex.getPersons("alicexam").isEmpty());
+    }
+
+    @Test
+    public void getPersons_keywordShorterThanTrigram_returnsPersonsContainingIt() {
+        add(alice);
+        add(benson);
+
+        assertEquals(Collections.singleton(benson), emailIndex.getPersons("jo"));
+        assertEquals(new HashSet<>(Arrays.asList(alice, benson)), emailIndex.getPersons("@"));
+        assertTrue(emailIndex.getPersons("z").isEmpty());
+    }
+
+    @Test
+    public void getCandidateCount_rarestTrigram_boundsPersonsFound() {
+        add(alice);
+        add(benson);
+
+        assertEquals(1, emailIndex.getCandidateCount("alice@example"));
+        assertEquals(2, emailIndex.getCandidateCount("example"));
+        assertEquals(0, emailIndex.getCandidateCount("xyz"));
+    }
+
+    @Test
+    public void remove_indexedPerson_notFound() {
+        add(alice);
+        add(benson);
+        emailIndex.remove(alice);
+        personsById.remove(alice.getId());
+
+        assertTrue(emailIndex.getPersons("alice").isEmpty());
+        assertEquals(Collections.singleton(benson), emailIndex.getPersons("example"));
+        assertEquals(1, emailIndex.getCandidateCount("example"));
+    }
+
+    /**
+     * Indexes {@code person} and lets the index find it by its id.
+     */
+    private void add(ReadOnlyPerson person) {
+        personsById.put(person.getId(), person);
+        emailIndex.add(person);
+    }
+}
@@ -0,0 +1,81 @@
+package seedu.address.model.index;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Test;
+
+import seedu.address.model.person.ReadOnlyPerson;
+import seedu.address.model.tag.Tag;
+import seedu.address.testutil.PersonBuilder;
+
+public class TagIndexTest {
+
+    private final ReadOnlyPerson alice = new PersonBuilder(ALICE).withId(1).withTags("friends").build();
+    private final ReadOnlyPerson benson = new PersonBuilder(BENSON).withId(2).withTags("friends", "owesMoney")
+            .build();
+    private final ReadOnlyPerson carl = new PersonBuilder(CARL).withId(3).withTags().build();
+    private final Map<Long, ReadOnlyPerson> personsById = new HashMap<>();
+    private final TagIndex tagIndex = new TagIndex(personsById::get);
+
+    @Test
+    public void getBitmap_taggedPersons_returnsTheirOrdinals() throws Exception {
+        add(alice);
+        add(benson);
+        add(carl);
+
+        assertEquals(Arrays.asList(alice, benson),
+                new ArrayList<>(tagIndex.getPersons(tagIndex.getBitmap(new Tag("friends")))));
+        assertEquals(1, tagIndex.getPersonCount(new Tag("owesMoney")));
+        assertEquals(3, tagIndex.getPersonCount());
+    }
+
+    @Test
+    public void collect_personEdited_staysCollected() throws Exception {
+        add(alice);
+        add(benson);
+        assertTrue(tagIndex.collect(benson.getId()));
+        assertFalse(tagIndex.collect(benson.getId()));
+
+        ReadOnlyPerson editedBenson = new PersonBuilder(benson).withTags("colleagues").build();
+        personsById.put(editedBenson.getId(), editedBenson);
+        tagIndex.replace(benson, editedBenson);
+
+        assertTrue(tagIndex.isCollected(benson.getId()));
+        assertFalse(tagIndex.isCollected(alice.getId()));
+        assertEquals(Arrays.asList(editedBenson), new ArrayList<>(tagIndex.getPersons(tagIndex.getCollectedBitmap())));
+        assertEquals(0, tagIndex.getPersonCount(new Tag("owesMoney")));
+    }
+
+    @Test
+    public void collect_personRemoved_ordinalReusedUncollected() {
+        add(alice);
+        add(benson);
+        tagIndex.collect(alice.getId());
+
+        tagIndex.remove(alice);
+        personsById.remove(alice.getId());
+        add(carl);
+
+        assertFalse(tagIndex.isCollected(alice.getId()));
+        assertFalse(tagIndex.isCollected(carl.getId()));
+        assertEquals(0, tagIndex.getCollectedCount());
+    }
+
+    /**
+     * Indexes {@code person} and lets the index find it by its id.
+     */
+    private void add(ReadOnlyPerson person) {
+        personsById.put(person.getId(), person);
+        tagIndex.add(person);
+    }
+}
@@ -0,0 +1,62 @@
+package seedu.address.model.index;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+
+import org.junit.Test;
+
+import seedu.address.model.person.ReadOnlyPerson;
+import seedu.address.testutil.PersonBuilder;
+
+public class TokenIndexTest {
+
+    private final ReadOnlyPerson benson = new PersonBuilder(BENSON).withId(1).build();
+    private final ReadOnlyPerson daniel = new PersonBuilder(DANIEL).withId(2).build();
+    private final Map<Long, ReadOnlyPerson> personsById = new HashMap<>();
+    private final TokenIndex nameIndex = new TokenIndex(person -> person.getName().fullName, personsById::get);
+
+    @Test
+    public void getPersons_wordInName_returnsPersonsIgnoringCase() {
+        add(benson);
+        add(daniel);
+
+        assertEquals(new HashSet<>(Arrays.asList(benson, daniel)), nameIndex.getPersons("mEIER"));
+        assertEquals(new HashSet<>(Arrays.asList(daniel)), nameIndex.getPersons("Daniel"));
+        assertEquals(2, nameIndex.getPersonCount("meier"));
+    }
+
+    @Test
+    public void getPersons_partialWord_returnsEmptySet() {
+        add(benson);
+
+        assertTrue(nameIndex.getPersons("Mei").isEmpty());
+        assertTrue(nameIndex.getPersons("Meiers").isEmpty());
+        assertEquals(0, nameIndex.getPersonCount("Mei"));
+    }
+
+    @Test
+    public void remove_indexedPerson_removesPostings() {
+        add(benson);
+        add(daniel);
+        nameIndex.remove(benson);
+        personsById.remove(benson.getId());
+
+        assertTrue(nameIndex.getPersons("Benson").isEmpty());
+        assertEquals(new HashSet<>(Arrays.asList(daniel)), nameIndex.getPersons("Meier"));
+    }
+
+    /**
+     * Indexes {@code person} and lets the index find it by its id.
+     */
+    private void add(ReadOnlyPerson person) {
+        personsById.put(person.getId(), person);
+        nameIndex.add(person);
+    }
+}
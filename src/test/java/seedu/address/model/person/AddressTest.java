@@ -1,6 +1,8 @@
 package seedu.address.model.person;
 
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 import org.junit.Test;
@@ -18,4 +20,13 @@ public class AddressTest {
         assertTrue(Address.isValidAddress("-")); // one character
         assertTrue(Address.isValidAddress("Leng Inc; 1234 Market St; San Francisco CA 2349879; USA")); // long address
     }
+
+    @Test
+    public void intern_equalAddresses_returnsSameInstance() throws Exception {
+        Address address = new Address("Blk 456, Den Road, #01-355");
+        Address equalAddress = new Address("Blk 456, Den Road, #01-355");
+
+        assertSame(address.intern(), equalAddress.intern());
+        assertNotSame(address.intern(), new Address("Blk 457, Den Road, #01-355").intern());
+    }
 }
@@ -0,0 +1,136 @@
+package seedu.address.model.person;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+
+import javafx.collections.ListChangeListener;
+import seedu.address.testutil.PersonBuilder;
+
+public class ColumnarPersonListTest {
+
+    private static final int MEASURED_PERSON_COUNT = 20000;
+    private static final String[] MEASURED_TAGS = {"friends", "colleagues", "family", "owesMoney", "neighbours"};
+
+    private final ColumnarPersonList persons = new ColumnarPersonList();
+
+    @Test
+    public void get_storedPersons_returnsEqualViews() {
+        persons.addAll(ALICE, BENSON);
+
+        assertEquals(Arrays.asList(ALICE, BENSON), persons);
+        assertEquals(BENSON.getTags(), persons.get(1).getTags());
+        assertEquals(ALICE.getName(), persons.get(0).nameProperty().get());
+        assertEquals(persons.get(0).hashCode(), ALICE.hashCode());
+    }
+
+    @Test
+    public void remove_viewOfRemovedPerson_keepsValues() {
+        persons.addAll(ALICE, BENSON);
+        ReadOnlyPerson alice = persons.get(0);
+
+        persons.remove(0);
+        persons.add(0, CARL);
+
+        assertEquals(ALICE, alice);
+        assertEquals(ALICE.getTags(), alice.getTags());
+        assertEquals(Arrays.asList(CARL, BENSON), persons);
+    }
+
+    @Test
+    public void snapshot_listChangedAfterwards_keepsPersons() {
+        List<ReadOnlyPerson> added = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            added.add(new PersonBuilder().withName("Person " + i).withPhone(String.valueOf(80000000 + i))
+                    .withEmail("person" + i + "@example.com").build());
+        }
+        persons.addAll(added);
+        List<ReadOnlyPerson> snapshot = persons.snapshot();
+
+        persons.remove(50);
+        persons.add(10, ALICE);
+        persons.set(0, BENSON);
+        added.remove(50);
+        added.add(10, ALICE);
+
+        assertEquals(added.subList(1, added.size()), persons.subList(1, persons.size()));
+        assertEquals(100, snapshot.size());
+        assertEquals("Person 0", snapshot.get(0).getName().fullName);
+        assertEquals("Person 50", snapshot.get(50).getName().fullName);
+    }
+
+    @Test
+    public void set_listener_receivesReplacedPerson() {
+        persons.addAll(ALICE, BENSON);
+        List<ReadOnlyPerson> removedPersons = new ArrayList<>();
+        persons.addListener((ListChangeListener<ReadOnlyPerson>) change -> {
+            while (change.next()) {
+                removedPersons.addAll(change.getRemoved());
+            }
+        });
+
+        persons.set(0, CARL);
+
+        assertEquals(Arrays.asList(ALICE), removedPersons);
+        assertEquals(Arrays.asList(CARL, BENSON), persons);
+    }
+
+    @Test
+    public void getTags_personsWithSameTags_shareOneSet() {
+        ReadOnlyPerson carlFriend = new PersonBuilder(CARL).withTags("friends").build();
+        persons.addAll(ALICE, carlFriend);
+
+        assertSame(persons.get(0).getTags(), persons.get(0).getTags());
+        assertSame(persons.get(0).getTags(), persons.get(1).getTags());
+    }
+
+    @Test
+    public void heapUsed_manyPersons_lessThanPersonObjects() throws Exception {
+        List<ReadOnlyPerson> measuredPersons = new ArrayList<>();
+        for (int i = 0; i < MEASURED_PERSON_COUNT; i++) {
+            measuredPersons.add(new PersonBuilder().withName("Person " + i).withPhone(String.valueOf(80000000 + i))
+                    .withEmail("person" + i + "@example.com").withAddress(i + " Jurong West Ave 6")
+                    .withTags(MEASURED_TAGS[i % 5], MEASURED_TAGS[i / 5 % 5]).build());
+        }
+
+        // both lists share the field values of measuredPersons, so only the cost of holding them is measured
+        long personObjectsHeap = getHeapUsedToHold(new UniquePersonList(), measuredPersons);
+        long columnarHeap = getHeapUsedToHold(new UniquePersonList(new ColumnarPersonList()), measuredPersons);
+        assertTrue("columnar: " + columnarHeap + " bytes, person objects: " + personObjectsHeap + " bytes",
+                columnarHeap * 2 < personObjectsHeap);
+    }
+
+    /**
+     * Returns the bytes of heap {@code list} takes once {@code toAdd} are added to it.
+     */
+    private static long getHeapUsedToHold(UniquePersonList list, List<ReadOnlyPerson> toAdd) throws Exception {
+        long heapUsedBefore = getHeapUsed();
+        for (ReadOnlyPerson person : toAdd) {
+            list.add(person);
+        }
+        long heapUsed = getHeapUsed() - heapUsedBefore;
+        assertEquals(toAdd.size(), list.asObservableList().size());
+        return heapUsed;
+    }
+
+    /**
+     * Returns the bytes of heap in use after collecting garbage.
+     */
+    private static long getHeapUsed() throws InterruptedException {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+            Thread.sleep(20);
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -0,0 +1,42 @@
+package seedu.address.model.person;
+
+import static org.junit.Assert.assertEquals;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_NAME_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Test;
+
+import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.UniqueTagList;
+
+public class PersonTest {
+
+    @Test
+    public void setName_propertyObserved_listenerNotified() throws Exception {
+        Person person = new Person(ALICE);
+        List<Name> observedNames = new ArrayList<>();
+        person.nameProperty().addListener((observable, oldValue, newValue) -> observedNames.add(newValue));
+
+        Name newName = new Name(VALID_NAME_BOB);
+        person.setName(newName);
+        assertEquals(Collections.singletonList(newName), observedNames);
+        assertEquals(newName, person.getName());
+    }
+
+    @Test
+    public void setTags_beforeAndAfterPropertyCreated_propertyReflectsTags() throws Exception {
+        Person person = new Person(ALICE);
+        Tag husband = new Tag(VALID_TAG_HUSBAND);
+        person.setTags(Collections.singleton(husband));
+        assertEquals(new UniqueTagList(Collections.singleton(husband)), person.tagProperty().get());
+
+        person.setTags(Collections.emptySet());
+        assertEquals(new UniqueTagList(), person.tagProperty().get());
+        assertEquals(Collections.emptySet(), person.getTags());
+    }
+}
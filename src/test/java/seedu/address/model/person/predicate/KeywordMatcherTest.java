@@ -0,0 +1,42 @@
+package seedu.address.model.person.predicate;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Test;
+
+import seedu.address.model.person.predicates.KeywordMatcher;
+
+public class KeywordMatcherTest {
+
+    private final KeywordMatcher matcher = new KeywordMatcher(Arrays.asList("Alice", "bob", "@example"));
+
+    @Test
+    public void matchesAnyWord() {
+        // word matching a keyword ignoring case -> returns true
+        assertTrue(matcher.matchesAnyWord(new String[] {"carol", "alice"}));
+        assertTrue(matcher.matchesAnyWord(new String[] {"bob"}));
+
+        // only part of a word matches -> returns false
+        assertFalse(matcher.matchesAnyWord(new String[] {"alicia", "bobby"}));
+
+        // no words -> returns false
+        assertFalse(matcher.matchesAnyWord(new String[0]));
+    }
+
+    @Test
+    public void isContainedIn() {
+        // substring matches -> returns true
+        assertTrue(matcher.isContainedIn("carol@example.com"));
+        assertTrue(matcher.isContainedIn("Alice Pauline"));
+
+        // different case -> returns false
+        assertFalse(matcher.isContainedIn("alice pauline"));
+
+        // no keywords -> returns false
+        assertFalse(new KeywordMatcher(Collections.emptyList()).isContainedIn("alice"));
+    }
+}
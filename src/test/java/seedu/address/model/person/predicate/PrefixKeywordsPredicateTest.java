@@ -0,0 +1,51 @@
+package seedu.address.model.person.predicate;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.Arrays;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.ReadOnlyPerson;
+import seedu.address.model.person.predicates.PrefixKeywordsPredicate;
+
+public class PrefixKeywordsPredicateTest {
+
+    @Test
+    public void getMatchingPersons_sameAsTest() {
+        AddressBook addressBook = getTypicalAddressBook();
+        PrefixKeywordsPredicate predicate = new PrefixKeywordsPredicate(Arrays.asList("mei", "Ali"));
+
+        Set<ReadOnlyPerson> expectedPersons = addressBook.getPersonList().stream()
+                .filter(predicate).collect(Collectors.toSet());
+        assertTrue(expectedPersons.contains(BENSON));
+        assertEquals(expectedPersons, predicate.getMatchingPersons(addressBook));
+    }
+
+    @Test
+    public void getMatchingPersons_limit_stopsAtLimit() {
+        AddressBook addressBook = getTypicalAddressBook();
+        PrefixKeywordsPredicate predicate = new PrefixKeywordsPredicate(Arrays.asList("mei", "Ali"));
+
+        Set<ReadOnlyPerson> matchingPersons = predicate.getMatchingPersons(addressBook, 1);
+        assertEquals(1, matchingPersons.size());
+        assertTrue(matchingPersons.stream().allMatch(predicate));
+        assertEquals(0, predicate.getMatchingPersons(addressBook, 0).size());
+    }
+
+    @Test
+    public void normalized_prefixesInOtherOrderAndCase_equal() {
+        PrefixKeywordsPredicate predicate = new PrefixKeywordsPredicate(Arrays.asList("Mei", "ali", "mei"));
+        PrefixKeywordsPredicate reordered = new PrefixKeywordsPredicate(Arrays.asList("ALI", "mei"));
+
+        assertFalse(predicate.equals(reordered));
+        assertEquals(predicate.normalized(), reordered.normalized());
+    }
+}
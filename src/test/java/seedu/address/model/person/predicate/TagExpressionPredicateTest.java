@@ -0,0 +1,90 @@
+package seedu.address.model.person.predicate;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.Test;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.ReadOnlyPerson;
+import seedu.address.model.person.predicates.TagExpressionPredicate;
+import seedu.address.model.person.predicates.TagExpressionPredicate.Clause;
+import seedu.address.model.tag.Tag;
+import seedu.address.testutil.PersonBuilder;
+
+public class TagExpressionPredicateTest {
+
+    @Test
+    public void test_friendsAndNotOwesMoney_matchesFriendsOnly() throws IllegalValueException {
+        TagExpressionPredicate predicate = new TagExpressionPredicate(Arrays.asList(
+                new Clause(tags("friends"), tags("owesMoney"))));
+
+        assertTrue(predicate.test(ALICE));
+        assertFalse(predicate.test(BENSON));
+        assertFalse(predicate.test(new PersonBuilder().withTags("colleagues").build()));
+    }
+
+    @Test
+    public void getMatchingPersons_sameAsTest() throws IllegalValueException {
+        AddressBook addressBook = getTypicalAddressBook();
+        TagExpressionPredicate predicate = new TagExpressionPredicate(Arrays.asList(
+                new Clause(tags("friends"), tags("owesMoney")),
+                new Clause(Collections.emptySet(), tags("friends"))));
+
+        Set<ReadOnlyPerson> expectedPersons = addressBook.getPersonList().stream()
+                .filter(predicate).collect(Collectors.toSet());
+        assertFalse(expectedPersons.contains(BENSON));
+        assertEquals(expectedPersons, predicate.getMatchingPersons(addressBook));
+    }
+
+    @Test
+    public void getMatchingPersons_afterRemoval_excludesRemovedPerson() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        TagExpressionPredicate predicate = new TagExpressionPredicate(Arrays.asList(
+                new Clause(tags("owesMoney"), Collections.emptySet())));
+        assertEquals(new HashSet<>(Arrays.asList(BENSON)), predicate.getMatchingPersons(addressBook));
+
+        addressBook.removePerson(BENSON);
+        assertTrue(predicate.getMatchingPersons(addressBook).isEmpty());
+    }
+
+    @Test
+    public void equals() throws IllegalValueException {
+        TagExpressionPredicate firstPredicate = new TagExpressionPredicate(Arrays.asList(
+                new Clause(tags("friends"), tags("owesMoney"))));
+        TagExpressionPredicate secondPredicate = new TagExpressionPredicate(Arrays.asList(
+                new Clause(tags("owesMoney"), tags("friends"))));
+
+        // same values -> returns true
+        assertTrue(firstPredicate.equals(new TagExpressionPredicate(Arrays.asList(
+                new Clause(tags("friends"), tags("owesMoney"))))));
+
+        // null -> returns false
+        assertFalse(firstPredicate.equals(null));
+
+        // different clauses -> returns false
+        assertFalse(firstPredicate.equals(secondPredicate));
+    }
+
+    /**
+     * Returns the tags with the given names.
+     */
+    private static Set<Tag> tags(String... tagNames) throws IllegalValueException {
+        Set<Tag> tags = new HashSet<>();
+        for (String tagName : tagNames) {
+            tags.add(new Tag(tagName));
+        }
+        return tags;
+    }
+}
@@ -0,0 +1,102 @@
+package seedu.address.model.query;
+
+import static org.junit.Assert.assertEquals;
+import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.ReadOnlyPerson;
+import seedu.address.model.person.predicates.AllAttributesContainsKeywordsPredicate;
+import seedu.address.model.person.predicates.FuzzyKeywordsPredicate;
+import seedu.address.model.person.predicates.PrefixKeywordsPredicate;
+import seedu.address.model.person.predicates.TagExpressionPredicate;
+import seedu.address.model.person.predicates.TagExpressionPredicate.Clause;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.util.IndexedFilteredList;
+import seedu.address.testutil.PersonBuilder;
+
+public class QueryPlannerTest {
+
+    private final AddressBook addressBook = getTypicalAddressBook();
+    private final QueryPlanner planner = new QueryPlanner();
+
+    @Test
+    public void plan_notIndexablePredicate_scan() {
+        QueryPlan plan = planner.plan(new Query(person -> true), addressBook);
+        assertEquals(QueryPlan.Strategy.SCAN, plan.getStrategy());
+    }
+
+    @Test
+    public void plan_selectiveIndexablePredicate_indexLookupExecuted() throws Exception {
+        Query query = new Query(new TagExpressionPredicate(Arrays.asList(
+                new Clause(Collections.singleton(new Tag("owesMoney")), Collections.emptySet()))));
+        QueryPlan plan = planner.plan(query, addressBook);
+        assertEquals(QueryPlan.Strategy.INDEX, plan.getStrategy());
+
+        IndexedFilteredList<ReadOnlyPerson> persons = new IndexedFilteredList<>(addressBook.getPersonList(),
+                addressBook::indexOf, PREDICATE_SHOW_ALL_PERSONS);
+        plan.execute(addressBook, persons);
+        assertEquals(Collections.singletonList(BENSON), persons);
+    }
+
+    @Test
+    public void plan_unselectiveIndexablePredicate_scanExecuted() throws Exception {
+        Set<Tag> friends = Collections.singleton(new Tag("friends"));
+        TagExpressionPredicate predicate = new TagExpressionPredicate(Arrays.asList(
+                new Clause(Collections.emptySet(), friends)));
+        QueryPlan plan = planner.plan(new Query(predicate), addressBook);
+        assertEquals(QueryPlan.Strategy.SCAN, plan.getStrategy());
+
+        IndexedFilteredList<ReadOnlyPerson> persons = new IndexedFilteredList<>(addressBook.getPersonList(),
+                addressBook::indexOf, PREDICATE_SHOW_ALL_PERSONS);
+        plan.execute(addressBook, persons);
+        assertEquals(predicate.getMatchingPersons(addressBook), new HashSet<>(persons));
+    }
+
+    @Test
+    public void plan_prefixOrFuzzyPredicate_planChosenByEstimatedCost() {
+        Query narrowPrefix = new Query(new PrefixKeywordsPredicate(Collections.singletonList("Meie")));
+        assertEquals(QueryPlan.Strategy.INDEX, planner.plan(narrowPrefix, addressBook).getStrategy());
+
+        // every word starts with the empty prefix
+        Query broadPrefix = new Query(new PrefixKeywordsPredicate(Collections.singletonList("")));
+        assertEquals(QueryPlan.Strategy.SCAN, planner.plan(broadPrefix, addressBook).getStrategy());
+
+        Query narrowFuzzy = new Query(new FuzzyKeywordsPredicate(Collections.singletonMap("Meiar", 1)));
+        assertEquals(QueryPlan.Strategy.INDEX, planner.plan(narrowFuzzy, addressBook).getStrategy());
+
+        // every word is within 30 edits
+        Query broadFuzzy = new Query(new FuzzyKeywordsPredicate(Collections.singletonMap("Meiar", 30)));
+        assertEquals(QueryPlan.Strategy.SCAN, planner.plan(broadFuzzy, addressBook).getStrategy());
+    }
+
+    @Test
+    public void plan_keywordsInLargeBookWithDistinctEmailsAndPhones_index() throws Exception {
+        AddressBook largeAddressBook = new AddressBook();
+        for (int i = 0; i < 1000; i++) {
+            largeAddressBook.addPerson(new PersonBuilder().withName("Person " + i)
+                    .withPhone(String.valueOf(80000000 + i)).withEmail("person" + i + "@example.com")
+                    .withAddress(i + " Jurong West Ave 6").build());
+        }
+        largeAddressBook.addPerson(new PersonBuilder().withName("Alice Pauline").withPhone("94351253")
+                .withEmail("alice@example.com").withAddress("123, Jurong West Ave 6, #08-111").build());
+
+        Query query = new Query(new AllAttributesContainsKeywordsPredicate(Collections.singletonList("alice")));
+        QueryPlan plan = planner.plan(query, largeAddressBook);
+        assertEquals(QueryPlan.Strategy.INDEX, plan.getStrategy());
+
+        IndexedFilteredList<ReadOnlyPerson> persons = new IndexedFilteredList<>(largeAddressBook.getPersonList(),
+                largeAddressBook::indexOf, PREDICATE_SHOW_ALL_PERSONS);
+        plan.execute(largeAddressBook, persons);
+        assertEquals(1, persons.size());
+        assertEquals("alice@example.com", persons.get(0).getEmail().value);
+    }
+}
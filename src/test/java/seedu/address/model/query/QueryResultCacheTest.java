@@ -0,0 +1,90 @@
+package seedu.address.model.query;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
+import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+
+import org.junit.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.ReadOnlyPerson;
+import seedu.address.model.person.predicates.NameContainsKeywordsPredicate;
+import seedu.address.model.util.IndexedFilteredList;
+
+public class QueryResultCacheTest {
+
+    private final AddressBook addressBook = getTypicalAddressBook();
+    private final QueryPlanner planner = new QueryPlanner();
+    private final IndexedFilteredList<ReadOnlyPerson> persons = new IndexedFilteredList<>(
+            addressBook.getPersonList(), addressBook::indexOf, PREDICATE_SHOW_ALL_PERSONS);
+
+    @Test
+    public void lookUp_equalQueryOnUnchangedAddressBook_cachedResultReused() {
+        QueryResultCache cache = new QueryResultCache();
+        execute(cache, new Query(new NameContainsKeywordsPredicate(Arrays.asList("Meier", "Benson"))));
+
+        // keywords in another order
+        Query query = new Query(new NameContainsKeywordsPredicate(Arrays.asList("Benson", "Meier", "Benson")));
+        QueryPlan plan = cache.lookUp(query, addressBook).get();
+        assertEquals(QueryPlan.Strategy.CACHE, plan.getStrategy());
+
+        persons.setPredicate(PREDICATE_SHOW_ALL_PERSONS);
+        plan.execute(addressBook, persons);
+        assertTrue(persons.containsAll(Arrays.asList(BENSON, DANIEL)));
+        assertEquals(new HashSet<>(addressBook.getPersonList().filtered(query.getPredicate())),
+                new HashSet<>(persons));
+    }
+
+    @Test
+    public void lookUp_addressBookChanged_resultNotReused() throws Exception {
+        QueryResultCache cache = new QueryResultCache();
+        Query query = new Query(new NameContainsKeywordsPredicate(Collections.singletonList("Meier")));
+        execute(cache, query);
+
+        addressBook.addPerson(AMY);
+        assertFalse(cache.lookUp(query, addressBook).isPresent());
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void store_beyondCapacity_leastRecentlyUsedEvicted() {
+        QueryResultCache cache = new QueryResultCache(2);
+        Query meier = new Query(new NameContainsKeywordsPredicate(Collections.singletonList("Meier")));
+        Query kurz = new Query(new NameContainsKeywordsPredicate(Collections.singletonList("Kurz")));
+        Query best = new Query(new NameContainsKeywordsPredicate(Collections.singletonList("Best")));
+        execute(cache, meier);
+        execute(cache, kurz);
+        cache.lookUp(meier, addressBook);
+        execute(cache, best);
+
+        assertTrue(cache.lookUp(meier, addressBook).isPresent());
+        assertFalse(cache.lookUp(kurz, addressBook).isPresent());
+        assertTrue(cache.lookUp(best, addressBook).isPresent());
+    }
+
+    @Test
+    public void store_notIndexablePredicate_notCached() {
+        QueryResultCache cache = new QueryResultCache();
+        Query query = new Query(person -> person.equals(BENSON));
+        execute(cache, query);
+        assertFalse(cache.lookUp(query, addressBook).isPresent());
+    }
+
+    /**
+     * Answers {@code query} as planned by the planner and caches its result in {@code cache}.
+     */
+    private void execute(QueryResultCache cache, Query query) {
+        QueryPlan plan = planner.plan(query, addressBook);
+        plan.execute(addressBook, persons);
+        cache.store(plan, addressBook, persons);
+    }
+}
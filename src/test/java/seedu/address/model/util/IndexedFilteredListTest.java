@@ -0,0 +1,129 @@
+package seedu.address.model.util;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Predicate;
+import java.util.function.ToIntFunction;
+import java.util.stream.Collectors;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.collections.transformation.FilteredList;
+import javafx.collections.transformation.SortedList;
+
+public class IndexedFilteredListTest {
+    private static final Predicate<Integer> IS_EVEN = number -> number % 2 == 0;
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private final ObservableList<Integer> source = FXCollections.observableArrayList(5, 2, 8, 3, 4);
+    private final IndexedFilteredList<Integer> filteredList =
+            new IndexedFilteredList<>(source, source::indexOf, IS_EVEN);
+
+    @Test
+    public void setMatches_matchesGiven_shownInSourceOrderWithoutTestingOthers() {
+        Predicate<Integer> isAboveThree = number -> number > 3;
+        List<Integer> tested = new ArrayList<>();
+        filteredList.setMatches(number -> {
+            tested.add(number);
+            return isAboveThree.test(number);
+        }, Arrays.asList(4, 8, 5, 7));
+
+        // 7 is not in the source and is left out
+        assertEquals(Arrays.asList(5, 8, 4), filteredList);
+        assertEquals(Collections.emptyList(), tested);
+
+        // elements added later are tested against the predicate
+        source.addAll(9, 1);
+        assertEquals(Arrays.asList(5, 8, 4, 9), filteredList);
+    }
+
+    @Test
+    public void setMatchesOrPredicate_limitGiven_firstElementsInSourceOrderShown() {
+        filteredList.setMatches(IS_EVEN, Arrays.asList(4, 8, 2), 2);
+        assertEquals(Arrays.asList(2, 8), filteredList);
+
+        filteredList.setPredicate(number -> number > 2, 2);
+        assertEquals(Arrays.asList(5, 8), filteredList);
+    }
+
+    @Test
+    public void setPredicate_listenerAttached_toldOfReplacement() {
+        List<Integer> copy = new ArrayList<>(filteredList);
+        filteredList.addListener(copyingListener(copy));
+
+        filteredList.setPredicate(number -> number < 5);
+        assertEquals(Arrays.asList(2, 3, 4), filteredList);
+        assertEquals(filteredList, copy);
+    }
+
+    @Test
+    public void get_indexOutOfRange_throwsIndexOutOfBoundsException() {
+        thrown.expect(IndexOutOfBoundsException.class);
+        filteredList.get(3);
+    }
+
+    @Test
+    public void sourceChanges_randomChanges_sameAsFilteredList() {
+        Random random = new Random(42);
+        FilteredList<Integer> expected = new FilteredList<>(source, IS_EVEN);
+        List<Integer> copy = new ArrayList<>(filteredList);
+        filteredList.addListener(copyingListener(copy));
+
+        for (int i = 0; i < 2000; i++) {
+            int operation = random.nextInt(4);
+            if (source.isEmpty() || operation == 0) {
+                source.add(random.nextInt(source.size() + 1), 10 + i);
+            } else if (operation == 1) {
+                source.remove(random.nextInt(source.size()));
+            } else if (operation == 2) {
+                source.set(random.nextInt(source.size()), 10 + i);
+            } else {
+                int from = random.nextInt(source.size());
+                int to = from + random.nextInt(source.size() - from + 1);
+                source.subList(from, to).clear();
+                source.addAll(from, Arrays.asList(10 + i, 11 + i, 12 + i));
+            }
+            assertEquals(expected, filteredList);
+        }
+        assertEquals(filteredList, copy);
+    }
+
+    @Test
+    public void sourceChanges_sortedSource_matchesKeptInSortedOrder() {
+        SortedList<Integer> sortedSource = new SortedList<>(source, Integer::compare);
+        ToIntFunction<Integer> positionInSortedSource = number ->
+                SortedViews.indexOf(sortedSource, Integer::compare, number);
+        IndexedFilteredList<Integer> sortedFilteredList =
+                new IndexedFilteredList<>(sortedSource, positionInSortedSource, IS_EVEN);
+        sortedFilteredList.setMatches(IS_EVEN, source.stream().filter(IS_EVEN).collect(Collectors.toList()));
+        assertEquals(Arrays.asList(2, 4, 8), sortedFilteredList);
+
+        source.set(0, 6);
+        source.remove(Integer.valueOf(2));
+        assertEquals(Arrays.asList(4, 6, 8), sortedFilteredList);
+    }
+
+    /**
+     * Returns a listener applying the changes to the list it listens to on {@code copy}.
+     */
+    private static ListChangeListener<Integer> copyingListener(List<Integer> copy) {
+        return change -> {
+            while (change.next()) {
+                copy.subList(change.getFrom(), change.getFrom() + change.getRemovedSize()).clear();
+                copy.addAll(change.getFrom(), change.getAddedSubList());
+            }
+        };
+    }
+}
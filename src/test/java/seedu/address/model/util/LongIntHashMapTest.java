@@ -0,0 +1,74 @@
+package seedu.address.model.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.Test;
+
+public class LongIntHashMapTest {
+
+    private final LongIntHashMap map = new LongIntHashMap();
+
+    @Test
+    public void put_existingKey_returnsOldValue() {
+        assertEquals(LongIntHashMap.ABSENT, map.put(5, 0));
+        assertEquals(0, map.put(5, 7));
+        assertEquals(7, map.get(5));
+        assertEquals(1, map.size());
+        assertEquals(LongIntHashMap.ABSENT, map.get(6));
+    }
+
+    @Test
+    public void remove_collidingKeys_laterKeysStillFound() {
+        // keys spaced by the table size share their home slot
+        for (long key = 0; key < 5; key++) {
+            map.put(key << 32, (int) key);
+        }
+        assertEquals(1, map.remove(1L << 32));
+        assertFalse(map.containsKey(1L << 32));
+        for (long key = 2; key < 5; key++) {
+            assertEquals(key, map.get(key << 32));
+        }
+        assertEquals(LongIntHashMap.ABSENT, map.remove(1L << 32));
+    }
+
+    @Test
+    public void clear_entriesPut_mapEmpty() {
+        map.put(1, 1);
+        map.put(2, 2);
+        map.clear();
+
+        assertEquals(0, map.size());
+        assertFalse(map.containsKey(1));
+        map.put(1, 3);
+        assertTrue(map.containsKey(1));
+    }
+
+    @Test
+    public void modifications_randomOperations_sameAsHashMap() {
+        Random random = new Random(42);
+        Map<Long, Integer> expected = new HashMap<>();
+        for (int i = 0; i < 20000; i++) {
+            long key = random.nextInt(2000) * 31L;
+            if (random.nextInt(3) == 0) {
+                Integer removed = expected.remove(key);
+                assertEquals(removed == null ? LongIntHashMap.ABSENT : removed, map.remove(key));
+            } else {
+                int value = random.nextInt(1000);
+                Integer old = expected.put(key, value);
+                assertEquals(old == null ? LongIntHashMap.ABSENT : old, map.put(key, value));
+            }
+        }
+
+        assertEquals(expected.size(), map.size());
+        for (long key = 0; key < 2000 * 31L; key++) {
+            Integer value = expected.get(key);
+            assertEquals(value == null ? LongIntHashMap.ABSENT : value, map.get(key));
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package seedu.address.model.util;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+public class PersistentListTest {
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Test
+    public void withAdded_earlierVersion_unchanged() {
+        PersistentList<String> first = PersistentList.of(Arrays.asList("a", "b"));
+        PersistentList<String> second = first.withAdded(1, "c").withSet(0, "d").withRemoved(2);
+
+        assertEquals(Arrays.asList("a", "b"), first);
+        assertEquals(Arrays.asList("d", "c"), second);
+    }
+
+    @Test
+    public void modifications_randomOperations_sameAsArrayList() {
+        Random random = new Random(42);
+        List<Integer> expected = new ArrayList<>();
+        PersistentList<Integer> actual = PersistentList.empty();
+        for (int i = 0; i < 2000; i++) {
+            int operation = random.nextInt(3);
+            if (expected.isEmpty() || operation == 0) {
+                int index = random.nextInt(expected.size() + 1);
+                expected.add(index, i);
+                actual = actual.withAdded(index, i);
+            } else if (operation == 1) {
+                int index = random.nextInt(expected.size());
+                expected.set(index, i);
+                actual = actual.withSet(index, i);
+            } else {
+                int index = random.nextInt(expected.size());
+                expected.remove(index);
+                actual = actual.withRemoved(index);
+            }
+        }
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    public void get_indexOutOfBounds_throwsIndexOutOfBoundsException() {
+        thrown.expect(IndexOutOfBoundsException.class);
+        PersistentList.of(Arrays.asList("a")).get(1);
+    }
+}
@@ -0,0 +1,87 @@
+package seedu.address.model.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+public class PositionIndexTest {
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private final PositionIndex<String> index = new PositionIndex<>();
+
+    @Test
+    public void remove_keyInMiddle_laterKeysMoveUp() {
+        index.setAll(Arrays.asList("a", "b", "c", "d"));
+
+        assertEquals(1, index.remove("b"));
+        assertEquals(-1, index.remove("b"));
+        assertFalse(index.contains("b"));
+        assertEquals(3, index.size());
+        assertEquals(1, index.indexOf("c"));
+        assertEquals(2, index.indexOf("d"));
+        assertEquals("d", index.get(2));
+    }
+
+    @Test
+    public void replace_existingKey_keepsPosition() {
+        index.setAll(Arrays.asList("a", "b", "c"));
+        index.remove("a");
+
+        assertEquals(0, index.replace("b", "e"));
+        assertEquals(Arrays.asList("e", "c"), toList(index));
+        assertEquals(-1, index.indexOf("b"));
+    }
+
+    @Test
+    public void get_positionOutOfRange_throwsIndexOutOfBoundsException() {
+        index.append("a");
+        thrown.expect(IndexOutOfBoundsException.class);
+        index.get(1);
+    }
+
+    @Test
+    public void modifications_randomOperations_sameAsArrayList() {
+        Random random = new Random(42);
+        List<String> expected = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            int operation = random.nextInt(4);
+            if (expected.isEmpty() || operation <= 1) {
+                expected.add("key" + i);
+                index.append("key" + i);
+            } else if (operation == 2) {
+                String removed = expected.remove(random.nextInt(expected.size()));
+                index.remove(removed);
+            } else {
+                int position = random.nextInt(expected.size());
+                assertEquals(position, index.replace(expected.set(position, "key" + i), "key" + i));
+            }
+        }
+
+        assertEquals(expected, toList(index));
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(i, index.indexOf(expected.get(i)));
+        }
+        assertTrue(index.contains(expected.get(0)));
+    }
+
+    /**
+     * Returns the keys of {@code index} in order.
+     */
+    private static List<String> toList(PositionIndex<String> index) {
+        List<String> keys = new ArrayList<>();
+        for (int i = 0; i < index.size(); i++) {
+            keys.add(index.get(i));
+        }
+        return keys;
+    }
+}
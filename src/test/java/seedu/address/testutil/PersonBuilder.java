@@ -105,6 +105,14 @@ public class PersonBuilder {
         return this;
     }
 
+    /**
+     * Sets the id of the {@code Person} that we are building.
+     */
+    public PersonBuilder withId(long id) {
+        this.person.setId(id);
+        return this;
+    }
+
     public Person build() {
         return this.person;
     }